@@ -0,0 +1,33 @@
+package com.dilshan.coveragex.cache;
+
+import com.dilshan.coveragex.util.TransactionCallbacks;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * JPA listener on the reference data entities that drops the {@link ReferenceDataRegistry} snapshot on every write.
+ * The snapshot is dropped again once the transaction completes, so data loaded while the write
+ * was uncommitted (or later rolled back) is not kept. Instantiated by Hibernate through Spring's bean container.
+ */
+public class ReferenceDataChangeListener {
+
+    private final ObjectProvider<ReferenceDataRegistry> referenceDataRegistry;
+
+    public ReferenceDataChangeListener(ObjectProvider<ReferenceDataRegistry> referenceDataRegistry) {
+        this.referenceDataRegistry = referenceDataRegistry;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object referenceType) {
+        ReferenceDataRegistry registry = referenceDataRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        registry.invalidate();
+        TransactionCallbacks.afterCompletion(registry::invalidate);
+    }
+}
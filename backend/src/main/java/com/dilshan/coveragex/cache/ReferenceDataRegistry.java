@@ -0,0 +1,194 @@
+package com.dilshan.coveragex.cache;
+
+import com.dilshan.coveragex.entity.PriorityType;
+import com.dilshan.coveragex.entity.TaskStatusType;
+import com.dilshan.coveragex.repository.PriorityTypeRepository;
+import com.dilshan.coveragex.repository.TaskStatusTypeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Immutable in-memory snapshot of the priority and task status reference data,
+ * with O(1) lookup by ID (array index) and by type name.
+ * Loaded on first use, dropped by {@link ReferenceDataChangeListener} whenever a reference type is written,
+ * and reloadable on demand through {@link #reload()}.
+ * Entities handed out are detached copies shared between callers and must be treated as read-only.
+ */
+@Component
+public class ReferenceDataRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReferenceDataRegistry.class);
+
+    private final PriorityTypeRepository priorityTypeRepository;
+    private final TaskStatusTypeRepository taskStatusTypeRepository;
+
+    private volatile Snapshot snapshot;
+    // Bumped on every invalidation so a load that raced with a write is not published
+    private final AtomicLong generation = new AtomicLong();
+    // Not synchronized: loading runs JDBC, and a virtual thread blocking inside a monitor pins its carrier
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    @Autowired
+    public ReferenceDataRegistry(PriorityTypeRepository priorityTypeRepository,
+                                 TaskStatusTypeRepository taskStatusTypeRepository) {
+        this.priorityTypeRepository = priorityTypeRepository;
+        this.taskStatusTypeRepository = taskStatusTypeRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    public List<PriorityType> getPriorityTypes() {
+        return current().priorityTypes.all;
+    }
+
+    public Optional<PriorityType> findPriorityTypeById(Long id) {
+        return Optional.ofNullable(current().priorityTypes.byId(id));
+    }
+
+    public Optional<PriorityType> findPriorityTypeByType(String type) {
+        return Optional.ofNullable(current().priorityTypes.byType.get(type));
+    }
+
+    public boolean existsPriorityTypeById(Long id) {
+        return current().priorityTypes.byId(id) != null;
+    }
+
+    public List<TaskStatusType> getTaskStatusTypes() {
+        return current().taskStatusTypes.all;
+    }
+
+    public Optional<TaskStatusType> findTaskStatusTypeById(Long id) {
+        return Optional.ofNullable(current().taskStatusTypes.byId(id));
+    }
+
+    public Optional<TaskStatusType> findTaskStatusTypeByType(String type) {
+        return Optional.ofNullable(current().taskStatusTypes.byType.get(type));
+    }
+
+    public boolean existsTaskStatusTypeById(Long id) {
+        return current().taskStatusTypes.byId(id) != null;
+    }
+
+    /**
+     * Reloads both tables from the database and publishes them, unless a write invalidated the registry meanwhile.
+     */
+    public void reload() {
+        loadLock.lock();
+        try {
+            load();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        loadLock.lock();
+        try {
+            current = snapshot;
+            return current != null ? current : load();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private Snapshot load() {
+        long loadGeneration = generation.get();
+
+        Table<PriorityType> priorityTypes = new Table<>(
+                priorityTypeRepository.findAll().stream()
+                        .map(priorityType -> new PriorityType(priorityType.getId(), priorityType.getType()))
+                        .toList(),
+                PriorityType::getId, PriorityType::getType);
+        Table<TaskStatusType> taskStatusTypes = new Table<>(
+                taskStatusTypeRepository.findAll().stream()
+                        .map(taskStatusType -> new TaskStatusType(taskStatusType.getId(), taskStatusType.getType()))
+                        .toList(),
+                TaskStatusType::getId, TaskStatusType::getType);
+        Snapshot loaded = new Snapshot(priorityTypes, taskStatusTypes);
+
+        if (generation.get() == loadGeneration) {
+            snapshot = loaded;
+        }
+        LOGGER.info("Loaded reference data: {} priority types, {} task status types",
+                priorityTypes.all.size(), taskStatusTypes.all.size());
+        return loaded;
+    }
+
+    private static final class Snapshot {
+        private final Table<PriorityType> priorityTypes;
+        private final Table<TaskStatusType> taskStatusTypes;
+
+        private Snapshot(Table<PriorityType> priorityTypes, Table<TaskStatusType> taskStatusTypes) {
+            this.priorityTypes = priorityTypes;
+            this.taskStatusTypes = taskStatusTypes;
+        }
+    }
+
+    private static final class Table<T> {
+        // IDs above this go to the overflow map instead of stretching the array
+        private static final int MAX_INDEXED_ID = 1024;
+
+        private final List<T> all;
+        private final Object[] indexedById;
+        private final Map<Long, T> overflowById;
+        private final Map<String, T> byType;
+
+        private Table(List<T> rows, Function<T, Long> idOf, Function<T, String> typeOf) {
+            this.all = rows.stream().sorted(Comparator.comparing(idOf)).toList();
+
+            int maxIndexedId = (int) rows.stream().mapToLong(idOf::apply)
+                    .filter(id -> id <= MAX_INDEXED_ID).max().orElse(0);
+            Object[] indexed = new Object[maxIndexedId + 1];
+            Map<Long, T> overflow = new HashMap<>();
+            Map<String, T> types = new HashMap<>();
+            for (T row : rows) {
+                long id = idOf.apply(row);
+                if (id >= 0 && id <= MAX_INDEXED_ID) {
+                    indexed[(int) id] = row;
+                } else {
+                    overflow.put(id, row);
+                }
+                types.put(typeOf.apply(row), row);
+            }
+            this.indexedById = indexed;
+            this.overflowById = Map.copyOf(overflow);
+            this.byType = Map.copyOf(types);
+        }
+
+        @SuppressWarnings("unchecked")
+        private T byId(Long id) {
+            if (id == null) {
+                return null;
+            }
+            if (id >= 0 && id < indexedById.length) {
+                return (T) indexedById[id.intValue()];
+            }
+            return overflowById.get(id);
+        }
+    }
+}
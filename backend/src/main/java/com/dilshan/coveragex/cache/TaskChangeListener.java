@@ -0,0 +1,29 @@
+package com.dilshan.coveragex.cache;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * JPA listener on {@link com.dilshan.coveragex.entity.Task} that advances the {@link TaskChangeSequence}
+ * once the writing transaction commits. Instantiated by Hibernate through Spring's bean container.
+ */
+public class TaskChangeListener {
+
+    private final ObjectProvider<TaskChangeSequence> taskChangeSequence;
+
+    public TaskChangeListener(ObjectProvider<TaskChangeSequence> taskChangeSequence) {
+        this.taskChangeSequence = taskChangeSequence;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object task) {
+        TaskChangeSequence sequence = taskChangeSequence.getIfAvailable();
+        if (sequence != null) {
+            sequence.advanceAfterCommit();
+        }
+    }
+}
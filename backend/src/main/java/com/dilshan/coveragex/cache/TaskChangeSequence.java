@@ -0,0 +1,69 @@
+package com.dilshan.coveragex.cache;
+
+import com.dilshan.coveragex.util.ETags;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic counter of committed task writes, used to derive weak ETags for task collections and statistics.
+ * Entity writes advance it through {@link TaskChangeListener}; bulk JPQL updates, which bypass entity callbacks,
+ * advance it explicitly, as does a statistics reconciliation that corrects a counter. The counter only sees
+ * writes committed through this node, so behind a load balancer without sticky sessions a client can get a 304
+ * for a collection another node has changed; the epoch keeps tags issued before a restart from matching after it.
+ */
+@Component
+public class TaskChangeSequence {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicLong sequence = new AtomicLong();
+
+    public long current() {
+        return sequence.get();
+    }
+
+    /**
+     * Advances the sequence right away, for changes to served data that are not task writes of this node,
+     * such as a statistics counter corrected by reconciliation.
+     */
+    public void advance() {
+        sequence.incrementAndGet();
+    }
+
+    /**
+     * Advances the sequence once the current transaction has committed, however many tasks it wrote.
+     * The advance runs on completion, after every afterCommit callback, so a reader that sees the new value
+     * also sees the statistics counters updated by the same transaction.
+     */
+    public void advanceAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sequence.incrementAndGet();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TaskChangeSequence.this);
+                if (status == STATUS_COMMITTED) {
+                    sequence.incrementAndGet();
+                }
+            }
+        });
+    }
+
+    /**
+     * Weak ETag for a collection response: the current sequence plus the request parameters.
+     * Read it before querying, so a write committed meanwhile can only make the tag older than the body, never newer.
+     */
+    public String collectionETag(String collection, Object... parameters) {
+        return ETags.weak(epoch + "-" + sequence.get() + "-"
+                + Integer.toHexString((collection + Arrays.deepToString(parameters)).hashCode()));
+    }
+}
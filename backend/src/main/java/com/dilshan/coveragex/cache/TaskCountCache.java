@@ -0,0 +1,86 @@
+package com.dilshan.coveragex.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches task counts per filter combination for a short TTL.
+ * Used to serve approximate totals on slice listings without a COUNT(*) per request.
+ */
+@Component
+public class TaskCountCache {
+
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    public TaskCountCache(@Value("${app.tasks.count-cache.ttl-seconds:30}") long ttlSeconds,
+                          @Value("${app.tasks.count-cache.max-entries:1000}") int maxEntries) {
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.maxEntries = maxEntries;
+    }
+
+    public long getOrCompute(Long statusId, Long priorityId, String searchTerm, LongSupplier counter) {
+        Key key = new Key(statusId, priorityId, searchTerm == null ? null : searchTerm.toLowerCase());
+        long now = System.nanoTime();
+
+        Entry entry = entries.get(key);
+        if (entry != null && now - entry.createdAt < ttlNanos) {
+            return entry.count;
+        }
+
+        long count = counter.getAsLong();
+        if (entries.size() >= maxEntries) {
+            // Search terms are unbounded, so drop everything rather than grow without limit
+            entries.clear();
+        }
+        entries.put(key, new Entry(count, now));
+        return count;
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    private static final class Key {
+        private final Long statusId;
+        private final Long priorityId;
+        private final String searchTerm;
+
+        private Key(Long statusId, Long priorityId, String searchTerm) {
+            this.statusId = statusId;
+            this.priorityId = priorityId;
+            this.searchTerm = searchTerm;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return Objects.equals(statusId, other.statusId)
+                    && Objects.equals(priorityId, other.priorityId)
+                    && Objects.equals(searchTerm, other.searchTerm);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(statusId, priorityId, searchTerm);
+        }
+    }
+
+    private static final class Entry {
+        private final long count;
+        private final long createdAt;
+
+        private Entry(long count, long createdAt) {
+            this.count = count;
+            this.createdAt = createdAt;
+        }
+    }
+}
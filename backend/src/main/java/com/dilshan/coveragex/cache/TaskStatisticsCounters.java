@@ -0,0 +1,202 @@
+package com.dilshan.coveragex.cache;
+
+import com.dilshan.coveragex.repository.TaskRepository;
+import com.dilshan.coveragex.util.TransactionCallbacks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory task counts per (status, priority) cell, so statistics are served without querying the database.
+ * Seeded once the application is ready and adjusted by TaskServiceImpl after each commit.
+ * A scheduled reconciliation compares every cell with the database and corrects any drift,
+ * e.g. from writes that bypass the service. A cell is only corrected when no adjustment to it was pending or
+ * applied while the database was counted; otherwise the count cannot be matched to the adjustments it already
+ * includes, and the cell is left for the next run.
+ */
+@Component
+public class TaskStatisticsCounters {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskStatisticsCounters.class);
+    private static final int SEED_ATTEMPTS = 3;
+
+    private final TaskRepository taskRepository;
+    private final TaskChangeSequence taskChangeSequence;
+    private final boolean enabled;
+
+    // status type -> priority type -> task count
+    private final ConcurrentMap<String, ConcurrentMap<String, Cell>> counts = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    @Autowired
+    public TaskStatisticsCounters(TaskRepository taskRepository,
+                                  TaskChangeSequence taskChangeSequence,
+                                  @Value("${app.tasks.statistics-counters.enabled:true}") boolean enabled) {
+        this.taskRepository = taskRepository;
+        this.taskChangeSequence = taskChangeSequence;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            LOGGER.info("Task statistics counters disabled, statistics are aggregated per request");
+            return;
+        }
+        // Writes are already being accepted, so cells busy during the first count are counted again
+        Reconciliation seeded = reconcileCells();
+        for (int attempt = 1; attempt < SEED_ATTEMPTS && seeded.skippedCells() > 0; attempt++) {
+            seeded = reconcileCells();
+        }
+        ready = true;
+        LOGGER.info("Seeded task statistics counters, {} cells left to the next reconciliation",
+                   seeded.skippedCells());
+    }
+
+    @Scheduled(fixedDelayString = "${app.tasks.statistics-counters.reconcile-interval:PT5M}",
+               initialDelayString = "${app.tasks.statistics-counters.reconcile-interval:PT5M}")
+    public void scheduledReconcile() {
+        if (!ready) {
+            return;
+        }
+        long drift = reconcile();
+        if (drift > 0) {
+            LOGGER.warn("Corrected task statistics counter drift of {} tasks", drift);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void taskCreatedAfterCommit(String status, String priority) {
+        adjustAfterCommit(cell(status, priority), 1);
+    }
+
+    public void taskMovedAfterCommit(String fromStatus, String fromPriority, String toStatus, String toPriority) {
+        tasksMovedAfterCommit(fromStatus, fromPriority, toStatus, toPriority, 1);
+    }
+
+    public void tasksMovedAfterCommit(String fromStatus, String fromPriority, String toStatus, String toPriority,
+                                      long count) {
+        if (count == 0 || (fromStatus.equals(toStatus) && fromPriority.equals(toPriority))) {
+            return;
+        }
+        adjustAfterCommit(cell(fromStatus, fromPriority), -count);
+        adjustAfterCommit(cell(toStatus, toPriority), count);
+    }
+
+    // The cell counts as pending from now until the transaction completes, whether it commits or not
+    private static void adjustAfterCommit(Cell cell, long delta) {
+        cell.pending.incrementAndGet();
+        TransactionCallbacks.afterCommit(() -> {
+            cell.count.add(delta);
+            cell.adjustments.incrementAndGet();
+        });
+        TransactionCallbacks.afterCompletion(cell.pending::decrementAndGet);
+    }
+
+    /**
+     * Current counts as (status, priority, count) rows, the same shape as
+     * {@link TaskRepository#countTasksByStatusAndPriority()}. Empty cells are left out.
+     */
+    public List<Object[]> snapshot() {
+        List<Object[]> rows = new ArrayList<>();
+        counts.forEach((status, byPriority) -> byPriority.forEach((priority, cell) -> {
+            long count = cell.count.sum();
+            if (count > 0) {
+                rows.add(new Object[]{status, priority, count});
+            }
+        }));
+        return rows;
+    }
+
+    /**
+     * Brings every cell that was idle during the count in line with the database by adding the difference.
+     * Returns the total absolute correction.
+     */
+    public long reconcile() {
+        Reconciliation reconciliation = reconcileCells();
+        if (reconciliation.skippedCells() > 0) {
+            LOGGER.debug("{} task statistics cells changed while counting, reconciling them next time",
+                        reconciliation.skippedCells());
+        }
+        return reconciliation.drift();
+    }
+
+    private Reconciliation reconcileCells() {
+        // Adjustments seen per cell before counting; any cell not listed had none
+        Map<Cell, Long> adjustmentsBefore = new HashMap<>();
+        counts.values().forEach(byPriority -> byPriority.values().forEach(cell ->
+                adjustmentsBefore.put(cell, cell.pending.get() > 0 ? -1 : cell.adjustments.get())));
+
+        Map<String, Map<String, Long>> actual = new HashMap<>();
+        for (Object[] row : taskRepository.countTasksByStatusAndPriority()) {
+            actual.computeIfAbsent((String) row[0], key -> new HashMap<>()).put((String) row[1], (Long) row[2]);
+        }
+
+        long drift = 0;
+        int skippedCells = 0;
+        for (Map.Entry<String, Map<String, Long>> statusEntry : actual.entrySet()) {
+            for (Map.Entry<String, Long> priorityEntry : statusEntry.getValue().entrySet()) {
+                cell(statusEntry.getKey(), priorityEntry.getKey());
+            }
+        }
+        for (Map.Entry<String, ConcurrentMap<String, Cell>> statusEntry : counts.entrySet()) {
+            Map<String, Long> actualByPriority = actual.getOrDefault(statusEntry.getKey(), Map.of());
+            for (Map.Entry<String, Cell> priorityEntry : statusEntry.getValue().entrySet()) {
+                Cell cell = priorityEntry.getValue();
+                // Read before the idle check: an adjustment applied after it is kept, since adding commutes
+                long current = cell.count.sum();
+                // Idle: nothing pending before or after the count, and nothing applied in between
+                if (cell.pending.get() > 0
+                        || adjustmentsBefore.getOrDefault(cell, 0L) != cell.adjustments.get()) {
+                    skippedCells++;
+                    continue;
+                }
+                long delta = actualByPriority.getOrDefault(priorityEntry.getKey(), 0L) - current;
+                if (delta != 0) {
+                    cell.count.add(delta);
+                    drift += Math.abs(delta);
+                }
+            }
+        }
+        if (drift > 0) {
+            // The statistics ETag derives from the sequence; without this, clients would keep getting 304s
+            // for the uncorrected counts until some unrelated task write
+            taskChangeSequence.advance();
+        }
+        return new Reconciliation(drift, skippedCells);
+    }
+
+    private Cell cell(String status, String priority) {
+        return counts.computeIfAbsent(status, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(priority, key -> new Cell());
+    }
+
+    private record Reconciliation(long drift, int skippedCells) {
+    }
+
+    private static final class Cell {
+
+        private final LongAdder count = new LongAdder();
+        // Adjustments registered by transactions that have not completed yet
+        private final AtomicLong pending = new AtomicLong();
+        // Adjustments applied so far
+        private final AtomicLong adjustments = new AtomicLong();
+    }
+}
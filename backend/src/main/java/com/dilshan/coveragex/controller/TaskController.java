@@ -1,19 +1,53 @@
 package com.dilshan.coveragex.controller;
 
+import com.dilshan.coveragex.cache.TaskChangeSequence;
+import com.dilshan.coveragex.dto.SearchIndexStatusResponseDTO;
+import com.dilshan.coveragex.dto.TaskBatchResponseDTO;
+import com.dilshan.coveragex.dto.TaskBulkRequestDTO;
+import com.dilshan.coveragex.dto.TaskBulkResponseDTO;
+import com.dilshan.coveragex.dto.TaskChangeFeedResponseDTO;
 import com.dilshan.coveragex.dto.TaskCreateRequestDTO;
+import com.dilshan.coveragex.dto.TaskCursorPageResponseDTO;
+import com.dilshan.coveragex.dto.TaskTransferFormat;
+import com.dilshan.coveragex.dto.TaskFilterUpdateRequestDTO;
+import com.dilshan.coveragex.dto.TaskFilterUpdateResponseDTO;
+import com.dilshan.coveragex.dto.TaskImportResponseDTO;
 import com.dilshan.coveragex.dto.TaskResponseDTO;
+import com.dilshan.coveragex.dto.TaskSearchMode;
+import com.dilshan.coveragex.dto.TaskSliceResponseDTO;
 import com.dilshan.coveragex.dto.TaskStatisticsResponseDTO;
 import com.dilshan.coveragex.dto.TaskUpdateRequestDTO;
+import com.dilshan.coveragex.exception.TaskPreconditionFailedException;
+import com.dilshan.coveragex.service.TaskChangeFeedService;
+import com.dilshan.coveragex.service.TaskExportService;
+import com.dilshan.coveragex.service.TaskImportService;
 import com.dilshan.coveragex.service.TaskService;
+import com.dilshan.coveragex.stream.TaskEventBroadcaster;
+import com.dilshan.coveragex.util.ETags;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -21,10 +55,22 @@ import org.springframework.web.bind.annotation.*;
 public class TaskController {
     private static final Logger LOGGER = LoggerFactory.getLogger(TaskController.class);
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
+    private final TaskChangeSequence taskChangeSequence;
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    private final TaskChangeFeedService taskChangeFeedService;
 
     @Autowired
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskExportService taskExportService,
+                          TaskImportService taskImportService, TaskChangeSequence taskChangeSequence,
+                          TaskEventBroadcaster taskEventBroadcaster, TaskChangeFeedService taskChangeFeedService) {
         this.taskService = taskService;
+        this.taskExportService = taskExportService;
+        this.taskImportService = taskImportService;
+        this.taskChangeSequence = taskChangeSequence;
+        this.taskEventBroadcaster = taskEventBroadcaster;
+        this.taskChangeFeedService = taskChangeFeedService;
     }
 
     @PostMapping
@@ -37,6 +83,16 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdTask);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<TaskBatchResponseDTO> createTasks(
+            @Parameter(description = "Tasks to create; each item is validated and reported separately", required = true)
+            @RequestBody List<TaskCreateRequestDTO> createRequestDTOs) {
+        LOGGER.info("POST /api/tasks/batch - Creating {} tasks", createRequestDTOs.size());
+        TaskBatchResponseDTO result = taskService.createTasks(createRequestDTOs);
+        LOGGER.info("Successfully created {} of {} tasks", result.getSucceeded(), result.getRequested());
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
     @GetMapping
     public ResponseEntity<Page<TaskResponseDTO>> getAllTasks(
             @Parameter(description = "Page number (0-based)", example = "0")
@@ -46,44 +102,139 @@ public class TaskController {
             @Parameter(description = "Sort field", example = "createDate")
             @RequestParam(defaultValue = "createDate") String sortBy,
             @Parameter(description = "Sort direction", example = "DESC")
-            @RequestParam(defaultValue = "DESC") String sortDirection) {
+            @RequestParam(defaultValue = "DESC") String sortDirection,
+            @Parameter(description = "ETag from a previous response; answered with 304 if no task changed since")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         LOGGER.info("GET /api/tasks - Fetching tasks with pagination: page={}, size={}, sortBy={}, direction={}", 
                    page, size, sortBy, sortDirection);
+        String etag = taskChangeSequence.collectionETag("tasks", page, size, sortBy, sortDirection);
+        if (ETags.anyMatches(ifNoneMatch, etag, false)) {
+            LOGGER.info("Tasks not modified since {}", etag);
+            return notModified(etag);
+        }
         Page<TaskResponseDTO> tasks = taskService.getAllTasks(page, size, sortBy, sortDirection);
         LOGGER.info("Successfully retrieved {} tasks", tasks.getNumberOfElements());
-        return ResponseEntity.ok(tasks);
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(tasks);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<TaskResponseDTO> getTaskById(
             @Parameter(description = "Task ID", required = true, example = "1")
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            @Parameter(description = "ETag from a previous response; answered with 304 if the task is unchanged")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         LOGGER.info("GET /api/tasks/{} - Fetching task by ID", id);
+        if (ifNoneMatch != null) {
+            // Only the version is read; the task itself is neither loaded nor mapped
+            String currentETag = ETags.forVersion(taskService.getTaskVersion(id));
+            if (ETags.anyMatches(ifNoneMatch, currentETag, false)) {
+                LOGGER.info("Task with ID: {} not modified", id);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag).build();
+            }
+        }
         TaskResponseDTO task = taskService.getTaskById(id);
         LOGGER.info("Successfully retrieved task: {}", task.getTaskTitle());
-        return ResponseEntity.ok(task);
+        return ResponseEntity.ok().eTag(ETags.forVersion(task.getVersion())).body(task);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<TaskResponseDTO> updateTask(
             @Parameter(description = "Task ID", required = true, example = "1")
             @PathVariable Long id,
+            @Parameter(description = "ETag the client last saw; the update fails with 412 if the task changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Parameter(description = "Task update request", required = true)
             @Valid @RequestBody TaskUpdateRequestDTO updateRequestDTO) {
-        TaskResponseDTO updatedTask = taskService.updateTask(id, updateRequestDTO);
+        TaskResponseDTO updatedTask = taskService.updateTask(id, updateRequestDTO, expectedVersion(id, ifMatch));
         LOGGER.info("Successfully updated task with ID: {}", updatedTask.getId());
-        return ResponseEntity.ok(updatedTask);
+        return ResponseEntity.ok().eTag(ETags.forVersion(updatedTask.getVersion())).body(updatedTask);
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<TaskResponseDTO> patchTask(
+            @Parameter(description = "Task ID", required = true, example = "1")
+            @PathVariable Long id,
+            @Parameter(description = "ETag the client last saw; the patch fails with 412 if the task changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(description = "JSON Merge Patch with any of taskTitle, description, priorityId, taskStatusId",
+                       required = true)
+            @RequestBody JsonNode mergePatch) {
+        LOGGER.info("PATCH /api/tasks/{} - Patching task", id);
+        TaskResponseDTO patchedTask = taskService.patchTask(id, mergePatch, expectedVersion(id, ifMatch));
+        LOGGER.info("Successfully patched task with ID: {}", patchedTask.getId());
+        return ResponseEntity.ok().eTag(ETags.forVersion(patchedTask.getVersion())).body(patchedTask);
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTask(
             @Parameter(description = "Task ID", required = true, example = "1")
-            @PathVariable Long id) {
-        taskService.deleteTask(id);
+            @PathVariable Long id,
+            @Parameter(description = "ETag the client last saw; the delete fails with 412 if the task changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        taskService.deleteTask(id, expectedVersion(id, ifMatch));
         LOGGER.info("Successfully soft deleted task with ID: {}", id);
         return ResponseEntity.noContent().build();
     }
 
+    // Answered from the change sequence alone, before any database access
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).build();
+    }
+
+    /**
+     * Resolves an If-Match header to the task version the write must apply to, or null for an unconditional write.
+     * The version is taken from the tag itself; the service compares it with the task it loads for the write
+     * and the @Version column guards the commit, so a stale tag gets a 412 without a separate version lookup.
+     */
+    private Long expectedVersion(Long id, String ifMatch) {
+        if (ifMatch == null || ETags.isWildcard(ifMatch)) {
+            return null;
+        }
+        List<Long> versions = ETags.versions(ifMatch);
+        if (versions.isEmpty()) {
+            throw TaskPreconditionFailedException.forETag(id, ifMatch);
+        }
+        if (versions.size() == 1) {
+            return versions.get(0);
+        }
+        // Several tags: only one of them can be current, so look it up
+        Long currentVersion = taskService.getTaskVersion(id);
+        if (!versions.contains(currentVersion)) {
+            throw TaskPreconditionFailedException.forETag(id, ifMatch);
+        }
+        return currentVersion;
+    }
+
+    @PatchMapping("/bulk/status")
+    public ResponseEntity<TaskBulkResponseDTO> updateTaskStatuses(
+            @Parameter(description = "Task IDs and the target task status ID", required = true)
+            @Valid @RequestBody TaskBulkRequestDTO bulkRequestDTO) {
+        LOGGER.info("PATCH /api/tasks/bulk/status - Updating status of {} tasks", bulkRequestDTO.getIds().size());
+        TaskBulkResponseDTO result = taskService.updateTaskStatuses(bulkRequestDTO.getIds(), bulkRequestDTO.getTaskStatusId());
+        LOGGER.info("Successfully updated status of {} tasks", result.getAffected());
+        return ResponseEntity.ok(result);
+    }
+
+    @PatchMapping("/bulk/priority")
+    public ResponseEntity<TaskBulkResponseDTO> updateTaskPriorities(
+            @Parameter(description = "Task IDs and the target priority ID", required = true)
+            @Valid @RequestBody TaskBulkRequestDTO bulkRequestDTO) {
+        LOGGER.info("PATCH /api/tasks/bulk/priority - Updating priority of {} tasks", bulkRequestDTO.getIds().size());
+        TaskBulkResponseDTO result = taskService.updateTaskPriorities(bulkRequestDTO.getIds(), bulkRequestDTO.getPriorityId());
+        LOGGER.info("Successfully updated priority of {} tasks", result.getAffected());
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<TaskBulkResponseDTO> deleteTasks(
+            @Parameter(description = "Task IDs to soft delete", required = true)
+            @Valid @RequestBody TaskBulkRequestDTO bulkRequestDTO) {
+        LOGGER.info("POST /api/tasks/bulk/delete - Soft deleting {} tasks", bulkRequestDTO.getIds().size());
+        TaskBulkResponseDTO result = taskService.deleteTasks(bulkRequestDTO.getIds());
+        LOGGER.info("Successfully soft deleted {} tasks", result.getAffected());
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/status/{statusId}")
     public ResponseEntity<Page<TaskResponseDTO>> getTasksByStatus(
             @Parameter(description = "Status ID", required = true, example = "1")
@@ -131,9 +282,13 @@ public class TaskController {
             @Parameter(description = "Sort field", example = "createDate")
             @RequestParam(defaultValue = "createDate") String sortBy,
             @Parameter(description = "Sort direction", example = "DESC")
-            @RequestParam(defaultValue = "DESC") String sortDirection) {
-        LOGGER.info("GET /api/tasks/search - Searching tasks with term: {}", searchTerm);
-        Page<TaskResponseDTO> tasks = taskService.searchTasks(searchTerm, page, size, sortBy, sortDirection);
+            @RequestParam(defaultValue = "DESC") String sortDirection,
+            @Parameter(description = "Search mode: LIKE, NATURAL/BOOLEAN full-text or INDEX (in-memory BM25), ranked modes ignore sorting", example = "LIKE")
+            @RequestParam(defaultValue = "LIKE") TaskSearchMode mode) {
+        LOGGER.info("GET /api/tasks/search - Searching tasks with term: {}, mode: {}", searchTerm, mode);
+        Page<TaskResponseDTO> tasks = mode == TaskSearchMode.LIKE
+                ? taskService.searchTasks(searchTerm, page, size, sortBy, sortDirection)
+                : taskService.fullTextSearchTasks(searchTerm, mode, page, size);
         LOGGER.info("Successfully found {} tasks matching search term: {}", tasks.getNumberOfElements(), searchTerm);
         return ResponseEntity.ok(tasks);
     }
@@ -153,21 +308,193 @@ public class TaskController {
             @Parameter(description = "Sort field", example = "createDate")
             @RequestParam(defaultValue = "createDate") String sortBy,
             @Parameter(description = "Sort direction", example = "DESC")
-            @RequestParam(defaultValue = "DESC") String sortDirection) {
+            @RequestParam(defaultValue = "DESC") String sortDirection,
+            @Parameter(description = "ETag from a previous response; answered with 304 if no task changed since")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         LOGGER.info("GET /api/tasks/filter - Fetching tasks with filters: statusId={}, priorityId={}, searchTerm={}",
                    statusId, priorityId, searchTerm);
+        String etag = taskChangeSequence.collectionETag("filter",
+                statusId, priorityId, searchTerm, page, size, sortBy, sortDirection);
+        if (ETags.anyMatches(ifNoneMatch, etag, false)) {
+            LOGGER.info("Filtered tasks not modified since {}", etag);
+            return notModified(etag);
+        }
         Page<TaskResponseDTO> tasks = taskService.getTasksWithFilters(
                 statusId, priorityId, searchTerm, page, size, sortBy, sortDirection);
         LOGGER.info("Successfully retrieved {} filtered tasks", tasks.getNumberOfElements());
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(tasks);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @Parameter(description = "Status ID filter", example = "1")
+            @RequestParam(required = false) Long statusId,
+            @Parameter(description = "Priority ID filter", example = "2")
+            @RequestParam(required = false) Long priorityId,
+            @Parameter(description = "Search term filter", example = "documentation")
+            @RequestParam(required = false) String searchTerm,
+            @Parameter(description = "Export format: ndjson or csv", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format) {
+        TaskTransferFormat exportFormat = TaskTransferFormat.fromParameter(format);
+        LOGGER.info("GET /api/tasks/export - Exporting tasks as {} with filters: statusId={}, priorityId={}, searchTerm={}",
+                   exportFormat, statusId, priorityId, searchTerm);
+        // Written after the handler returns, straight to the response, row by row
+        StreamingResponseBody body = outputStream -> {
+            long rows = taskExportService.exportTasks(statusId, priorityId, searchTerm, exportFormat, outputStream);
+            LOGGER.info("Successfully exported {} tasks", rows);
+        };
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + exportFormat.getFileExtension()).build().toString())
+                .body(body);
+    }
+
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<TaskImportResponseDTO> importTasks(
+            @Parameter(description = "application/x-ndjson or text/csv; the charset defaults to UTF-8", required = true)
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            @Parameter(description = "Tasks committed per transaction (1-5000)", example = "1000")
+            @RequestParam(required = false) Integer chunkSize,
+            InputStream body) throws IOException {
+        TaskTransferFormat importFormat = TaskTransferFormat.fromMediaType(contentType);
+        LOGGER.info("POST /api/tasks/import - Importing tasks as {} with chunkSize={}", importFormat, chunkSize);
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        // Read straight from the request body so the upload is never buffered in memory as a whole
+        Reader reader = new InputStreamReader(body, charset);
+        TaskImportResponseDTO result = taskImportService.importTasks(reader, importFormat, chunkSize);
+        LOGGER.info("Successfully imported {} of {} tasks", result.getImported(), result.getRecords());
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
+    @PatchMapping("/filter")
+    public ResponseEntity<TaskFilterUpdateResponseDTO> updateTasksByFilter(
+            @Parameter(description = "Status ID filter", example = "3")
+            @RequestParam(required = false) Long statusId,
+            @Parameter(description = "Priority ID filter", example = "3")
+            @RequestParam(required = false) Long priorityId,
+            @Parameter(description = "Search term filter", example = "security")
+            @RequestParam(required = false) String searchTerm,
+            @Parameter(description = "Only count the tasks that would be updated", example = "true")
+            @RequestParam(defaultValue = "false") boolean dryRun,
+            @Parameter(description = "Maximum rows updated per transaction", example = "1000")
+            @RequestParam(defaultValue = "1000") int chunkSize,
+            @Parameter(description = "Target task status ID or priority ID (exactly one)", required = true)
+            @Valid @RequestBody TaskFilterUpdateRequestDTO filterUpdateRequestDTO) {
+        LOGGER.info("PATCH /api/tasks/filter - Updating tasks with filters: statusId={}, priorityId={}, searchTerm={}, dryRun={}",
+                   statusId, priorityId, searchTerm, dryRun);
+        TaskFilterUpdateResponseDTO result = taskService.updateTasksByFilter(statusId, priorityId, searchTerm,
+                filterUpdateRequestDTO.getTaskStatusId(), filterUpdateRequestDTO.getPriorityId(), dryRun, chunkSize);
+        LOGGER.info("Successfully updated {} of {} matched tasks", result.getAffected(), result.getMatched());
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/slice")
+    public ResponseEntity<TaskSliceResponseDTO> getTaskSlice(
+            @Parameter(description = "Status ID filter", example = "1")
+            @RequestParam(required = false) Long statusId,
+            @Parameter(description = "Priority ID filter", example = "2")
+            @RequestParam(required = false) Long priorityId,
+            @Parameter(description = "Search term filter", example = "documentation")
+            @RequestParam(required = false) String searchTerm,
+            @Parameter(description = "Page number (0-based)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Sort field", example = "createDate")
+            @RequestParam(defaultValue = "createDate") String sortBy,
+            @Parameter(description = "Sort direction", example = "DESC")
+            @RequestParam(defaultValue = "DESC") String sortDirection,
+            @Parameter(description = "Include a cached approximate total", example = "false")
+            @RequestParam(defaultValue = "false") boolean approximateTotal) {
+        LOGGER.info("GET /api/tasks/slice - Fetching task slice: statusId={}, priorityId={}, searchTerm={}, page={}",
+                   statusId, priorityId, searchTerm, page);
+        TaskSliceResponseDTO tasks = taskService.getTaskSlice(
+                statusId, priorityId, searchTerm, page, size, sortBy, sortDirection, approximateTotal);
+        LOGGER.info("Successfully retrieved {} tasks in slice", tasks.getContent().size());
+        return ResponseEntity.ok(tasks);
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<TaskCursorPageResponseDTO> getTasksByCursor(
+            @Parameter(description = "Status ID filter", example = "1")
+            @RequestParam(required = false) Long statusId,
+            @Parameter(description = "Priority ID filter", example = "2")
+            @RequestParam(required = false) Long priorityId,
+            @Parameter(description = "Search term filter", example = "documentation")
+            @RequestParam(required = false) String searchTerm,
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Sort direction on create date", example = "DESC")
+            @RequestParam(defaultValue = "DESC") String sortDirection) {
+        LOGGER.info("GET /api/tasks/cursor - Fetching tasks by cursor: statusId={}, priorityId={}, searchTerm={}, size={}",
+                   statusId, priorityId, searchTerm, size);
+        TaskCursorPageResponseDTO tasks = taskService.getTasksByCursor(
+                statusId, priorityId, searchTerm, cursor, size, sortDirection);
+        LOGGER.info("Successfully retrieved {} tasks by cursor", tasks.getContent().size());
         return ResponseEntity.ok(tasks);
     }
 
     @GetMapping("/statistics")
-    public ResponseEntity<TaskStatisticsResponseDTO> getTaskStatistics() {
+    public ResponseEntity<TaskStatisticsResponseDTO> getTaskStatistics(
+            @Parameter(description = "ETag from a previous response; answered with 304 if no task changed since")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         LOGGER.info("GET /api/tasks/statistics - Fetching task statistics");
+        String etag = taskChangeSequence.collectionETag("statistics");
+        if (ETags.anyMatches(ifNoneMatch, etag, false)) {
+            LOGGER.info("Task statistics not modified since {}", etag);
+            return notModified(etag);
+        }
         TaskStatisticsResponseDTO statistics = taskService.getTaskStatistics();
         LOGGER.info("Successfully retrieved task statistics - Total: {}, Completed: {}, Active: {}",
                    statistics.getTotalTasks(), statistics.getCompletedTasks(), statistics.getActiveTasks());
-        return ResponseEntity.ok(statistics);
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(statistics);
+    }
+
+    /**
+     * Server-Sent Events of committed task writes: created, updated, closed and bulk events, each with the
+     * statistics cells it changed. The first event is always a resync, telling the client to reload.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskEvents() {
+        LOGGER.info("GET /api/tasks/stream - Subscribing to task events");
+        SseEmitter emitter = taskEventBroadcaster.subscribe();
+        LOGGER.info("Successfully subscribed to task events, {} subscribers", taskEventBroadcaster.getSubscriberCount());
+        return emitter;
+    }
+
+    /**
+     * Tasks changed since the cursor, in commit order: an upsert with the current state, or a tombstone for a
+     * closed task. Without a cursor it returns no changes and a cursor at the head of the log, to start syncing from.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChangeFeedResponseDTO> getTaskChanges(
+            @Parameter(description = "Cursor from a previous response; omit to start at the head of the log")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of log entries to read (1-1000)", example = "100")
+            @RequestParam(defaultValue = "100") int limit) {
+        LOGGER.info("GET /api/tasks/changes - Fetching task changes since: {}, limit: {}", since, limit);
+        TaskChangeFeedResponseDTO changes = taskChangeFeedService.getChanges(since, limit);
+        LOGGER.info("Successfully retrieved {} task changes, hasMore: {}", changes.getChanges().size(), changes.isHasMore());
+        return ResponseEntity.ok(changes);
+    }
+
+    @GetMapping("/search-index")
+    public ResponseEntity<SearchIndexStatusResponseDTO> getSearchIndexStatus() {
+        LOGGER.info("GET /api/tasks/search-index - Checking search index consistency");
+        SearchIndexStatusResponseDTO status = taskService.getSearchIndexStatus();
+        LOGGER.info("Search index holds {} of {} tasks, consistent: {}",
+                   status.getIndexedTasks(), status.getDatabaseTasks(), status.isConsistent());
+        return ResponseEntity.ok(status);
+    }
+
+    @PostMapping("/search-index/rebuild")
+    public ResponseEntity<SearchIndexStatusResponseDTO> rebuildSearchIndex() {
+        LOGGER.info("POST /api/tasks/search-index/rebuild - Rebuilding search index");
+        SearchIndexStatusResponseDTO status = taskService.rebuildSearchIndex();
+        LOGGER.info("Successfully rebuilt search index with {} tasks", status.getIndexedTasks());
+        return ResponseEntity.ok(status);
     }
 }
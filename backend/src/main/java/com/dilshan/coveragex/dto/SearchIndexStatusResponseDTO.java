@@ -0,0 +1,22 @@
+package com.dilshan.coveragex.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchIndexStatusResponseDTO {
+    private long indexedTasks;
+    private long databaseTasks;
+    private long missingTasks;
+    private long staleTasks;
+    private long terms;
+    private boolean consistent;
+    private LocalDateTime lastRebuildDate;
+    private long lastRebuildMillis;
+}
@@ -0,0 +1,16 @@
+package com.dilshan.coveragex.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchItemResultDTO {
+    private int index;
+    private boolean success;
+    private Long id;
+    private String error;
+}
@@ -0,0 +1,20 @@
+package com.dilshan.coveragex.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchResponseDTO {
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private long elapsedMillis;
+    private double tasksPerSecond;
+    private List<TaskBatchItemResultDTO> results;
+}
@@ -0,0 +1,25 @@
+package com.dilshan.coveragex.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkRequestDTO {
+    @NotEmpty(message = "Task IDs are required")
+    private List<@NotNull(message = "Task ID cannot be null") Long> ids;
+
+    @Positive(message = "Task status ID must be positive")
+    private Long taskStatusId;
+
+    @Positive(message = "Priority ID must be positive")
+    private Long priorityId;
+}
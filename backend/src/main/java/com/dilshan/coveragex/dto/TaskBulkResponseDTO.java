@@ -0,0 +1,14 @@
+package com.dilshan.coveragex.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkResponseDTO {
+    private int requested;
+    private int affected;
+}
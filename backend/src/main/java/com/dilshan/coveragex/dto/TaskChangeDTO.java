@@ -0,0 +1,19 @@
+package com.dilshan.coveragex.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangeDTO {
+    private Long taskId;
+    private TaskChangeOperation operation;
+    private LocalDateTime changedAt;
+    // Current state of the task, not its state at changedAt; null once the task no longer exists
+    private TaskResponseDTO task;
+}
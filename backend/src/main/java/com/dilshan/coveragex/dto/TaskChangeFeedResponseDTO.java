@@ -0,0 +1,19 @@
+package com.dilshan.coveragex.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangeFeedResponseDTO {
+    // In commit order, at most one change per task
+    private List<TaskChangeDTO> changes;
+    // Pass as since on the next call
+    private String nextCursor;
+    private boolean hasMore;
+}
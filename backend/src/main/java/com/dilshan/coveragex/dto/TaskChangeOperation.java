@@ -0,0 +1,8 @@
+package com.dilshan.coveragex.dto;
+
+public enum TaskChangeOperation {
+    // The task exists and is not closed; the change carries its current state
+    UPSERT,
+    // The task was soft deleted (CLOSED) or no longer exists; a closed task's state is still included
+    TOMBSTONE
+}
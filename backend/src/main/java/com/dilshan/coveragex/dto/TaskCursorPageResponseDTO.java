@@ -0,0 +1,18 @@
+package com.dilshan.coveragex.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCursorPageResponseDTO {
+    private List<TaskResponseDTO> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
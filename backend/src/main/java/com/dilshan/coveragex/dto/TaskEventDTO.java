@@ -0,0 +1,81 @@
+package com.dilshan.coveragex.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEventDTO {
+    private TaskEventType type;
+    // Set for CREATED, UPDATED and CLOSED
+    private TaskResponseDTO task;
+    // Number of tasks written by the transaction
+    private long affected;
+    // Statistics cells that changed; empty when no task moved between cells
+    private List<TaskStatisticsDeltaDTO> statisticsDelta;
+
+    public static TaskEventDTO created(TaskResponseDTO task) {
+        return new TaskEventDTO(TaskEventType.CREATED, task, 1,
+                List.of(new TaskStatisticsDeltaDTO(task.getTaskStatus().getType(), task.getPriority().getType(), 1)));
+    }
+
+    /**
+     * UPDATED, or CLOSED when the write moved the task into the CLOSED status.
+     */
+    public static TaskEventDTO changed(TaskResponseDTO task, String previousStatus, String previousPriority) {
+        String status = task.getTaskStatus().getType();
+        String priority = task.getPriority().getType();
+        TaskEventType type = "CLOSED".equals(status) && !"CLOSED".equals(previousStatus)
+                ? TaskEventType.CLOSED : TaskEventType.UPDATED;
+        return new TaskEventDTO(type, task, 1, new DeltaBuilder()
+                .move(previousStatus, previousPriority, status, priority, 1)
+                .build());
+    }
+
+    public static TaskEventDTO bulk(long affected, List<TaskStatisticsDeltaDTO> statisticsDelta) {
+        return new TaskEventDTO(TaskEventType.BULK, null, affected, statisticsDelta);
+    }
+
+    public static TaskEventDTO resync() {
+        return new TaskEventDTO(TaskEventType.RESYNC, null, 0, List.of());
+    }
+
+    /**
+     * Sums cell changes, e.g. over every task of a batch, leaving out cells whose changes cancel out.
+     */
+    public static class DeltaBuilder {
+
+        // status type -> priority type -> delta, in first-seen order
+        private final Map<String, Map<String, Long>> deltas = new LinkedHashMap<>();
+
+        public DeltaBuilder add(String status, String priority, long delta) {
+            deltas.computeIfAbsent(status, key -> new LinkedHashMap<>()).merge(priority, delta, Long::sum);
+            return this;
+        }
+
+        public DeltaBuilder move(String fromStatus, String fromPriority, String toStatus, String toPriority, long count) {
+            if (count == 0 || (fromStatus.equals(toStatus) && fromPriority.equals(toPriority))) {
+                return this;
+            }
+            return add(fromStatus, fromPriority, -count).add(toStatus, toPriority, count);
+        }
+
+        public List<TaskStatisticsDeltaDTO> build() {
+            List<TaskStatisticsDeltaDTO> result = new ArrayList<>();
+            deltas.forEach((status, byPriority) -> byPriority.forEach((priority, delta) -> {
+                if (delta != 0) {
+                    result.add(new TaskStatisticsDeltaDTO(status, priority, delta));
+                }
+            }));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.dilshan.coveragex.dto;
+
+public enum TaskEventType {
+    // A single task was created, updated or soft deleted; the event carries the task as committed
+    CREATED,
+    UPDATED,
+    CLOSED,
+    // A batch, import or bulk update changed several tasks at once; the event carries only the counts
+    BULK,
+    // Events were dropped for this subscriber, or it just connected: reload tasks and statistics
+    RESYNC
+}
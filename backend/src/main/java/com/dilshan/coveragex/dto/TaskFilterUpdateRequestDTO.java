@@ -0,0 +1,18 @@
+package com.dilshan.coveragex.dto;
+
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilterUpdateRequestDTO {
+    @Positive(message = "Task status ID must be positive")
+    private Long taskStatusId;
+
+    @Positive(message = "Priority ID must be positive")
+    private Long priorityId;
+}
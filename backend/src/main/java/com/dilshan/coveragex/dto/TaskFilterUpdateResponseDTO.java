@@ -0,0 +1,16 @@
+package com.dilshan.coveragex.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilterUpdateResponseDTO {
+    private boolean dryRun;
+    private long matched;
+    private long affected;
+    private int chunks;
+}
@@ -0,0 +1,15 @@
+package com.dilshan.coveragex.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportErrorDTO {
+    // 1-based line of the input where the failed record starts
+    private long line;
+    private String error;
+}
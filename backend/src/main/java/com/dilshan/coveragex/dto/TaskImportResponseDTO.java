@@ -0,0 +1,26 @@
+package com.dilshan.coveragex.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportResponseDTO {
+    private TaskTransferFormat format;
+    private long records;
+    private long imported;
+    private long failed;
+    private int chunks;
+    private long elapsedMillis;
+    private double tasksPerSecond;
+    // Time spent waiting for the connection pool to drain before chunks
+    private long throttledMillis;
+    // The first failures only, see errorsTruncated
+    private List<TaskImportErrorDTO> errors;
+    private boolean errorsTruncated;
+}
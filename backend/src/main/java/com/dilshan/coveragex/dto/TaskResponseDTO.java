@@ -20,4 +20,15 @@ public class TaskResponseDTO {
     private LocalDateTime lastStatusChangeDate;
     private PriorityTypeResponseDTO priority;
     private TaskStatusTypeResponseDTO taskStatus;
+    private Long version;
+
+    // Used by JPQL constructor expressions in TaskRepository projections
+    public TaskResponseDTO(Long id, String taskTitle, String description,
+                           LocalDateTime createDate, LocalDateTime lastStatusChangeDate,
+                           Long priorityId, String priorityType,
+                           Long taskStatusId, String taskStatusType, Long version) {
+        this(id, taskTitle, description, createDate, lastStatusChangeDate,
+                new PriorityTypeResponseDTO(priorityId, priorityType),
+                new TaskStatusTypeResponseDTO(taskStatusId, taskStatusType), version);
+    }
 }
@@ -0,0 +1,12 @@
+package com.dilshan.coveragex.dto;
+
+public enum TaskSearchMode {
+    // Case-insensitive substring match, works on every database but cannot use an index
+    LIKE,
+    // MySQL MATCH ... AGAINST in natural language mode, ordered by relevance
+    NATURAL,
+    // MySQL MATCH ... AGAINST in boolean mode (supports +term -term "phrase" term*), ordered by relevance
+    BOOLEAN,
+    // In-memory inverted index over title and description, ranked with BM25
+    INDEX
+}
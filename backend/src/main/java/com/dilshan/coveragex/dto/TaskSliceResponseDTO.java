@@ -0,0 +1,20 @@
+package com.dilshan.coveragex.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSliceResponseDTO {
+    private List<TaskResponseDTO> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    // Only populated when an approximate total was requested
+    private Long approximateTotalElements;
+}
@@ -0,0 +1,16 @@
+package com.dilshan.coveragex.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatisticsDeltaDTO {
+    private String taskStatus;
+    private String priority;
+    // Change in the number of tasks in this (status, priority) cell
+    private long delta;
+}
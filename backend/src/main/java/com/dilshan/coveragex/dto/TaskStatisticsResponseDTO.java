@@ -5,16 +5,59 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class TaskStatisticsResponseDTO {
+    private static final Set<String> COMPLETED_STATUSES = Set.of("DONE", "CLOSED");
+    private static final Set<String> ACTIVE_STATUSES = Set.of("OPEN", "IN_PROGRESS", "HOLD");
+
     private Long totalTasks;
     private Map<String, Long> tasksByStatus;
     private Map<String, Long> tasksByPriority;
     private Long completedTasks;
     private Long activeTasks;
+    private Map<String, Map<String, Long>> tasksByStatusAndPriority;
+
+    public TaskStatisticsResponseDTO(Long totalTasks, Map<String, Long> tasksByStatus,
+                                     Map<String, Long> tasksByPriority, Long completedTasks, Long activeTasks) {
+        this(totalTasks, tasksByStatus, tasksByPriority, completedTasks, activeTasks, new HashMap<>());
+    }
+
+    /**
+     * Builds the statistics from (status type, priority type, count) cells, as returned by the grouped count queries.
+     */
+    public static TaskStatisticsResponseDTO fromStatusPriorityCounts(Iterable<Object[]> cells) {
+        long totalTasks = 0;
+        long completedTasks = 0;
+        long activeTasks = 0;
+        Map<String, Long> tasksByStatus = new HashMap<>();
+        Map<String, Long> tasksByPriority = new HashMap<>();
+        Map<String, Map<String, Long>> tasksByStatusAndPriority = new HashMap<>();
+
+        for (Object[] row : cells) {
+            String status = (String) row[0];
+            String priority = (String) row[1];
+            long count = ((Number) row[2]).longValue();
+
+            totalTasks += count;
+            if (COMPLETED_STATUSES.contains(status)) {
+                completedTasks += count;
+            } else if (ACTIVE_STATUSES.contains(status)) {
+                activeTasks += count;
+            }
+            tasksByStatus.merge(status, count, Long::sum);
+            tasksByPriority.merge(priority, count, Long::sum);
+            tasksByStatusAndPriority.computeIfAbsent(status, key -> new HashMap<>()).put(priority, count);
+        }
+
+        return new TaskStatisticsResponseDTO(
+                totalTasks, tasksByStatus, tasksByPriority, completedTasks, activeTasks, tasksByStatusAndPriority
+        );
+    }
 }
@@ -0,0 +1,47 @@
+package com.dilshan.coveragex.dto;
+
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+// File formats of the task export and import endpoints
+public enum TaskTransferFormat {
+    // One JSON task per line, same shape as the REST responses
+    NDJSON("application/x-ndjson", "ndjson"),
+    // RFC 4180 CSV with a header row; priority and status are exported by type name
+    CSV("text/csv", "csv");
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+
+    TaskTransferFormat(String mediaType, String fileExtension) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+        this.fileExtension = fileExtension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    public static TaskTransferFormat fromMediaType(MediaType contentType) {
+        for (TaskTransferFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(contentType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported content type: " + contentType
+                + ". Expected " + NDJSON.mediaType + " or " + CSV.mediaType);
+    }
+
+    public static TaskTransferFormat fromParameter(String format) {
+        try {
+            return valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unsupported format: " + format + ". Expected ndjson or csv");
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.dilshan.coveragex.entity;
 
+import com.dilshan.coveragex.cache.TaskChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -8,19 +9,29 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_create_date_id", columnList = "create_date, id"),
+        @Index(name = "idx_tasks_status_create_date_id", columnList = "task_status_id, create_date, id"),
+        @Index(name = "idx_tasks_priority_create_date_id", columnList = "priority_id, create_date, id")
+})
+// UPDATE statements only list the columns that actually changed
+@DynamicUpdate
+@EntityListeners(TaskChangeListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
 
+    // Pooled sequence (a table on MySQL) instead of IDENTITY so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_id_generator")
+    @SequenceGenerator(name = "task_id_generator", sequenceName = "task_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "task_title", nullable = false, length = 255)
@@ -36,8 +47,8 @@ public class Task {
     @CreationTimestamp
     private LocalDateTime createDate;
 
+    // Advanced by setTaskStatus on a real status transition only, not on every update
     @Column(name = "last_status_change_date", nullable = false)
-    @UpdateTimestamp
     private LocalDateTime lastStatusChangeDate;
 
     @ManyToOne(fetch = FetchType.EAGER)
@@ -50,6 +61,11 @@ public class Task {
     @NotNull(message = "Task status is required")
     private TaskStatusType taskStatus;
 
+    // Optimistic lock; also served as the task's ETag
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public Task(String taskTitle, String description, PriorityType priority, TaskStatusType taskStatus) {
         this.taskTitle = taskTitle;
         this.description = description;
@@ -67,8 +83,11 @@ public class Task {
         }
     }
 
-    @PreUpdate
-    protected void onUpdate() {
-        lastStatusChangeDate = LocalDateTime.now();
+    public void setTaskStatus(TaskStatusType taskStatus) {
+        if (this.taskStatus != null && taskStatus != null
+                && !Objects.equals(this.taskStatus.getId(), taskStatus.getId())) {
+            lastStatusChangeDate = LocalDateTime.now();
+        }
+        this.taskStatus = taskStatus;
     }
 }
@@ -0,0 +1,38 @@
+package com.dilshan.coveragex.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the append-only change log: the task was written by the transaction that committed as commitSeq.
+ * Rows are inserted by {@link com.dilshan.coveragex.feed.TaskChangeLog} just before that transaction commits.
+ */
+@Entity
+@Table(name = "task_changes", indexes = {
+        @Index(name = "idx_task_changes_seq_id", columnList = "commit_seq, id"),
+        @Index(name = "idx_task_changes_task_seq_id", columnList = "task_id, commit_seq, id"),
+        @Index(name = "idx_task_changes_changed_at", columnList = "changed_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Position of the writing transaction in commit order; several rows share it when a transaction wrote several tasks
+    @Column(name = "commit_seq", nullable = false)
+    private Long commitSeq;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
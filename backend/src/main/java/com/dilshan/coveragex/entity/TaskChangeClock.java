@@ -0,0 +1,30 @@
+package com.dilshan.coveragex.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Single-row table holding the last commit sequence handed out to a writing transaction,
+ * and the sequence below which the change log has been compacted away.
+ */
+@Entity
+@Table(name = "task_change_clock")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangeClock {
+
+    @Id
+    private Long id;
+
+    @Column(name = "last_seq", nullable = false)
+    private Long lastSeq;
+
+    @Column(name = "compacted_seq", nullable = false)
+    private Long compactedSeq;
+}
@@ -1,5 +1,6 @@
 package com.dilshan.coveragex.entity;
 
+import com.dilshan.coveragex.cache.ReferenceDataChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
@@ -8,6 +9,7 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "task_status_types")
+@EntityListeners(ReferenceDataChangeListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
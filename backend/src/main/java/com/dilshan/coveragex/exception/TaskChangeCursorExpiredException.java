@@ -0,0 +1,8 @@
+package com.dilshan.coveragex.exception;
+
+public class TaskChangeCursorExpiredException extends RuntimeException {
+
+    public TaskChangeCursorExpiredException(String message) {
+        super(message);
+    }
+}
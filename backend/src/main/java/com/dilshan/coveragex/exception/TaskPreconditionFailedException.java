@@ -0,0 +1,18 @@
+package com.dilshan.coveragex.exception;
+
+public class TaskPreconditionFailedException extends RuntimeException {
+
+    public TaskPreconditionFailedException(String message) {
+        super(message);
+    }
+
+    public static TaskPreconditionFailedException forVersion(Long taskId, Long expectedVersion, Long currentVersion) {
+        return new TaskPreconditionFailedException("Task with ID: " + taskId + " is at version " + currentVersion
+                + ", not the expected version " + expectedVersion);
+    }
+
+    public static TaskPreconditionFailedException forETag(Long taskId, String ifMatch) {
+        return new TaskPreconditionFailedException("If-Match " + ifMatch
+                + " does not match the current version of task with ID: " + taskId);
+    }
+}
@@ -0,0 +1,8 @@
+package com.dilshan.coveragex.exception;
+
+public class TaskStreamUnavailableException extends RuntimeException {
+
+    public TaskStreamUnavailableException(String message) {
+        super(message);
+    }
+}
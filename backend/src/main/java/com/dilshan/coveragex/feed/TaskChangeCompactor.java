@@ -0,0 +1,89 @@
+package com.dilshan.coveragex.feed;
+
+import com.dilshan.coveragex.repository.TaskChangeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the task_changes log bounded. Entries superseded by a later entry for the same task are removed
+ * at any age: the feed serves the task's current state, so a reader at any cursor loses nothing.
+ * Entries older than the retention are removed as well; the compacted sequence is advanced first,
+ * so readers with older cursors are told to reload instead of silently missing changes.
+ * Deletes run in chunks, one short transaction each.
+ */
+@Component
+public class TaskChangeCompactor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskChangeCompactor.class);
+
+    private final TaskChangeRepository taskChangeRepository;
+    private final TaskChangeLog taskChangeLog;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int chunkSize;
+
+    @Autowired
+    public TaskChangeCompactor(TaskChangeRepository taskChangeRepository,
+                               TaskChangeLog taskChangeLog,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${app.tasks.changes.retention:P7D}") Duration retention,
+                               @Value("${app.tasks.changes.compaction-chunk-size:1000}") int chunkSize) {
+        this.taskChangeRepository = taskChangeRepository;
+        this.taskChangeLog = taskChangeLog;
+        this.transactionTemplate = transactionTemplate;
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.tasks.changes.compaction-interval:PT10M}",
+               initialDelayString = "${app.tasks.changes.compaction-interval:PT10M}")
+    public void scheduledCompact() {
+        long superseded = removeSuperseded();
+        long expired = removeExpired(LocalDateTime.now().minus(retention));
+        if (superseded + expired > 0) {
+            LOGGER.info("Compacted task change log: removed {} superseded and {} expired entries", superseded, expired);
+        }
+    }
+
+    public long removeSuperseded() {
+        return deleteInChunks(() -> taskChangeRepository.findSupersededIds(PageRequest.of(0, chunkSize)));
+    }
+
+    /**
+     * Removes entries committed before the last commit sequence that has an entry older than the cutoff.
+     * That last sequence is kept, so a reader that is caught up but idle does not lose its cursor.
+     */
+    public long removeExpired(LocalDateTime cutoff) {
+        Long throughSeq = taskChangeRepository.findMaxCommitSeqChangedBefore(cutoff);
+        if (throughSeq == null) {
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(status -> taskChangeLog.advanceCompactedSequence(throughSeq));
+        return deleteInChunks(() -> taskChangeRepository.findIdsBefore(throughSeq, PageRequest.of(0, chunkSize)));
+    }
+
+    private long deleteInChunks(Supplier<List<Long>> nextChunk) {
+        long removed = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = nextChunk.get();
+                return ids.isEmpty() ? 0 : taskChangeRepository.deleteByIdIn(ids);
+            });
+            if (deleted == null || deleted == 0) {
+                return removed;
+            }
+            removed += deleted;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.dilshan.coveragex.feed;
+
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes the task_changes log in the same transaction as the task writes it records.
+ * Task IDs are collected while the transaction runs and inserted just before it commits, all under one commit
+ * sequence taken from the task_change_clock row. Taking the sequence locks that row until the commit, so
+ * sequences are handed out in commit order: once a reader sees sequence N, every lower sequence is committed
+ * or rolled back, and reading the log by (commit_seq, id) never skips a change that commits later.
+ * Only the last moments of each writing transaction are serialized this way.
+ */
+@Component
+public class TaskChangeLog {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskChangeLog.class);
+    private static final long CLOCK_ID = 1L;
+    private static final int INSERT_CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public TaskChangeLog(JdbcTemplate jdbcTemplate,
+                         NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                         EntityManager entityManager,
+                         TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    // Created up front so concurrent first writes do not race to insert it
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Integer clocks = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM task_change_clock WHERE id = ?", Integer.class, CLOCK_ID);
+            if (clocks == null || clocks == 0) {
+                jdbcTemplate.update("INSERT INTO task_change_clock (id, last_seq, compacted_seq) VALUES (?, 0, 0)",
+                        CLOCK_ID);
+                LOGGER.info("Created task change clock");
+            }
+        });
+    }
+
+    public void record(Long taskId) {
+        record(List.of(taskId));
+    }
+
+    /**
+     * Adds the tasks to the change log of the current transaction. IDs of tasks that no longer exist
+     * when the transaction commits are left out.
+     */
+    public void record(Collection<Long> taskIds) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Task changes can only be recorded inside a transaction");
+        }
+        @SuppressWarnings("unchecked")
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<Long> taskIdsToRecord = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, taskIdsToRecord);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    write(taskIdsToRecord);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TaskChangeLog.this);
+                }
+            });
+            pending = taskIdsToRecord;
+        }
+        pending.addAll(taskIds);
+    }
+
+    /**
+     * Last commit sequence handed out; a cursor at this sequence is at the head of the log.
+     */
+    public long headSequence() {
+        return readClock("last_seq");
+    }
+
+    /**
+     * Entries below this sequence may have been removed for age; cursors pointing below it are expired.
+     */
+    public long compactedSequence() {
+        return readClock("compacted_seq");
+    }
+
+    public void advanceCompactedSequence(long commitSeq) {
+        jdbcTemplate.update("UPDATE task_change_clock SET compacted_seq = ? WHERE id = ? AND compacted_seq < ?",
+                commitSeq, CLOCK_ID, commitSeq);
+    }
+
+    private void write(Set<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        // New tasks are still queued in the persistence context and must exist for the INSERT ... SELECT
+        entityManager.flush();
+        long commitSeq = nextCommitSequence();
+        LocalDateTime changedAt = LocalDateTime.now();
+        List<Long> ids = new ArrayList<>(taskIds);
+        int recorded = 0;
+        for (int from = 0; from < ids.size(); from += INSERT_CHUNK_SIZE) {
+            MapSqlParameterSource parameters = new MapSqlParameterSource()
+                    .addValue("commitSeq", commitSeq)
+                    .addValue("changedAt", changedAt)
+                    .addValue("ids", ids.subList(from, Math.min(from + INSERT_CHUNK_SIZE, ids.size())));
+            recorded += namedParameterJdbcTemplate.update(
+                    "INSERT INTO task_changes (commit_seq, task_id, changed_at) " +
+                    "SELECT :commitSeq, id, :changedAt FROM tasks WHERE id IN (:ids)", parameters);
+        }
+        LOGGER.debug("Recorded {} task changes at commit sequence {}", recorded, commitSeq);
+    }
+
+    private long nextCommitSequence() {
+        if (jdbcTemplate.update("UPDATE task_change_clock SET last_seq = last_seq + 1 WHERE id = ?", CLOCK_ID) == 0) {
+            jdbcTemplate.update("INSERT INTO task_change_clock (id, last_seq, compacted_seq) VALUES (?, 1, 0)", CLOCK_ID);
+            return 1;
+        }
+        return jdbcTemplate.queryForObject("SELECT last_seq FROM task_change_clock WHERE id = ?", Long.class, CLOCK_ID);
+    }
+
+    private long readClock(String column) {
+        List<Long> values = jdbcTemplate.queryForList(
+                "SELECT " + column + " FROM task_change_clock WHERE id = ?", Long.class, CLOCK_ID);
+        return values.isEmpty() ? 0 : values.get(0);
+    }
+}
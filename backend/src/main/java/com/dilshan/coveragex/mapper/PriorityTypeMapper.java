@@ -0,0 +1,16 @@
+package com.dilshan.coveragex.mapper;
+
+import com.dilshan.coveragex.dto.PriorityTypeResponseDTO;
+import com.dilshan.coveragex.entity.PriorityType;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PriorityTypeMapper {
+
+    public PriorityTypeResponseDTO toResponseDTO(PriorityType priorityType) {
+        if (priorityType == null) {
+            return null;
+        }
+        return new PriorityTypeResponseDTO(priorityType.getId(), priorityType.getType());
+    }
+}
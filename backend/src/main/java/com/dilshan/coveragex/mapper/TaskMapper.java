@@ -0,0 +1,39 @@
+package com.dilshan.coveragex.mapper;
+
+import com.dilshan.coveragex.dto.TaskResponseDTO;
+import com.dilshan.coveragex.entity.Task;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps Task entities to response DTOs with plain field copies.
+ * Produces the same JSON as the previous reflective ModelMapper setup (STRICT, field access).
+ */
+@Component
+public class TaskMapper {
+
+    private final PriorityTypeMapper priorityTypeMapper;
+    private final TaskStatusTypeMapper taskStatusTypeMapper;
+
+    @Autowired
+    public TaskMapper(PriorityTypeMapper priorityTypeMapper, TaskStatusTypeMapper taskStatusTypeMapper) {
+        this.priorityTypeMapper = priorityTypeMapper;
+        this.taskStatusTypeMapper = taskStatusTypeMapper;
+    }
+
+    public TaskResponseDTO toResponseDTO(Task task) {
+        if (task == null) {
+            return null;
+        }
+        return new TaskResponseDTO(
+                task.getId(),
+                task.getTaskTitle(),
+                task.getDescription(),
+                task.getCreateDate(),
+                task.getLastStatusChangeDate(),
+                priorityTypeMapper.toResponseDTO(task.getPriority()),
+                taskStatusTypeMapper.toResponseDTO(task.getTaskStatus()),
+                task.getVersion()
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package com.dilshan.coveragex.mapper;
+
+import com.dilshan.coveragex.dto.TaskStatusTypeResponseDTO;
+import com.dilshan.coveragex.entity.TaskStatusType;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TaskStatusTypeMapper {
+
+    public TaskStatusTypeResponseDTO toResponseDTO(TaskStatusType taskStatusType) {
+        if (taskStatusType == null) {
+            return null;
+        }
+        return new TaskStatusTypeResponseDTO(taskStatusType.getId(), taskStatusType.getType());
+    }
+}
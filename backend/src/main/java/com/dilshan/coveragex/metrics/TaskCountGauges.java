@@ -0,0 +1,72 @@
+package com.dilshan.coveragex.metrics;
+
+import com.dilshan.coveragex.cache.ReferenceDataRegistry;
+import com.dilshan.coveragex.cache.TaskStatisticsCounters;
+import com.dilshan.coveragex.entity.TaskStatusType;
+import com.dilshan.coveragex.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Publishes the number of tasks in each status as the tasks.count gauge, tagged with the status type.
+ * Values are taken from {@link TaskStatisticsCounters} once they are ready, otherwise from one GROUP BY query,
+ * and refreshed on a schedule so a metrics scrape never touches the database.
+ * Statuses without tasks report 0; status types added later appear at the next refresh.
+ */
+@Component
+public class TaskCountGauges {
+
+    private final TaskStatisticsCounters taskStatisticsCounters;
+    private final TaskRepository taskRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final MultiGauge taskCounts;
+
+    @Autowired
+    public TaskCountGauges(MeterRegistry meterRegistry,
+                           TaskStatisticsCounters taskStatisticsCounters,
+                           TaskRepository taskRepository,
+                           ReferenceDataRegistry referenceDataRegistry) {
+        this.taskStatisticsCounters = taskStatisticsCounters;
+        this.taskRepository = taskRepository;
+        this.referenceDataRegistry = referenceDataRegistry;
+        this.taskCounts = MultiGauge.builder("tasks.count")
+                .description("Number of tasks per status")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${app.tasks.metrics.gauge-refresh-interval:PT30S}",
+               initialDelayString = "${app.tasks.metrics.gauge-refresh-interval:PT30S}")
+    public void refresh() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (TaskStatusType taskStatusType : referenceDataRegistry.getTaskStatusTypes()) {
+            counts.put(taskStatusType.getType(), 0L);
+        }
+        // (status, priority, count) cells from the counters, (status, count) rows from the query
+        List<Object[]> rows = taskStatisticsCounters.isReady()
+                ? taskStatisticsCounters.snapshot()
+                : taskRepository.countTasksByStatus();
+        for (Object[] row : rows) {
+            counts.merge((String) row[0], ((Number) row[row.length - 1]).longValue(), Long::sum);
+        }
+
+        List<MultiGauge.Row<?>> gaugeRows = new ArrayList<>(counts.size());
+        counts.forEach((status, count) -> gaugeRows.add(MultiGauge.Row.of(Tags.of("status", status), count)));
+        taskCounts.register(gaugeRows, true);
+    }
+}
@@ -0,0 +1,64 @@
+package com.dilshan.coveragex.reactive;
+
+import com.dilshan.coveragex.exception.GlobalExceptionHandler.ErrorResponse;
+import com.dilshan.coveragex.exception.TaskNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.LocalDateTime;
+
+// Same error bodies as GlobalExceptionHandler for the errors the read endpoints can raise
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveExceptionHandler.class);
+
+    @ExceptionHandler(TaskNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleTaskNotFoundException(
+            TaskNotFoundException ex, ServerWebExchange exchange) {
+        LOGGER.error("Task not found: {}", ex.getMessage());
+        return error(HttpStatus.NOT_FOUND, "Task Not Found", ex.getMessage(), exchange);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(
+            IllegalArgumentException ex, ServerWebExchange exchange) {
+        LOGGER.error("Illegal argument: {}", ex.getMessage());
+        return error(HttpStatus.BAD_REQUEST, "Bad Request", ex.getMessage(), exchange);
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleServerWebInputException(
+            ServerWebInputException ex, ServerWebExchange exchange) {
+        LOGGER.error("Invalid request input: {}", ex.getMessage());
+        return error(HttpStatus.BAD_REQUEST, "Bad Request", ex.getReason(), exchange);
+    }
+
+    // Raised when no connection could be acquired from the pool within max-acquire-time
+    @ExceptionHandler(DataAccessResourceFailureException.class)
+    public ResponseEntity<ErrorResponse> handleDataAccessResourceFailureException(
+            DataAccessResourceFailureException ex, ServerWebExchange exchange) {
+        LOGGER.error("Could not obtain connection: {}", ex.getMessage());
+        ResponseEntity<ErrorResponse> response = error(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable",
+                "The database is busy, please retry", exchange);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response.getBody());
+    }
+
+    private static ResponseEntity<ErrorResponse> error(HttpStatus status, String error, String message,
+                                                       ServerWebExchange exchange) {
+        // "uri=..." matches WebRequest.getDescription(false) in the servlet application
+        ErrorResponse errorResponse = new ErrorResponse(status.value(), error, message, LocalDateTime.now(),
+                "uri=" + exchange.getRequest().getPath().value());
+        return new ResponseEntity<>(errorResponse, status);
+    }
+}
@@ -0,0 +1,77 @@
+package com.dilshan.coveragex.reactive;
+
+import com.dilshan.coveragex.dto.TaskResponseDTO;
+import com.dilshan.coveragex.dto.TaskStatisticsResponseDTO;
+import com.dilshan.coveragex.util.ETags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of the read endpoints of TaskController. Collection ETags are not offered: the change
+ * sequence behind them lives in the servlet application's memory.
+ */
+@RestController
+@RequestMapping("/api/tasks")
+@CrossOrigin(origins = {"http://localhost:3000"})
+public class ReactiveTaskController {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveTaskController.class);
+    private final ReactiveTaskReadService reactiveTaskReadService;
+
+    @Autowired
+    public ReactiveTaskController(ReactiveTaskReadService reactiveTaskReadService) {
+        this.reactiveTaskReadService = reactiveTaskReadService;
+    }
+
+    @GetMapping
+    public Mono<Page<TaskResponseDTO>> getAllTasks(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createDate") String sortBy,
+            @RequestParam(defaultValue = "DESC") String sortDirection) {
+        LOGGER.debug("GET /api/tasks - page={}, size={}, sortBy={}, direction={}", page, size, sortBy, sortDirection);
+        return reactiveTaskReadService.getAllTasks(page, size, sortBy, sortDirection);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<TaskResponseDTO>> getTaskById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        LOGGER.debug("GET /api/tasks/{}", id);
+        return reactiveTaskReadService.getTaskById(id)
+                .map(task -> {
+                    String etag = ETags.forVersion(task.getVersion());
+                    if (ETags.anyMatches(ifNoneMatch, etag, false)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<TaskResponseDTO>build();
+                    }
+                    return ResponseEntity.ok().eTag(etag).body(task);
+                });
+    }
+
+    @GetMapping("/filter")
+    public Mono<Page<TaskResponseDTO>> getTasksWithFilters(
+            @RequestParam(required = false) Long statusId,
+            @RequestParam(required = false) Long priorityId,
+            @RequestParam(required = false) String searchTerm,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createDate") String sortBy,
+            @RequestParam(defaultValue = "DESC") String sortDirection) {
+        LOGGER.debug("GET /api/tasks/filter - statusId={}, priorityId={}, searchTerm={}",
+                statusId, priorityId, searchTerm);
+        return reactiveTaskReadService.getTasksWithFilters(
+                statusId, priorityId, searchTerm, page, size, sortBy, sortDirection);
+    }
+
+    @GetMapping("/statistics")
+    public Mono<TaskStatisticsResponseDTO> getTaskStatistics() {
+        LOGGER.debug("GET /api/tasks/statistics");
+        return reactiveTaskReadService.getTaskStatistics();
+    }
+}
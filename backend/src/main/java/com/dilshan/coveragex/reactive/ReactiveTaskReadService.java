@@ -0,0 +1,18 @@
+package com.dilshan.coveragex.reactive;
+
+import com.dilshan.coveragex.dto.TaskResponseDTO;
+import com.dilshan.coveragex.dto.TaskStatisticsResponseDTO;
+import org.springframework.data.domain.Page;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveTaskReadService {
+
+    Mono<Page<TaskResponseDTO>> getAllTasks(int page, int size, String sortBy, String sortDirection);
+
+    Mono<TaskResponseDTO> getTaskById(Long id);
+
+    Mono<Page<TaskResponseDTO>> getTasksWithFilters(Long statusId, Long priorityId, String searchTerm,
+                                                    int page, int size, String sortBy, String sortDirection);
+
+    Mono<TaskStatisticsResponseDTO> getTaskStatistics();
+}
@@ -0,0 +1,66 @@
+package com.dilshan.coveragex.reactive;
+
+import com.dilshan.coveragex.dto.TaskResponseDTO;
+import com.dilshan.coveragex.dto.TaskStatisticsResponseDTO;
+import com.dilshan.coveragex.exception.TaskNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+public class ReactiveTaskReadServiceImpl implements ReactiveTaskReadService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveTaskReadServiceImpl.class);
+
+    private final ReactiveTaskRepository reactiveTaskRepository;
+
+    @Autowired
+    public ReactiveTaskReadServiceImpl(ReactiveTaskRepository reactiveTaskRepository) {
+        this.reactiveTaskRepository = reactiveTaskRepository;
+    }
+
+    @Override
+    public Mono<Page<TaskResponseDTO>> getAllTasks(int page, int size, String sortBy, String sortDirection) {
+        return getTasksWithFilters(null, null, null, page, size, sortBy, sortDirection);
+    }
+
+    @Override
+    public Mono<TaskResponseDTO> getTaskById(Long id) {
+        return reactiveTaskRepository.findProjectedById(id)
+                .switchIfEmpty(Mono.error(() -> TaskNotFoundException.forId(id)));
+    }
+
+    @Override
+    public Mono<Page<TaskResponseDTO>> getTasksWithFilters(Long statusId, Long priorityId, String searchTerm,
+                                                           int page, int size, String sortBy, String sortDirection) {
+        LOGGER.debug("Fetching tasks with filters - statusId: {}, priorityId: {}, searchTerm: {}",
+                statusId, priorityId, searchTerm);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.fromString(sortDirection), sortBy));
+
+        // Content first, then the count only when the page does not already reveal the total, as Spring Data does.
+        // Sequential on purpose: running both at once would hold two connections per request.
+        return reactiveTaskRepository.findProjectedTasksWithFilters(statusId, priorityId, searchTerm, pageable)
+                .collectList()
+                .flatMap(content -> {
+                    if (pageable.getOffset() == 0 && content.size() < pageable.getPageSize()) {
+                        return Mono.just(new PageImpl<>(content, pageable, content.size()));
+                    }
+                    return reactiveTaskRepository.countTasksWithFilters(statusId, priorityId, searchTerm)
+                            .map(total -> new PageImpl<>(content, pageable, total));
+                });
+    }
+
+    @Override
+    public Mono<TaskStatisticsResponseDTO> getTaskStatistics() {
+        return reactiveTaskRepository.countTasksByStatusAndPriority()
+                .collectList()
+                .map(TaskStatisticsResponseDTO::fromStatusPriorityCounts);
+    }
+}
@@ -0,0 +1,132 @@
+package com.dilshan.coveragex.reactive;
+
+import com.dilshan.coveragex.dto.TaskResponseDTO;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The projection queries of TaskRepository in plain SQL. Filters are only added to the WHERE clause when present,
+ * so no null parameter has to be bound and each filter combination can use its own index.
+ */
+@Repository
+public class ReactiveTaskRepository {
+
+    private static final String PROJECTION = "SELECT t.id, t.task_title, t.description, t.create_date, "
+            + "t.last_status_change_date, t.version, p.id AS priority_id, p.type AS priority_type, "
+            + "s.id AS task_status_id, s.type AS task_status_type "
+            + "FROM tasks t JOIN priority_types p ON p.id = t.priority_id "
+            + "JOIN task_status_types s ON s.id = t.task_status_id";
+
+    // Sortable TaskResponseDTO properties and their columns
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "t.id",
+            "taskTitle", "t.task_title",
+            "description", "t.description",
+            "createDate", "t.create_date",
+            "lastStatusChangeDate", "t.last_status_change_date",
+            "version", "t.version");
+
+    private final DatabaseClient databaseClient;
+
+    @Autowired
+    public ReactiveTaskRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<TaskResponseDTO> findProjectedById(Long id) {
+        return databaseClient.sql(PROJECTION + " WHERE t.id = :id")
+                .bind("id", id)
+                .map(ReactiveTaskRepository::toResponseDTO)
+                .one();
+    }
+
+    public Flux<TaskResponseDTO> findProjectedTasksWithFilters(Long statusId, Long priorityId, String searchTerm,
+                                                               Pageable pageable) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        String sql = PROJECTION + where(statusId, priorityId, searchTerm, parameters)
+                + orderBy(pageable.getSort()) + " LIMIT :limit OFFSET :offset";
+        parameters.put("limit", pageable.getPageSize());
+        parameters.put("offset", pageable.getOffset());
+        return databaseClient.sql(sql)
+                .bindValues(parameters)
+                .map(ReactiveTaskRepository::toResponseDTO)
+                .all();
+    }
+
+    public Mono<Long> countTasksWithFilters(Long statusId, Long priorityId, String searchTerm) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        String sql = "SELECT COUNT(*) AS total FROM tasks t" + where(statusId, priorityId, searchTerm, parameters);
+        return databaseClient.sql(sql)
+                .bindValues(parameters)
+                .map(row -> row.get("total", Long.class))
+                .one();
+    }
+
+    // Rows of (status type, priority type, count), like TaskRepository.countTasksByStatusAndPriority
+    public Flux<Object[]> countTasksByStatusAndPriority() {
+        return databaseClient.sql("SELECT s.type AS task_status_type, p.type AS priority_type, COUNT(*) AS total "
+                        + "FROM tasks t JOIN priority_types p ON p.id = t.priority_id "
+                        + "JOIN task_status_types s ON s.id = t.task_status_id GROUP BY s.type, p.type")
+                .map(row -> new Object[]{row.get("task_status_type", String.class),
+                        row.get("priority_type", String.class), row.get("total", Long.class)})
+                .all();
+    }
+
+    private static String where(Long statusId, Long priorityId, String searchTerm, Map<String, Object> parameters) {
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        if (statusId != null) {
+            where.append(" AND t.task_status_id = :statusId");
+            parameters.put("statusId", statusId);
+        }
+        if (priorityId != null) {
+            where.append(" AND t.priority_id = :priorityId");
+            parameters.put("priorityId", priorityId);
+        }
+        if (searchTerm != null) {
+            where.append(" AND (LOWER(t.task_title) LIKE :pattern OR LOWER(t.description) LIKE :pattern)");
+            parameters.put("pattern", "%" + searchTerm.toLowerCase(Locale.ROOT) + "%");
+        }
+        return where.toString();
+    }
+
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        return sort.stream()
+                .map(order -> {
+                    String column = SORT_COLUMNS.get(order.getProperty());
+                    if (column == null) {
+                        throw new IllegalArgumentException("Unsupported sort field: " + order.getProperty());
+                    }
+                    return column + (order.isAscending() ? " ASC" : " DESC");
+                })
+                .collect(Collectors.joining(", ", " ORDER BY ", ""));
+    }
+
+    private static TaskResponseDTO toResponseDTO(Readable row) {
+        return new TaskResponseDTO(
+                row.get("id", Long.class),
+                row.get("task_title", String.class),
+                row.get("description", String.class),
+                row.get("create_date", LocalDateTime.class),
+                row.get("last_status_change_date", LocalDateTime.class),
+                row.get("priority_id", Long.class),
+                row.get("priority_type", String.class),
+                row.get("task_status_id", Long.class),
+                row.get("task_status_type", String.class),
+                row.get("version", Long.class));
+    }
+}
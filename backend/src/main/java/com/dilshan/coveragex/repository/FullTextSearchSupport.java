@@ -0,0 +1,69 @@
+package com.dilshan.coveragex.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Detects whether MySQL FULLTEXT search can be used for tasks.
+ * Hibernate creates the schema itself, so the FULLTEXT index declared in schema.sql is added here when missing.
+ * On any other database (H2 in tests) full-text search stays unavailable and callers fall back to LIKE.
+ */
+@Component
+public class FullTextSearchSupport implements CommandLineRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FullTextSearchSupport.class);
+
+    static final String INDEX_NAME = "ft_idx_tasks_search";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private volatile boolean available;
+
+    @Autowired
+    public FullTextSearchSupport(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(String... args) {
+        try {
+            String productName;
+            try (Connection connection = dataSource.getConnection()) {
+                productName = connection.getMetaData().getDatabaseProductName();
+            }
+
+            if (!"MySQL".equalsIgnoreCase(productName)) {
+                LOGGER.info("Full-text search is not supported on {}, task search will use LIKE", productName);
+                return;
+            }
+
+            Integer indexCount = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics " +
+                    "WHERE table_schema = DATABASE() AND table_name = 'tasks' AND index_name = ?",
+                    Integer.class, INDEX_NAME);
+            if (indexCount == null || indexCount == 0) {
+                LOGGER.info("Creating FULLTEXT index {} on tasks", INDEX_NAME);
+                jdbcTemplate.execute("ALTER TABLE tasks ADD FULLTEXT INDEX " + INDEX_NAME + " (task_title, description)");
+            }
+
+            available = true;
+            LOGGER.info("Full-text search enabled for tasks");
+        } catch (SQLException | DataAccessException e) {
+            LOGGER.warn("Full-text search unavailable, task search will use LIKE: {}", e.getMessage());
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+}
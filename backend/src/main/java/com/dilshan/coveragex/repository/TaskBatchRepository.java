@@ -0,0 +1,18 @@
+package com.dilshan.coveragex.repository;
+
+import com.dilshan.coveragex.entity.Task;
+
+import java.util.List;
+
+/**
+ * Bulk write operations on tasks that bypass per-entity repository calls.
+ */
+public interface TaskBatchRepository {
+
+    /**
+     * Persists new tasks in one go, flushing and detaching them every flush-size tasks,
+     * so inserts reach the database as JDBC batches and memory stays bounded. Returned tasks are detached;
+     * other entities managed by the caller's transaction are left untouched.
+     */
+    List<Task> insertAll(List<Task> tasks);
+}
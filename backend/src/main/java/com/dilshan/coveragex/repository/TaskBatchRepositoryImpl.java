@@ -0,0 +1,45 @@
+package com.dilshan.coveragex.repository;
+
+import com.dilshan.coveragex.entity.Task;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public class TaskBatchRepositoryImpl implements TaskBatchRepository {
+
+    private final EntityManager entityManager;
+    private final int flushSize;
+
+    @Autowired
+    public TaskBatchRepositoryImpl(EntityManager entityManager,
+                                   @Value("${app.tasks.batch.flush-size:500}") int flushSize) {
+        this.entityManager = entityManager;
+        this.flushSize = flushSize;
+    }
+
+    @Override
+    @Transactional
+    public List<Task> insertAll(List<Task> tasks) {
+        int flushed = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            entityManager.persist(tasks.get(i));
+            if ((i + 1) % flushSize == 0) {
+                flushed = flushAndDetach(tasks, flushed, i + 1);
+            }
+        }
+        flushAndDetach(tasks, flushed, tasks.size());
+        return tasks;
+    }
+
+    // Detaches only the tasks inserted here: a clear() would also detach whatever the caller's transaction holds
+    private int flushAndDetach(List<Task> tasks, int from, int to) {
+        entityManager.flush();
+        for (Task task : tasks.subList(from, to)) {
+            entityManager.detach(task);
+        }
+        return to;
+    }
+}
@@ -0,0 +1,39 @@
+package com.dilshan.coveragex.repository;
+
+import com.dilshan.coveragex.entity.TaskChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TaskChangeRepository extends JpaRepository<TaskChange, Long> {
+
+    // Keyset read of the log in commit order, served by idx_task_changes_seq_id
+    @Query("SELECT c FROM TaskChange c " +
+           "WHERE c.commitSeq > :commitSeq OR (c.commitSeq = :commitSeq AND c.id > :id) " +
+           "ORDER BY c.commitSeq, c.id")
+    List<TaskChange> findAfter(@Param("commitSeq") Long commitSeq, @Param("id") Long id, Pageable pageable);
+
+    // Entries followed by a later entry for the same task; readers only ever need the latest one
+    @Query("SELECT c.id FROM TaskChange c WHERE EXISTS (" +
+           "SELECT n.id FROM TaskChange n WHERE n.taskId = c.taskId " +
+           "AND (n.commitSeq > c.commitSeq OR (n.commitSeq = c.commitSeq AND n.id > c.id)))")
+    List<Long> findSupersededIds(Pageable pageable);
+
+    @Query("SELECT MAX(c.commitSeq) FROM TaskChange c WHERE c.changedAt < :cutoff")
+    Long findMaxCommitSeqChangedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Query("SELECT c.id FROM TaskChange c WHERE c.commitSeq < :commitSeq ORDER BY c.commitSeq, c.id")
+    List<Long> findIdsBefore(@Param("commitSeq") Long commitSeq, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM TaskChange c WHERE c.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
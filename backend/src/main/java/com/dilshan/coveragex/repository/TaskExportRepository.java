@@ -0,0 +1,17 @@
+package com.dilshan.coveragex.repository;
+
+import com.dilshan.coveragex.dto.TaskResponseDTO;
+
+import java.util.stream.Stream;
+
+/**
+ * Streaming read of tasks for exports, with a fetch size configured per database.
+ */
+public interface TaskExportRepository {
+
+    /**
+     * Streams the filtered tasks ordered by id, projected straight to DTOs.
+     * The stream must be consumed and closed inside a transaction.
+     */
+    Stream<TaskResponseDTO> streamTasksWithFilters(Long statusId, Long priorityId, String searchTerm);
+}
@@ -0,0 +1,41 @@
+package com.dilshan.coveragex.repository;
+
+import com.dilshan.coveragex.dto.TaskResponseDTO;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.stream.Stream;
+
+/**
+ * Only this query gets the export fetch size. On MySQL it is Integer.MIN_VALUE, which makes Connector/J
+ * stream rows one at a time over the connection instead of buffering the whole result set, without
+ * switching every other query to server-side prepared statements the way useCursorFetch on the URL would.
+ * The connection cannot run other statements until the stream is closed, which the DTO projection never needs.
+ */
+public class TaskExportRepositoryImpl implements TaskExportRepository {
+
+    static final String EXPORT_QUERY = TaskRepository.PROJECTION + "WHERE " + TaskRepository.FILTERS + " ORDER BY t.id";
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    @Autowired
+    public TaskExportRepositoryImpl(EntityManager entityManager,
+                                    @Value("${app.tasks.export.fetch-size:1000}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Stream<TaskResponseDTO> streamTasksWithFilters(Long statusId, Long priorityId, String searchTerm) {
+        return entityManager.createQuery(EXPORT_QUERY, TaskResponseDTO.class)
+                .setParameter("statusId", statusId)
+                .setParameter("priorityId", priorityId)
+                .setParameter("searchTerm", searchTerm)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
@@ -1,18 +1,48 @@
 package com.dilshan.coveragex.repository;
 
+import com.dilshan.coveragex.dto.TaskResponseDTO;
+import com.dilshan.coveragex.entity.PriorityType;
 import com.dilshan.coveragex.entity.Task;
+import com.dilshan.coveragex.entity.TaskStatusType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskBatchRepository, TaskExportRepository {
+
+    // Read-only projections select straight into TaskResponseDTO with a single join,
+    // so no managed entities, snapshots or reflective mapping are involved.
+    String PROJECTION = "SELECT new com.dilshan.coveragex.dto.TaskResponseDTO(" +
+            "t.id, t.taskTitle, t.description, t.createDate, t.lastStatusChangeDate, " +
+            "p.id, p.type, s.id, s.type, t.version) " +
+            "FROM Task t JOIN t.priority p JOIN t.taskStatus s ";
+
+    String FILTERS = "(:statusId IS NULL OR s.id = :statusId) AND " +
+            "(:priorityId IS NULL OR p.id = :priorityId) AND " +
+            "(:searchTerm IS NULL OR " +
+            "LOWER(t.taskTitle) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "LOWER(t.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')))";
+
+    String COUNT_FILTERS = "(:statusId IS NULL OR t.taskStatus.id = :statusId) AND " +
+            "(:priorityId IS NULL OR t.priority.id = :priorityId) AND " +
+            "(:searchTerm IS NULL OR " +
+            "LOWER(t.taskTitle) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "LOWER(t.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')))";
+
+    // Tasks a filter update would actually change; exactly one of the two targets is bound, the other is null
+    String CHANGE_TARGET = "(t.taskStatus.id <> :targetStatusId OR t.priority.id <> :targetPriorityId)";
 
     Page<Task> findByTaskStatusId(Long statusId, Pageable pageable);
 
@@ -37,6 +67,52 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     @Query("SELECT t.priority.type as priority, COUNT(t) as count FROM Task t GROUP BY t.priority.type")
     List<Object[]> countTasksByPriority();
 
+    // Status x priority matrix; every statistics figure is derived from these rows in a single scan
+    @Query("SELECT s.type, p.type, COUNT(t) FROM Task t JOIN t.taskStatus s JOIN t.priority p " +
+           "GROUP BY s.type, p.type")
+    List<Object[]> countTasksByStatusAndPriority();
+
+    // Status x priority cells of the tasks a bulk change would actually move, used to adjust the statistics counters
+    @Query("SELECT s.type, p.type, COUNT(t) FROM Task t JOIN t.taskStatus s JOIN t.priority p " +
+           "WHERE t.id IN :ids AND s.id <> :statusId GROUP BY s.type, p.type")
+    List<Object[]> countStatusChangesByCell(@Param("ids") Collection<Long> ids, @Param("statusId") Long statusId);
+
+    @Query("SELECT s.type, p.type, COUNT(t) FROM Task t JOIN t.taskStatus s JOIN t.priority p " +
+           "WHERE t.id IN :ids AND p.id <> :priorityId GROUP BY s.type, p.type")
+    List<Object[]> countPriorityChangesByCell(@Param("ids") Collection<Long> ids, @Param("priorityId") Long priorityId);
+
+    @Query("SELECT COUNT(t) FROM Task t WHERE " + COUNT_FILTERS + " AND " + CHANGE_TARGET)
+    long countTasksToChange(@Param("statusId") Long statusId,
+                            @Param("priorityId") Long priorityId,
+                            @Param("searchTerm") String searchTerm,
+                            @Param("targetStatusId") Long targetStatusId,
+                            @Param("targetPriorityId") Long targetPriorityId);
+
+    @Query("SELECT t.id FROM Task t WHERE " + COUNT_FILTERS + " AND " + CHANGE_TARGET +
+           " AND t.id > :afterId ORDER BY t.id")
+    List<Long> findIdsToChangeAfter(@Param("statusId") Long statusId,
+                                    @Param("priorityId") Long priorityId,
+                                    @Param("searchTerm") String searchTerm,
+                                    @Param("targetStatusId") Long targetStatusId,
+                                    @Param("targetPriorityId") Long targetPriorityId,
+                                    @Param("afterId") Long afterId,
+                                    Pageable pageable);
+
+    // Set-based bulk updates; tasks already in the target state are not touched or counted.
+    // Both bump the version so per-task ETags change and in-flight editors get a conflict.
+    @Modifying
+    @Query("UPDATE Task t SET t.taskStatus = :status, t.lastStatusChangeDate = :changeDate, " +
+           "t.version = t.version + 1 " +
+           "WHERE t.id IN :ids AND t.taskStatus <> :status")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("status") TaskStatusType status,
+                           @Param("changeDate") LocalDateTime changeDate);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.priority = :priority, t.version = t.version + 1 " +
+           "WHERE t.id IN :ids AND t.priority <> :priority")
+    int updatePriorityByIdIn(@Param("ids") Collection<Long> ids, @Param("priority") PriorityType priority);
+
     @Query("SELECT COUNT(t) FROM Task t WHERE t.taskStatus.type IN ('DONE', 'CLOSED')")
     Long countCompletedTasks();
 
@@ -53,4 +129,91 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
                                    @Param("priorityId") Long priorityId,
                                    @Param("searchTerm") String searchTerm,
                                    Pageable pageable);
+
+    @Query(value = PROJECTION + "WHERE " + FILTERS,
+           countQuery = "SELECT COUNT(t) FROM Task t WHERE " + COUNT_FILTERS)
+    Page<TaskResponseDTO> findProjectedTasksWithFilters(@Param("statusId") Long statusId,
+                                                        @Param("priorityId") Long priorityId,
+                                                        @Param("searchTerm") String searchTerm,
+                                                        Pageable pageable);
+
+    @Query(PROJECTION + "WHERE t.id = :id")
+    Optional<TaskResponseDTO> findProjectedById(@Param("id") Long id);
+
+    @Query("SELECT t.version FROM Task t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query(PROJECTION + "WHERE t.id IN :ids")
+    List<TaskResponseDTO> findProjectedByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Batches of (id, taskTitle, description) in ID order, used to build the in-memory search index
+    @Query("SELECT t.id, t.taskTitle, t.description FROM Task t WHERE t.id > :afterId ORDER BY t.id")
+    List<Object[]> findSearchDocumentsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT t.id FROM Task t WHERE t.id > :afterId ORDER BY t.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // MySQL FULLTEXT search over ft_idx_tasks_search, returning IDs in relevance order.
+    // Only call these when FullTextSearchSupport reports the index as available.
+
+    @Query(value = "SELECT t.id FROM tasks t " +
+                   "WHERE MATCH(t.task_title, t.description) AGAINST (:searchTerm IN NATURAL LANGUAGE MODE) " +
+                   "ORDER BY MATCH(t.task_title, t.description) AGAINST (:searchTerm IN NATURAL LANGUAGE MODE) DESC, t.id DESC",
+           countQuery = "SELECT COUNT(*) FROM tasks t " +
+                        "WHERE MATCH(t.task_title, t.description) AGAINST (:searchTerm IN NATURAL LANGUAGE MODE)",
+           nativeQuery = true)
+    Page<Long> fullTextSearchNaturalIds(@Param("searchTerm") String searchTerm, Pageable pageable);
+
+    @Query(value = "SELECT t.id FROM tasks t " +
+                   "WHERE MATCH(t.task_title, t.description) AGAINST (:searchTerm IN BOOLEAN MODE) " +
+                   "ORDER BY MATCH(t.task_title, t.description) AGAINST (:searchTerm IN BOOLEAN MODE) DESC, t.id DESC",
+           countQuery = "SELECT COUNT(*) FROM tasks t " +
+                        "WHERE MATCH(t.task_title, t.description) AGAINST (:searchTerm IN BOOLEAN MODE)",
+           nativeQuery = true)
+    Page<Long> fullTextSearchBooleanIds(@Param("searchTerm") String searchTerm, Pageable pageable);
+
+    @Query(PROJECTION + "WHERE " + FILTERS)
+    Slice<TaskResponseDTO> findTaskSliceWithFilters(@Param("statusId") Long statusId,
+                                                    @Param("priorityId") Long priorityId,
+                                                    @Param("searchTerm") String searchTerm,
+                                                    Pageable pageable);
+
+    @Query("SELECT COUNT(t) FROM Task t WHERE " + COUNT_FILTERS)
+    long countTasksWithFilters(@Param("statusId") Long statusId,
+                               @Param("priorityId") Long priorityId,
+                               @Param("searchTerm") String searchTerm);
+
+    // Keyset (seek) pagination: pageable carries only the limit, ordering is fixed on (createDate, id)
+
+    @Query(PROJECTION + "WHERE " + FILTERS + " ORDER BY t.createDate DESC, t.id DESC")
+    List<TaskResponseDTO> seekTasksDesc(@Param("statusId") Long statusId,
+                                        @Param("priorityId") Long priorityId,
+                                        @Param("searchTerm") String searchTerm,
+                                        Pageable pageable);
+
+    @Query(PROJECTION + "WHERE " + FILTERS + " AND " +
+           "(t.createDate < :cursorDate OR (t.createDate = :cursorDate AND t.id < :cursorId)) " +
+           "ORDER BY t.createDate DESC, t.id DESC")
+    List<TaskResponseDTO> seekTasksDescAfter(@Param("statusId") Long statusId,
+                                             @Param("priorityId") Long priorityId,
+                                             @Param("searchTerm") String searchTerm,
+                                             @Param("cursorDate") LocalDateTime cursorDate,
+                                             @Param("cursorId") Long cursorId,
+                                             Pageable pageable);
+
+    @Query(PROJECTION + "WHERE " + FILTERS + " ORDER BY t.createDate ASC, t.id ASC")
+    List<TaskResponseDTO> seekTasksAsc(@Param("statusId") Long statusId,
+                                       @Param("priorityId") Long priorityId,
+                                       @Param("searchTerm") String searchTerm,
+                                       Pageable pageable);
+
+    @Query(PROJECTION + "WHERE " + FILTERS + " AND " +
+           "(t.createDate > :cursorDate OR (t.createDate = :cursorDate AND t.id > :cursorId)) " +
+           "ORDER BY t.createDate ASC, t.id ASC")
+    List<TaskResponseDTO> seekTasksAscAfter(@Param("statusId") Long statusId,
+                                            @Param("priorityId") Long priorityId,
+                                            @Param("searchTerm") String searchTerm,
+                                            @Param("cursorDate") LocalDateTime cursorDate,
+                                            @Param("cursorId") Long cursorId,
+                                            Pageable pageable);
 }
@@ -0,0 +1,378 @@
+package com.dilshan.coveragex.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * In-memory inverted index with BM25 ranking.
+ * Documents are addressed by an internal ordinal; postings are primitive (ordinal, term frequency) int arrays.
+ * Updating a document tombstones its old ordinal and appends a new one. Once tombstones make up a quarter of
+ * the ordinals the index is compacted in place, so memory and query cost follow the live documents rather
+ * than the write history. Queries only visit the postings of their own terms.
+ * Not thread-safe: writes must be exclusive, searches may run concurrently with each other.
+ */
+public class InvertedIndex {
+
+    static final float K1 = 1.2f;
+    static final float B = 0.75f;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int DEFAULT_COMPACTION_MIN_TOMBSTONES = 1024;
+    private static final int COMPACTION_RATIO = 4;
+
+    private final int compactionMinTombstones;
+
+    // term -> term ordinal
+    private final Map<String, Integer> termOrdinals = new HashMap<>();
+    private Postings[] postings = new Postings[INITIAL_CAPACITY];
+    private int termCount;
+
+    // document ordinal -> external id / length / distinct term ordinals (null once deleted)
+    private long[] documentIds = new long[INITIAL_CAPACITY];
+    private int[] documentLengths = new int[INITIAL_CAPACITY];
+    private int[][] documentTerms = new int[INITIAL_CAPACITY][];
+    private int documentCount;
+
+    // external id -> live document ordinal
+    private final Map<Long, Integer> liveOrdinals = new HashMap<>();
+    private long totalLength;
+
+    public InvertedIndex() {
+        this(DEFAULT_COMPACTION_MIN_TOMBSTONES);
+    }
+
+    InvertedIndex(int compactionMinTombstones) {
+        this.compactionMinTombstones = compactionMinTombstones;
+    }
+
+    public void index(long id, String... fields) {
+        remove(id);
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+        for (String field : fields) {
+            for (String token : tokenize(field)) {
+                frequencies.merge(token, 1, Integer::sum);
+                length++;
+            }
+        }
+
+        int ordinal = documentCount++;
+        ensureDocumentCapacity(documentCount);
+        documentIds[ordinal] = id;
+        documentLengths[ordinal] = length;
+
+        int[] terms = new int[frequencies.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            int termOrdinal = termOrdinal(entry.getKey());
+            postings[termOrdinal].add(ordinal, entry.getValue());
+            terms[i++] = termOrdinal;
+        }
+        documentTerms[ordinal] = terms;
+
+        liveOrdinals.put(id, ordinal);
+        totalLength += length;
+    }
+
+    public boolean remove(long id) {
+        Integer ordinal = liveOrdinals.remove(id);
+        if (ordinal == null) {
+            return false;
+        }
+        for (int termOrdinal : documentTerms[ordinal]) {
+            postings[termOrdinal].documentFrequency--;
+        }
+        documentTerms[ordinal] = null;
+        totalLength -= documentLengths[ordinal];
+
+        int tombstones = tombstones();
+        if (tombstones >= compactionMinTombstones && tombstones * COMPACTION_RATIO >= documentCount) {
+            compact();
+        }
+        return true;
+    }
+
+    public void clear() {
+        termOrdinals.clear();
+        postings = new Postings[INITIAL_CAPACITY];
+        termCount = 0;
+        documentIds = new long[INITIAL_CAPACITY];
+        documentLengths = new int[INITIAL_CAPACITY];
+        documentTerms = new int[INITIAL_CAPACITY][];
+        documentCount = 0;
+        liveOrdinals.clear();
+        totalLength = 0;
+    }
+
+    /**
+     * Ranks the live documents matching any query term and returns ids limit at a time from offset.
+     * The offset is a long because it is page * size of a request, which overflows an int for large pages.
+     */
+    public SearchHits search(String query, long offset, int limit) {
+        List<String> queryTerms = tokenize(query);
+        int liveDocuments = liveOrdinals.size();
+        if (queryTerms.isEmpty() || liveDocuments == 0) {
+            return new SearchHits(new long[0], 0);
+        }
+
+        float averageLength = (float) totalLength / liveDocuments;
+        List<Postings> termPostings = new ArrayList<>();
+        int visited = 0;
+        for (String term : queryTerms.stream().distinct().toList()) {
+            Integer termOrdinal = termOrdinals.get(term);
+            if (termOrdinal != null && postings[termOrdinal].documentFrequency > 0) {
+                termPostings.add(postings[termOrdinal]);
+                visited += postings[termOrdinal].size;
+            }
+        }
+
+        // Sized by the postings visited, not by the number of documents
+        ScoreAccumulator scores = new ScoreAccumulator(visited);
+        for (Postings posting : termPostings) {
+            float idf = (float) Math.log(1 + (liveDocuments - posting.documentFrequency + 0.5)
+                    / (posting.documentFrequency + 0.5));
+            for (int i = 0; i < posting.size; i++) {
+                int ordinal = posting.ordinals[i];
+                if (documentTerms[ordinal] == null) {
+                    continue;
+                }
+                int frequency = posting.frequencies[i];
+                float norm = K1 * (1 - B + B * documentLengths[ordinal] / averageLength);
+                scores.add(ordinal, idf * frequency * (K1 + 1) / (frequency + norm));
+            }
+        }
+
+        int matches = scores.size;
+        if (offset >= matches || limit <= 0) {
+            return new SearchHits(new long[0], matches);
+        }
+        // offset < matches, so the sum cannot overflow and the result fits in an int
+        int wanted = (int) Math.min(offset + limit, matches);
+
+        // Min-heap of the best (offset + limit) matches, by position in the accumulator; ties broken by newest document first
+        PriorityQueue<Integer> top = new PriorityQueue<>(wanted, (a, b) -> {
+            int byScore = Float.compare(scores.scores[a], scores.scores[b]);
+            return byScore != 0 ? byScore : Long.compare(documentIds[scores.ordinals[a]], documentIds[scores.ordinals[b]]);
+        });
+        for (int match = 0; match < matches; match++) {
+            if (top.size() < wanted) {
+                top.add(match);
+            } else if (top.comparator().compare(match, top.peek()) > 0) {
+                top.poll();
+                top.add(match);
+            }
+        }
+
+        long[] ranked = new long[top.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = documentIds[scores.ordinals[top.poll()]];
+        }
+        return new SearchHits(Arrays.copyOfRange(ranked, (int) offset, ranked.length), matches);
+    }
+
+    public boolean contains(long id) {
+        return liveOrdinals.containsKey(id);
+    }
+
+    public int size() {
+        return liveOrdinals.size();
+    }
+
+    public int termCount() {
+        return termCount;
+    }
+
+    int tombstones() {
+        return documentCount - liveOrdinals.size();
+    }
+
+    public List<Long> documentIds() {
+        return new ArrayList<>(liveOrdinals.keySet());
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private int termOrdinal(String term) {
+        Integer existing = termOrdinals.get(term);
+        if (existing != null) {
+            return existing;
+        }
+        int ordinal = termCount++;
+        if (ordinal == postings.length) {
+            postings = Arrays.copyOf(postings, postings.length * 2);
+        }
+        postings[ordinal] = new Postings();
+        termOrdinals.put(term, ordinal);
+        return ordinal;
+    }
+
+    /**
+     * Renumbers the live documents densely, drops the tombstoned entries from every posting list
+     * and forgets terms no live document uses any more.
+     */
+    private void compact() {
+        int[] documentRemap = new int[documentCount];
+        int liveCount = 0;
+        for (int ordinal = 0; ordinal < documentCount; ordinal++) {
+            if (documentTerms[ordinal] == null) {
+                documentRemap[ordinal] = -1;
+                continue;
+            }
+            documentRemap[ordinal] = liveCount;
+            documentIds[liveCount] = documentIds[ordinal];
+            documentLengths[liveCount] = documentLengths[ordinal];
+            documentTerms[liveCount] = documentTerms[ordinal];
+            liveCount++;
+        }
+        Arrays.fill(documentTerms, liveCount, documentCount, null);
+        documentCount = liveCount;
+        liveOrdinals.replaceAll((id, ordinal) -> documentRemap[ordinal]);
+
+        int[] termRemap = new int[termCount];
+        int liveTerms = 0;
+        for (int termOrdinal = 0; termOrdinal < termCount; termOrdinal++) {
+            Postings termPostings = postings[termOrdinal];
+            if (termPostings.documentFrequency <= 0) {
+                termRemap[termOrdinal] = -1;
+                continue;
+            }
+            termPostings.retain(documentRemap);
+            termRemap[termOrdinal] = liveTerms;
+            postings[liveTerms++] = termPostings;
+        }
+        Arrays.fill(postings, liveTerms, termCount, null);
+        termCount = liveTerms;
+        termOrdinals.entrySet().removeIf(entry -> termRemap[entry.getValue()] < 0);
+        termOrdinals.replaceAll((term, termOrdinal) -> termRemap[termOrdinal]);
+        for (int ordinal = 0; ordinal < documentCount; ordinal++) {
+            int[] terms = documentTerms[ordinal];
+            for (int i = 0; i < terms.length; i++) {
+                terms[i] = termRemap[terms[i]];
+            }
+        }
+    }
+
+    private void ensureDocumentCapacity(int capacity) {
+        if (capacity > documentIds.length) {
+            int newLength = Math.max(capacity, documentIds.length * 2);
+            documentIds = Arrays.copyOf(documentIds, newLength);
+            documentLengths = Arrays.copyOf(documentLengths, newLength);
+            documentTerms = Arrays.copyOf(documentTerms, newLength);
+        }
+    }
+
+    private static final class Postings {
+        private int[] ordinals = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+        private int documentFrequency;
+
+        private void add(int ordinal, int frequency) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            ordinals[size] = ordinal;
+            frequencies[size] = frequency;
+            size++;
+            documentFrequency++;
+        }
+
+        // Keeps the entries of live documents under their new ordinals; remapping preserves their order
+        private void retain(int[] documentRemap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int ordinal = documentRemap[ordinals[i]];
+                if (ordinal >= 0) {
+                    ordinals[kept] = ordinal;
+                    frequencies[kept] = frequencies[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            int capacity = Math.max(4, Integer.highestOneBit(Math.max(1, kept)) << 1);
+            if (capacity < ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, capacity);
+                frequencies = Arrays.copyOf(frequencies, capacity);
+            }
+        }
+    }
+
+    /**
+     * Open-addressing map from document ordinal to score, with matches kept in insertion order
+     * so ranking only walks the documents that matched.
+     */
+    private static final class ScoreAccumulator {
+        private final int[] slots;
+        private final int mask;
+        private final int[] ordinals;
+        private final float[] scores;
+        private int size;
+
+        private ScoreAccumulator(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(8, expected) * 2 - 1) << 1;
+            slots = new int[capacity];
+            Arrays.fill(slots, -1);
+            mask = capacity - 1;
+            ordinals = new int[Math.max(1, expected)];
+            scores = new float[Math.max(1, expected)];
+        }
+
+        private void add(int ordinal, float score) {
+            int hash = ordinal * 0x9E3779B9;
+            int slot = (hash ^ (hash >>> 16)) & mask;
+            while (slots[slot] >= 0) {
+                int match = slots[slot];
+                if (ordinals[match] == ordinal) {
+                    scores[match] += score;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = size;
+            ordinals[size] = ordinal;
+            scores[size] = score;
+            size++;
+        }
+    }
+
+    public static final class SearchHits {
+        private final long[] ids;
+        private final int totalHits;
+
+        public SearchHits(long[] ids, int totalHits) {
+            this.ids = ids;
+            this.totalHits = totalHits;
+        }
+
+        public long[] getIds() {
+            return ids;
+        }
+
+        public int getTotalHits() {
+            return totalHits;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.dilshan.coveragex.search;
+
+import com.dilshan.coveragex.dto.SearchIndexStatusResponseDTO;
+import com.dilshan.coveragex.repository.TaskRepository;
+import com.dilshan.coveragex.util.TransactionCallbacks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Ranked task search served from an {@link InvertedIndex} over task titles and descriptions.
+ * Built from the database once the application is ready and kept current by TaskServiceImpl
+ * through after-commit callbacks, so rolled-back writes never reach the index.
+ */
+@Component
+public class TaskSearchIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    private final TaskRepository taskRepository;
+    private final int batchSize;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private InvertedIndex index = new InvertedIndex();
+    // Updates committed while a rebuild is running, replayed onto the new index before it is swapped in
+    private List<Consumer<InvertedIndex>> pendingUpdates;
+    private volatile boolean ready;
+    private volatile LocalDateTime lastRebuildDate;
+    private volatile long lastRebuildMillis;
+
+    @Autowired
+    public TaskSearchIndex(TaskRepository taskRepository,
+                           @Value("${app.tasks.search-index.batch-size:1000}") int batchSize) {
+        this.taskRepository = taskRepository;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            doRebuild();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void doRebuild() {
+        LOGGER.info("Rebuilding task search index");
+        long start = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            pendingUpdates = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        InvertedIndex rebuilt = new InvertedIndex();
+        boolean built = false;
+        try {
+            long lastId = 0;
+            List<Object[]> batch;
+            do {
+                batch = taskRepository.findSearchDocumentsAfter(lastId, PageRequest.of(0, batchSize));
+                for (Object[] row : batch) {
+                    lastId = (Long) row[0];
+                    rebuilt.index(lastId, (String) row[1], (String) row[2]);
+                }
+            } while (batch.size() == batchSize);
+            built = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (built) {
+                    pendingUpdates.forEach(update -> update.accept(rebuilt));
+                    index = rebuilt;
+                }
+                pendingUpdates = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        lastRebuildMillis = System.currentTimeMillis() - start;
+        lastRebuildDate = LocalDateTime.now();
+        ready = true;
+        LOGGER.info("Task search index rebuilt with {} tasks in {} ms", rebuilt.size(), lastRebuildMillis);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public InvertedIndex.SearchHits search(String query, int page, int size) {
+        lock.readLock().lock();
+        try {
+            return index.search(query, (long) page * size, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void indexAfterCommit(Long id, String taskTitle, String description) {
+        TransactionCallbacks.afterCommit(() -> apply(target -> target.index(id, taskTitle, description)));
+    }
+
+    public SearchIndexStatusResponseDTO checkConsistency() {
+        // Snapshot the indexed ids and scan the table without the lock, so writers are never held up by the scan
+        Set<Long> indexedIds;
+        long terms;
+        lock.readLock().lock();
+        try {
+            indexedIds = new HashSet<>(index.documentIds());
+            terms = index.termCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        long databaseTasks = 0;
+        long missingTasks = 0;
+        long lastId = 0;
+        List<Long> batch;
+        do {
+            batch = taskRepository.findIdsAfter(lastId, PageRequest.of(0, batchSize));
+            for (Long id : batch) {
+                lastId = id;
+                databaseTasks++;
+                if (!indexedIds.contains(id)) {
+                    missingTasks++;
+                }
+            }
+        } while (batch.size() == batchSize);
+
+        // Writes committed during the scan can show up as a few missing or stale tasks; a second check settles it
+        long indexedTasks = indexedIds.size();
+        long staleTasks = indexedTasks - (databaseTasks - missingTasks);
+        return new SearchIndexStatusResponseDTO(indexedTasks, databaseTasks, missingTasks, staleTasks, terms,
+                missingTasks == 0 && staleTasks == 0, lastRebuildDate, lastRebuildMillis);
+    }
+
+    private void apply(Consumer<InvertedIndex> update) {
+        lock.writeLock().lock();
+        try {
+            update.accept(index);
+            if (pendingUpdates != null) {
+                pendingUpdates.add(update);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
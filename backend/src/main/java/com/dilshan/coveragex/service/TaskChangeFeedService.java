@@ -0,0 +1,12 @@
+package com.dilshan.coveragex.service;
+
+import com.dilshan.coveragex.dto.TaskChangeFeedResponseDTO;
+
+public interface TaskChangeFeedService {
+
+    /**
+     * Changes committed after the cursor, in commit order. Without a cursor, returns no changes and the cursor
+     * at the head of the log: take it before a full reload, then sync from it.
+     */
+    TaskChangeFeedResponseDTO getChanges(String since, int limit);
+}
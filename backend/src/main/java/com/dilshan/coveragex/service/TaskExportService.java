@@ -0,0 +1,15 @@
+package com.dilshan.coveragex.service;
+
+import com.dilshan.coveragex.dto.TaskTransferFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface TaskExportService {
+
+    /**
+     * Streams every task matching the filters to the output stream, ordered by ID, and returns the number of rows written.
+     */
+    long exportTasks(Long statusId, Long priorityId, String searchTerm, TaskTransferFormat format,
+                     OutputStream outputStream) throws IOException;
+}
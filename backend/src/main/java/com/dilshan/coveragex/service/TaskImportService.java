@@ -0,0 +1,16 @@
+package com.dilshan.coveragex.service;
+
+import com.dilshan.coveragex.dto.TaskImportResponseDTO;
+import com.dilshan.coveragex.dto.TaskTransferFormat;
+
+import java.io.IOException;
+import java.io.Reader;
+
+public interface TaskImportService {
+
+    /**
+     * Reads tasks from the reader and inserts them in transactions of chunkSize tasks (the configured default when null).
+     * Invalid records are reported by line and skipped; the rest of the input is still imported.
+     */
+    TaskImportResponseDTO importTasks(Reader reader, TaskTransferFormat format, Integer chunkSize) throws IOException;
+}
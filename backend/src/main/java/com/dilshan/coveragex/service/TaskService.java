@@ -1,20 +1,54 @@
 package com.dilshan.coveragex.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.dilshan.coveragex.dto.*;
 import org.springframework.data.domain.Page;
 
+import java.util.List;
+
 
 public interface TaskService {
 
     TaskResponseDTO createTask(TaskCreateRequestDTO createRequestDTO);
 
+    TaskBatchResponseDTO createTasks(List<TaskCreateRequestDTO> createRequestDTOs);
+
     Page<TaskResponseDTO> getAllTasks(int page, int size, String sortBy, String sortDirection);
 
     TaskResponseDTO getTaskById(Long id);
 
-    TaskResponseDTO updateTask(Long id, TaskUpdateRequestDTO updateRequestDTO);
+    Long getTaskVersion(Long id);
+
+    default TaskResponseDTO updateTask(Long id, TaskUpdateRequestDTO updateRequestDTO) {
+        return updateTask(id, updateRequestDTO, null);
+    }
+
+    /**
+     * @param expectedVersion version the caller last saw (from If-Match), or null to update unconditionally
+     */
+    TaskResponseDTO updateTask(Long id, TaskUpdateRequestDTO updateRequestDTO, Long expectedVersion);
+
+    default TaskResponseDTO patchTask(Long id, JsonNode mergePatch) {
+        return patchTask(id, mergePatch, null);
+    }
+
+    TaskResponseDTO patchTask(Long id, JsonNode mergePatch, Long expectedVersion);
+
+    default void deleteTask(Long id) {
+        deleteTask(id, null);
+    }
+
+    void deleteTask(Long id, Long expectedVersion);
 
-    void deleteTask(Long id);
+    TaskBulkResponseDTO updateTaskStatuses(List<Long> ids, Long taskStatusId);
+
+    TaskBulkResponseDTO updateTaskPriorities(List<Long> ids, Long priorityId);
+
+    TaskBulkResponseDTO deleteTasks(List<Long> ids);
+
+    TaskFilterUpdateResponseDTO updateTasksByFilter(Long statusId, Long priorityId, String searchTerm,
+                                                    Long targetStatusId, Long targetPriorityId,
+                                                    boolean dryRun, int chunkSize);
 
     Page<TaskResponseDTO> getTasksByStatus(Long statusId, int page, int size, String sortBy, String sortDirection);
 
@@ -22,9 +56,22 @@ public interface TaskService {
 
     Page<TaskResponseDTO> searchTasks(String searchTerm, int page, int size, String sortBy, String sortDirection);
 
+    Page<TaskResponseDTO> fullTextSearchTasks(String searchTerm, TaskSearchMode mode, int page, int size);
+
     Page<TaskResponseDTO> getTasksWithFilters(Long statusId, Long priorityId, String searchTerm,
                                             int page, int size, String sortBy, String sortDirection);
 
+    TaskSliceResponseDTO getTaskSlice(Long statusId, Long priorityId, String searchTerm,
+                                      int page, int size, String sortBy, String sortDirection,
+                                      boolean approximateTotal);
+
+    TaskCursorPageResponseDTO getTasksByCursor(Long statusId, Long priorityId, String searchTerm,
+                                               String cursor, int size, String sortDirection);
+
     TaskStatisticsResponseDTO getTaskStatistics();
+
+    SearchIndexStatusResponseDTO getSearchIndexStatus();
+
+    SearchIndexStatusResponseDTO rebuildSearchIndex();
 }
 
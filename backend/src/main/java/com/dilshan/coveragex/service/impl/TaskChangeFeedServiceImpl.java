@@ -0,0 +1,107 @@
+package com.dilshan.coveragex.service.impl;
+
+import com.dilshan.coveragex.dto.TaskChangeDTO;
+import com.dilshan.coveragex.dto.TaskChangeFeedResponseDTO;
+import com.dilshan.coveragex.dto.TaskChangeOperation;
+import com.dilshan.coveragex.dto.TaskResponseDTO;
+import com.dilshan.coveragex.entity.TaskChange;
+import com.dilshan.coveragex.exception.TaskChangeCursorExpiredException;
+import com.dilshan.coveragex.feed.TaskChangeLog;
+import com.dilshan.coveragex.repository.TaskChangeRepository;
+import com.dilshan.coveragex.repository.TaskRepository;
+import com.dilshan.coveragex.service.TaskChangeFeedService;
+import com.dilshan.coveragex.util.TaskChangeCursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+public class TaskChangeFeedServiceImpl implements TaskChangeFeedService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskChangeFeedServiceImpl.class);
+    private static final int MAX_LIMIT = 1000;
+
+    private final TaskChangeRepository taskChangeRepository;
+    private final TaskRepository taskRepository;
+    private final TaskChangeLog taskChangeLog;
+
+    @Autowired
+    public TaskChangeFeedServiceImpl(TaskChangeRepository taskChangeRepository,
+                                     TaskRepository taskRepository,
+                                     TaskChangeLog taskChangeLog) {
+        this.taskChangeRepository = taskChangeRepository;
+        this.taskRepository = taskRepository;
+        this.taskChangeLog = taskChangeLog;
+    }
+
+    /**
+     * Reads up to limit log entries after the cursor and returns the latest one per task, with the task's
+     * current state. The compacted sequence is read in the same transaction as the entries, and the compactor
+     * advances it before deleting, so an expired cursor is always detected rather than skipping changes.
+     */
+    @Override
+    public TaskChangeFeedResponseDTO getChanges(String since, int limit) {
+        LOGGER.info("Fetching task changes since cursor: {}, limit: {}", since, limit);
+
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (since == null || since.isBlank()) {
+            String head = TaskChangeCursor.head(taskChangeLog.headSequence()).encode();
+            LOGGER.info("No cursor given, returning the head of the change log");
+            return new TaskChangeFeedResponseDTO(List.of(), head, false);
+        }
+
+        TaskChangeCursor cursor = TaskChangeCursor.decode(since);
+        long compactedSeq = taskChangeLog.compactedSequence();
+        if (cursor.getCommitSeq() < compactedSeq) {
+            throw new TaskChangeCursorExpiredException("Changes before commit sequence " + compactedSeq
+                    + " have been compacted; reload all tasks and sync from a new cursor");
+        }
+
+        List<TaskChange> entries = taskChangeRepository.findAfter(cursor.getCommitSeq(), cursor.getId(),
+                PageRequest.of(0, limit + 1));
+        boolean hasMore = entries.size() > limit;
+        if (hasMore) {
+            entries = entries.subList(0, limit);
+        }
+        if (entries.isEmpty()) {
+            return new TaskChangeFeedResponseDTO(List.of(), since, false);
+        }
+
+        // Later entries for a task replace earlier ones and take their place in commit order
+        Map<Long, TaskChange> latestByTask = new LinkedHashMap<>();
+        for (TaskChange entry : entries) {
+            latestByTask.remove(entry.getTaskId());
+            latestByTask.put(entry.getTaskId(), entry);
+        }
+        Map<Long, TaskResponseDTO> tasks = taskRepository.findProjectedByIdIn(latestByTask.keySet()).stream()
+                .collect(Collectors.toMap(TaskResponseDTO::getId, Function.identity()));
+
+        List<TaskChangeDTO> changes = new ArrayList<>(latestByTask.size());
+        for (TaskChange entry : latestByTask.values()) {
+            TaskResponseDTO task = tasks.get(entry.getTaskId());
+            TaskChangeOperation operation = task == null || "CLOSED".equals(task.getTaskStatus().getType())
+                    ? TaskChangeOperation.TOMBSTONE : TaskChangeOperation.UPSERT;
+            changes.add(new TaskChangeDTO(entry.getTaskId(), operation, entry.getChangedAt(), task));
+        }
+
+        TaskChange last = entries.get(entries.size() - 1);
+        String nextCursor = TaskChangeCursor.of(last.getCommitSeq(), last.getId()).encode();
+
+        LOGGER.info("Found {} task changes in {} log entries, hasMore: {}", changes.size(), entries.size(), hasMore);
+
+        return new TaskChangeFeedResponseDTO(changes, nextCursor, hasMore);
+    }
+}
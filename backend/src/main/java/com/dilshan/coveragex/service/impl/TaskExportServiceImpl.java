@@ -0,0 +1,62 @@
+package com.dilshan.coveragex.service.impl;
+
+import com.dilshan.coveragex.dto.TaskTransferFormat;
+import com.dilshan.coveragex.dto.TaskResponseDTO;
+import com.dilshan.coveragex.repository.TaskRepository;
+import com.dilshan.coveragex.service.TaskExportService;
+import com.dilshan.coveragex.transfer.CsvTaskExportWriter;
+import com.dilshan.coveragex.transfer.NdjsonTaskExportWriter;
+import com.dilshan.coveragex.transfer.TaskExportWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class TaskExportServiceImpl implements TaskExportService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskExportServiceImpl.class);
+
+    private final TaskRepository taskRepository;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public TaskExportServiceImpl(TaskRepository taskRepository, ObjectMapper objectMapper) {
+        this.taskRepository = taskRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportTasks(Long statusId, Long priorityId, String searchTerm, TaskTransferFormat format,
+                            OutputStream outputStream) throws IOException {
+        LOGGER.info("Exporting tasks as {} with filters - statusId: {}, priorityId: {}, searchTerm: {}",
+                   format, statusId, priorityId, searchTerm);
+        long startNanos = System.nanoTime();
+
+        TaskExportWriter writer = format == TaskTransferFormat.CSV
+                ? new CsvTaskExportWriter(outputStream)
+                : new NdjsonTaskExportWriter(outputStream, objectMapper);
+
+        long rows = 0;
+        try (Stream<TaskResponseDTO> tasks = taskRepository.streamTasksWithFilters(statusId, priorityId, searchTerm)) {
+            // An explicit iterator so IOExceptions from the writer propagate unwrapped
+            Iterator<TaskResponseDTO> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                rows++;
+            }
+        }
+        writer.finish();
+
+        LOGGER.info("Exported {} tasks as {} in {} ms", rows, format, (System.nanoTime() - startNanos) / 1_000_000);
+        return rows;
+    }
+}
@@ -0,0 +1,197 @@
+package com.dilshan.coveragex.service.impl;
+
+import com.dilshan.coveragex.cache.ReferenceDataRegistry;
+import com.dilshan.coveragex.dto.TaskBatchItemResultDTO;
+import com.dilshan.coveragex.dto.TaskBatchResponseDTO;
+import com.dilshan.coveragex.dto.TaskCreateRequestDTO;
+import com.dilshan.coveragex.dto.TaskImportErrorDTO;
+import com.dilshan.coveragex.dto.TaskImportResponseDTO;
+import com.dilshan.coveragex.dto.TaskTransferFormat;
+import com.dilshan.coveragex.entity.PriorityType;
+import com.dilshan.coveragex.entity.TaskStatusType;
+import com.dilshan.coveragex.service.TaskImportService;
+import com.dilshan.coveragex.service.TaskService;
+import com.dilshan.coveragex.transfer.ConnectionPoolThrottle;
+import com.dilshan.coveragex.transfer.CsvTaskImportReader;
+import com.dilshan.coveragex.transfer.NdjsonTaskImportReader;
+import com.dilshan.coveragex.transfer.TaskImportReader;
+import com.dilshan.coveragex.transfer.TaskImportRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Not transactional itself: each chunk is committed by {@link TaskService#createTasks} in its own transaction,
+ * so a large import never holds one connection or one persistence context for its whole duration.
+ */
+@Service
+public class TaskImportServiceImpl implements TaskImportService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskImportServiceImpl.class);
+    private static final int MAX_CHUNK_SIZE = 5000;
+    private static final int MAX_RECORD_LENGTH = 64 * 1024;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final TaskService taskService;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final ConnectionPoolThrottle connectionPoolThrottle;
+    private final ObjectMapper objectMapper;
+    private final int defaultChunkSize;
+
+    @Autowired
+    public TaskImportServiceImpl(TaskService taskService,
+                                 ReferenceDataRegistry referenceDataRegistry,
+                                 ConnectionPoolThrottle connectionPoolThrottle,
+                                 ObjectMapper objectMapper,
+                                 @Value("${app.tasks.import.chunk-size:1000}") int defaultChunkSize) {
+        this.taskService = taskService;
+        this.referenceDataRegistry = referenceDataRegistry;
+        this.connectionPoolThrottle = connectionPoolThrottle;
+        this.objectMapper = objectMapper;
+        this.defaultChunkSize = defaultChunkSize;
+    }
+
+    @Override
+    public TaskImportResponseDTO importTasks(Reader reader, TaskTransferFormat format, Integer chunkSize)
+            throws IOException {
+        int size = chunkSize == null ? defaultChunkSize : chunkSize;
+        if (size < 1 || size > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Chunk size must be between 1 and " + MAX_CHUNK_SIZE);
+        }
+        LOGGER.info("Importing tasks as {} in chunks of {}", format, size);
+
+        TaskImportReader importReader = format == TaskTransferFormat.CSV
+                ? new CsvTaskImportReader(new BufferedReader(reader), MAX_RECORD_LENGTH)
+                : new NdjsonTaskImportReader(reader, objectMapper, MAX_RECORD_LENGTH);
+        ImportRun run = new ImportRun(format, size);
+
+        TaskImportRow row;
+        while ((row = importReader.next()) != null) {
+            run.accept(row);
+        }
+        run.flush();
+
+        TaskImportResponseDTO response = run.toResponse();
+        LOGGER.info("Imported {} of {} tasks in {} chunks, {} ms ({} throttled)", response.getImported(),
+                   response.getRecords(), response.getChunks(), response.getElapsedMillis(),
+                   response.getThrottledMillis());
+        return response;
+    }
+
+    /**
+     * State of one import: the pending chunk and running totals. Type names are resolved against
+     * a snapshot of the reference data taken when the import starts.
+     */
+    private final class ImportRun {
+
+        private final TaskTransferFormat format;
+        private final int chunkSize;
+        private final long startNanos = System.nanoTime();
+        private final Map<String, Long> priorityIds = new HashMap<>();
+        private final Map<String, Long> taskStatusIds = new HashMap<>();
+        private final List<TaskCreateRequestDTO> chunk = new ArrayList<>();
+        private final List<Long> chunkLines = new ArrayList<>();
+        private final List<TaskImportErrorDTO> errors = new ArrayList<>();
+        private long records;
+        private long imported;
+        private long failed;
+        private int chunks;
+        private long throttledMillis;
+
+        private ImportRun(TaskTransferFormat format, int chunkSize) {
+            this.format = format;
+            this.chunkSize = chunkSize;
+            for (PriorityType priorityType : referenceDataRegistry.getPriorityTypes()) {
+                priorityIds.put(priorityType.getType().toUpperCase(Locale.ROOT), priorityType.getId());
+            }
+            for (TaskStatusType taskStatusType : referenceDataRegistry.getTaskStatusTypes()) {
+                taskStatusIds.put(taskStatusType.getType().toUpperCase(Locale.ROOT), taskStatusType.getId());
+            }
+        }
+
+        private void accept(TaskImportRow row) {
+            records++;
+            if (row.getError() != null) {
+                fail(row.getLine(), row.getError());
+                return;
+            }
+
+            Long priorityId = row.getPriorityId();
+            if (priorityId == null && row.getPriorityType() != null) {
+                priorityId = priorityIds.get(row.getPriorityType().trim().toUpperCase(Locale.ROOT));
+                if (priorityId == null) {
+                    fail(row.getLine(), "Unknown priority: " + row.getPriorityType());
+                    return;
+                }
+            }
+            Long taskStatusId = row.getTaskStatusId();
+            if (taskStatusId == null && row.getTaskStatusType() != null) {
+                taskStatusId = taskStatusIds.get(row.getTaskStatusType().trim().toUpperCase(Locale.ROOT));
+                if (taskStatusId == null) {
+                    fail(row.getLine(), "Unknown task status: " + row.getTaskStatusType());
+                    return;
+                }
+            }
+
+            // Remaining validation is left to createTasks so imports and batches share the same rules
+            chunk.add(new TaskCreateRequestDTO(row.getTaskTitle(), row.getDescription(), priorityId, taskStatusId));
+            chunkLines.add(row.getLine());
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            throttledMillis += connectionPoolThrottle.awaitCapacity();
+            chunks++;
+            try {
+                TaskBatchResponseDTO batch = taskService.createTasks(new ArrayList<>(chunk));
+                for (TaskBatchItemResultDTO result : batch.getResults()) {
+                    if (result.isSuccess()) {
+                        imported++;
+                    } else {
+                        fail(chunkLines.get(result.getIndex()), result.getError());
+                    }
+                }
+            } catch (RuntimeException e) {
+                // The chunk's transaction rolled back; earlier chunks stay committed
+                LOGGER.error("Import chunk {} starting at line {} failed", chunks, chunkLines.get(0), e);
+                for (Long line : chunkLines) {
+                    fail(line, "Chunk failed: " + e.getMessage());
+                }
+            }
+            LOGGER.debug("Import chunk {} done, {} of {} records imported so far", chunks, imported, records);
+            chunk.clear();
+            chunkLines.clear();
+        }
+
+        private void fail(long line, String error) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new TaskImportErrorDTO(line, error));
+            }
+        }
+
+        private TaskImportResponseDTO toResponse() {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            double tasksPerSecond = elapsedNanos == 0 ? 0 : imported * 1_000_000_000.0 / elapsedNanos;
+            return new TaskImportResponseDTO(format, records, imported, failed, chunks, elapsedNanos / 1_000_000,
+                    tasksPerSecond, throttledMillis, errors, failed > errors.size());
+        }
+    }
+}
@@ -1,49 +1,108 @@
 package com.dilshan.coveragex.service.impl;
 
+import com.dilshan.coveragex.cache.TaskChangeSequence;
+import com.dilshan.coveragex.cache.TaskCountCache;
+import com.dilshan.coveragex.cache.TaskStatisticsCounters;
 import com.dilshan.coveragex.dto.*;
 import com.dilshan.coveragex.entity.PriorityType;
 import com.dilshan.coveragex.entity.Task;
 import com.dilshan.coveragex.entity.TaskStatusType;
+import com.dilshan.coveragex.exception.PriorityTypeNotFoundException;
 import com.dilshan.coveragex.exception.TaskNotFoundException;
+import com.dilshan.coveragex.exception.TaskPreconditionFailedException;
+import com.dilshan.coveragex.exception.TaskStatusTypeNotFoundException;
+import com.dilshan.coveragex.feed.TaskChangeLog;
+import com.dilshan.coveragex.mapper.TaskMapper;
+import com.dilshan.coveragex.repository.FullTextSearchSupport;
 import com.dilshan.coveragex.repository.TaskRepository;
+import com.dilshan.coveragex.search.InvertedIndex;
+import com.dilshan.coveragex.search.TaskSearchIndex;
 import com.dilshan.coveragex.service.PriorityTypeService;
 import com.dilshan.coveragex.service.TaskService;
 import com.dilshan.coveragex.service.TaskStatusTypeService;
-import org.modelmapper.ModelMapper;
+import com.dilshan.coveragex.stream.TaskEventBroadcaster;
+import com.dilshan.coveragex.util.TaskCursor;
+import com.dilshan.coveragex.util.TransactionCallbacks;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.HashMap;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+// One timer per method, tagged with class and method, under app.service.invocations
+@Timed("app.service.invocations")
 @Service
 @Transactional
 public class TaskServiceImpl implements TaskService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TaskServiceImpl.class);
+    private static final int MAX_BATCH_SIZE = 5000;
+    private static final int BULK_CHUNK_SIZE = 1000;
 
     private final TaskRepository taskRepository;
     private final PriorityTypeService priorityTypeService;
     private final TaskStatusTypeService taskStatusTypeService;
-    private final ModelMapper modelMapper;
+    private final TaskMapper taskMapper;
+    private final TaskCountCache taskCountCache;
+    private final FullTextSearchSupport fullTextSearchSupport;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskStatisticsCounters taskStatisticsCounters;
+    private final TaskChangeSequence taskChangeSequence;
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    private final TaskChangeLog taskChangeLog;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
 
     @Autowired
     public TaskServiceImpl(TaskRepository taskRepository,
                            PriorityTypeService priorityTypeService,
                            TaskStatusTypeService taskStatusTypeService,
-                           ModelMapper modelMapper) {
+                           TaskMapper taskMapper,
+                           TaskCountCache taskCountCache,
+                           FullTextSearchSupport fullTextSearchSupport,
+                           TaskSearchIndex taskSearchIndex,
+                           TaskStatisticsCounters taskStatisticsCounters,
+                           TaskChangeSequence taskChangeSequence,
+                           TaskEventBroadcaster taskEventBroadcaster,
+                           TaskChangeLog taskChangeLog,
+                           Validator validator,
+                           TransactionTemplate transactionTemplate) {
         this.taskRepository = taskRepository;
         this.priorityTypeService = priorityTypeService;
         this.taskStatusTypeService = taskStatusTypeService;
-        this.modelMapper = modelMapper;
+        this.taskMapper = taskMapper;
+        this.taskCountCache = taskCountCache;
+        this.fullTextSearchSupport = fullTextSearchSupport;
+        this.taskSearchIndex = taskSearchIndex;
+        this.taskStatisticsCounters = taskStatisticsCounters;
+        this.taskChangeSequence = taskChangeSequence;
+        this.taskEventBroadcaster = taskEventBroadcaster;
+        this.taskChangeLog = taskChangeLog;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
     }
 
     @Override
@@ -63,10 +122,83 @@ public class TaskServiceImpl implements TaskService {
 
         // Save task
         Task savedTask = taskRepository.save(task);
+        taskSearchIndex.indexAfterCommit(savedTask.getId(), savedTask.getTaskTitle(), savedTask.getDescription());
+        taskStatisticsCounters.taskCreatedAfterCommit(taskStatus.getType(), priority.getType());
+        taskChangeLog.record(savedTask.getId());
+        TaskResponseDTO createdTask = taskMapper.toResponseDTO(savedTask);
+        taskEventBroadcaster.publishAfterCommit(() -> TaskEventDTO.created(createdTask));
 
         LOGGER.info("Successfully created task with ID: {}", savedTask.getId());
 
-        return modelMapper.map(savedTask, TaskResponseDTO.class);
+        return createdTask;
+    }
+
+    @Override
+    public TaskBatchResponseDTO createTasks(List<TaskCreateRequestDTO> createRequestDTOs) {
+        LOGGER.info("Creating batch of {} tasks", createRequestDTOs.size());
+
+        if (createRequestDTOs.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch cannot contain more than " + MAX_BATCH_SIZE + " tasks");
+        }
+
+        long start = System.nanoTime();
+        List<TaskBatchItemResultDTO> results = new ArrayList<>(createRequestDTOs.size());
+        List<Task> tasks = new ArrayList<>();
+        List<TaskBatchItemResultDTO> pendingResults = new ArrayList<>();
+
+        // Validate every item up front; reference types come from the in-memory registry
+        for (int index = 0; index < createRequestDTOs.size(); index++) {
+            TaskCreateRequestDTO createRequestDTO = createRequestDTOs.get(index);
+            TaskBatchItemResultDTO result = new TaskBatchItemResultDTO(index, false, null, null);
+            results.add(result);
+
+            String error = validate(createRequestDTO);
+            if (error != null) {
+                result.setError(error);
+                continue;
+            }
+
+            try {
+                Task task = new Task();
+                task.setTaskTitle(createRequestDTO.getTaskTitle());
+                task.setDescription(createRequestDTO.getDescription());
+                task.setPriority(priorityTypeService.getPriorityTypeEntityById(createRequestDTO.getPriorityId()));
+                task.setTaskStatus(taskStatusTypeService.getTaskStatusTypeEntityById(createRequestDTO.getTaskStatusId()));
+                tasks.add(task);
+                pendingResults.add(result);
+            } catch (PriorityTypeNotFoundException | TaskStatusTypeNotFoundException e) {
+                result.setError(e.getMessage());
+            }
+        }
+
+        List<Task> savedTasks = taskRepository.insertAll(tasks);
+        TaskEventDTO.DeltaBuilder statisticsDelta = new TaskEventDTO.DeltaBuilder();
+        for (int i = 0; i < savedTasks.size(); i++) {
+            Task savedTask = savedTasks.get(i);
+            TaskBatchItemResultDTO result = pendingResults.get(i);
+            result.setSuccess(true);
+            result.setId(savedTask.getId());
+            taskSearchIndex.indexAfterCommit(savedTask.getId(), savedTask.getTaskTitle(), savedTask.getDescription());
+            taskStatisticsCounters.taskCreatedAfterCommit(savedTask.getTaskStatus().getType(), savedTask.getPriority().getType());
+            statisticsDelta.add(savedTask.getTaskStatus().getType(), savedTask.getPriority().getType(), 1);
+        }
+        if (!savedTasks.isEmpty()) {
+            taskChangeLog.record(savedTasks.stream().map(Task::getId).toList());
+            // A batch (or an import chunk) can move any cached total by far more than the TTL is meant to hide
+            TransactionCallbacks.afterCommit(taskCountCache::invalidateAll);
+            // One event for the whole batch rather than one per task
+            taskEventBroadcaster.publishAfterCommit(() -> TaskEventDTO.bulk(savedTasks.size(), statisticsDelta.build()));
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        double tasksPerSecond = savedTasks.isEmpty() ? 0 : savedTasks.size() * 1_000_000_000d / elapsedNanos;
+        int failed = createRequestDTOs.size() - savedTasks.size();
+
+        LOGGER.info("Created {} of {} tasks in {} ms ({} tasks/s)",
+                savedTasks.size(), createRequestDTOs.size(), elapsedNanos / 1_000_000, Math.round(tasksPerSecond));
+
+        return new TaskBatchResponseDTO(createRequestDTOs.size(), savedTasks.size(), failed,
+                elapsedNanos / 1_000_000, tasksPerSecond, results);
     }
 
     @Override
@@ -78,12 +210,12 @@ public class TaskServiceImpl implements TaskService {
         Sort.Direction direction = Sort.Direction.fromString(sortDirection);
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
-        Page<Task> taskPage = taskRepository.findAll(pageable);
+        Page<TaskResponseDTO> taskPage = taskRepository.findProjectedTasksWithFilters(null, null, null, pageable);
 
         LOGGER.info("Found {} tasks on page {} of {}",
                 taskPage.getNumberOfElements(), taskPage.getNumber() + 1, taskPage.getTotalPages());
 
-        return taskPage.map(task -> modelMapper.map(task, TaskResponseDTO.class));
+        return taskPage;
     }
 
     @Override
@@ -91,20 +223,30 @@ public class TaskServiceImpl implements TaskService {
     public TaskResponseDTO getTaskById(Long id) {
         LOGGER.info("Fetching task with ID: {}", id);
 
-        Task task = taskRepository.findById(id)
+        TaskResponseDTO task = taskRepository.findProjectedById(id)
                 .orElseThrow(() -> TaskNotFoundException.forId(id));
 
         LOGGER.info("Found task: {}", task.getTaskTitle());
 
-        return modelMapper.map(task, TaskResponseDTO.class);
+        return task;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Long getTaskVersion(Long id) {
+        return taskRepository.findVersionById(id)
+                .orElseThrow(() -> TaskNotFoundException.forId(id));
     }
 
     @Override
-    public TaskResponseDTO updateTask(Long id, TaskUpdateRequestDTO updateRequestDTO) {
+    public TaskResponseDTO updateTask(Long id, TaskUpdateRequestDTO updateRequestDTO, Long expectedVersion) {
         LOGGER.info("Updating task with ID: {}", id);
 
         Task existingTask = taskRepository.findById(id)
                 .orElseThrow(() -> TaskNotFoundException.forId(id));
+        checkVersion(existingTask, expectedVersion);
+        String previousStatus = existingTask.getTaskStatus().getType();
+        String previousPriority = existingTask.getPriority().getType();
 
         // Update fields if provided
         if (updateRequestDTO.getTaskTitle() != null && !updateRequestDTO.getTaskTitle().trim().isEmpty()) {
@@ -125,29 +267,249 @@ public class TaskServiceImpl implements TaskService {
             existingTask.setTaskStatus(taskStatus);
         }
 
-        Task updatedTask = taskRepository.save(existingTask);
+        // Flushed so the returned version (and ETag) reflects this write
+        Task updatedTask = taskRepository.saveAndFlush(existingTask);
+        taskSearchIndex.indexAfterCommit(updatedTask.getId(), updatedTask.getTaskTitle(), updatedTask.getDescription());
+        taskStatisticsCounters.taskMovedAfterCommit(previousStatus, previousPriority,
+                updatedTask.getTaskStatus().getType(), updatedTask.getPriority().getType());
+        taskChangeLog.record(updatedTask.getId());
+        TaskResponseDTO updatedTaskDTO = taskMapper.toResponseDTO(updatedTask);
+        taskEventBroadcaster.publishAfterCommit(() -> TaskEventDTO.changed(updatedTaskDTO, previousStatus, previousPriority));
 
         LOGGER.info("Successfully updated task with ID: {}", updatedTask.getId());
 
-        return modelMapper.map(updatedTask, TaskResponseDTO.class);
+        return updatedTaskDTO;
     }
 
+    /**
+     * Applies a JSON Merge Patch (RFC 7386) to a task. Only taskTitle, description, priorityId and taskStatusId
+     * may be patched; a null description removes it. Fields equal to the current value are ignored, and a patch
+     * that changes nothing skips the write entirely, leaving lastStatusChangeDate untouched.
+     */
     @Override
-    public void deleteTask(Long id) {
+    public TaskResponseDTO patchTask(Long id, JsonNode mergePatch, Long expectedVersion) {
+        LOGGER.info("Patching task with ID: {}", id);
+
+        if (mergePatch == null || !mergePatch.isObject()) {
+            throw new IllegalArgumentException("Merge patch must be a JSON object");
+        }
+
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> TaskNotFoundException.forId(id));
+        checkVersion(task, expectedVersion);
+        String previousStatus = task.getTaskStatus().getType();
+        String previousPriority = task.getPriority().getType();
+        boolean changed = false;
+
+        Iterator<Map.Entry<String, JsonNode>> fields = mergePatch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            switch (field.getKey()) {
+                case "taskTitle" -> {
+                    if (!value.isTextual() || value.asText().isBlank()) {
+                        throw new IllegalArgumentException("taskTitle must be a non-blank string");
+                    }
+                    if (value.asText().length() > 255) {
+                        throw new IllegalArgumentException("Task title must be between 1 and 255 characters");
+                    }
+                    if (!value.asText().equals(task.getTaskTitle())) {
+                        task.setTaskTitle(value.asText());
+                        changed = true;
+                    }
+                }
+                case "description" -> {
+                    if (!value.isNull() && !value.isTextual()) {
+                        throw new IllegalArgumentException("description must be a string or null");
+                    }
+                    String description = value.isNull() ? null : value.asText();
+                    if (description != null && description.length() > 1000) {
+                        throw new IllegalArgumentException("Description cannot exceed 1000 characters");
+                    }
+                    if (!Objects.equals(description, task.getDescription())) {
+                        task.setDescription(description);
+                        changed = true;
+                    }
+                }
+                case "priorityId" -> {
+                    Long priorityId = patchedId(field.getKey(), value);
+                    if (!priorityId.equals(task.getPriority().getId())) {
+                        task.setPriority(priorityTypeService.getPriorityTypeEntityById(priorityId));
+                        changed = true;
+                    }
+                }
+                case "taskStatusId" -> {
+                    Long taskStatusId = patchedId(field.getKey(), value);
+                    if (!taskStatusId.equals(task.getTaskStatus().getId())) {
+                        task.setTaskStatus(taskStatusTypeService.getTaskStatusTypeEntityById(taskStatusId));
+                        changed = true;
+                    }
+                }
+                default -> throw new IllegalArgumentException("Field cannot be patched: " + field.getKey());
+            }
+        }
+
+        if (!changed) {
+            LOGGER.info("Patch for task with ID: {} changes nothing, skipping update", id);
+            return taskMapper.toResponseDTO(task);
+        }
+
+        // Only the changed columns are written, see @DynamicUpdate on Task
+        Task patchedTask = taskRepository.saveAndFlush(task);
+        taskSearchIndex.indexAfterCommit(patchedTask.getId(), patchedTask.getTaskTitle(), patchedTask.getDescription());
+        taskStatisticsCounters.taskMovedAfterCommit(previousStatus, previousPriority,
+                patchedTask.getTaskStatus().getType(), patchedTask.getPriority().getType());
+        taskChangeLog.record(patchedTask.getId());
+        TaskResponseDTO patchedTaskDTO = taskMapper.toResponseDTO(patchedTask);
+        taskEventBroadcaster.publishAfterCommit(() -> TaskEventDTO.changed(patchedTaskDTO, previousStatus, previousPriority));
+
+        LOGGER.info("Successfully patched task with ID: {}", patchedTask.getId());
+
+        return patchedTaskDTO;
+    }
+
+    private static void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw TaskPreconditionFailedException.forVersion(task.getId(), expectedVersion, task.getVersion());
+        }
+    }
+
+    private static Long patchedId(String fieldName, JsonNode value) {
+        if (!value.canConvertToLong() || !value.isIntegralNumber() || value.asLong() <= 0) {
+            throw new IllegalArgumentException(fieldName + " must be a positive integer");
+        }
+        return value.asLong();
+    }
+
+    @Override
+    public void deleteTask(Long id, Long expectedVersion) {
         LOGGER.info("Soft deleting task with ID: {}", id);
 
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> TaskNotFoundException.forId(id));
+        checkVersion(task, expectedVersion);
 
         // Find CLOSED status by type name to avoid hardcoding ID
         TaskStatusType closedStatus = taskStatusTypeService.getTaskStatusTypeEntityByType("CLOSED");
+        String previousStatus = task.getTaskStatus().getType();
         task.setTaskStatus(closedStatus);
 
-        taskRepository.save(task);
+        Task closedTask = taskRepository.saveAndFlush(task);
+        taskStatisticsCounters.taskMovedAfterCommit(previousStatus, task.getPriority().getType(),
+                closedStatus.getType(), task.getPriority().getType());
+        taskChangeLog.record(closedTask.getId());
+        taskEventBroadcaster.publishAfterCommit(() -> TaskEventDTO.changed(taskMapper.toResponseDTO(closedTask),
+                previousStatus, closedTask.getPriority().getType()));
 
         LOGGER.info("Successfully soft deleted task with ID: {}", id);
     }
 
+    @Override
+    public TaskBulkResponseDTO updateTaskStatuses(List<Long> ids, Long taskStatusId) {
+        LOGGER.info("Bulk updating status of {} tasks to status ID: {}", ids.size(), taskStatusId);
+
+        if (taskStatusId == null) {
+            throw new IllegalArgumentException("Task status ID is required");
+        }
+        TaskStatusType taskStatus = taskStatusTypeService.getTaskStatusTypeEntityById(taskStatusId);
+        TaskBulkResponseDTO result = updateStatusInChunks(ids, taskStatus);
+
+        LOGGER.info("Successfully updated status of {} of {} tasks", result.getAffected(), result.getRequested());
+
+        return result;
+    }
+
+    @Override
+    public TaskBulkResponseDTO updateTaskPriorities(List<Long> ids, Long priorityId) {
+        LOGGER.info("Bulk updating priority of {} tasks to priority ID: {}", ids.size(), priorityId);
+
+        if (priorityId == null) {
+            throw new IllegalArgumentException("Priority ID is required");
+        }
+        PriorityType priority = priorityTypeService.getPriorityTypeEntityById(priorityId);
+        List<Long> distinctIds = distinctBulkIds(ids);
+
+        int affected = 0;
+        for (int from = 0; from < distinctIds.size(); from += BULK_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, distinctIds.size()));
+            affected += applyPriorityChange(chunk, priority);
+        }
+
+        LOGGER.info("Successfully updated priority of {} of {} tasks", affected, distinctIds.size());
+
+        return new TaskBulkResponseDTO(distinctIds.size(), affected);
+    }
+
+    @Override
+    public TaskBulkResponseDTO deleteTasks(List<Long> ids) {
+        LOGGER.info("Bulk soft deleting {} tasks", ids.size());
+
+        TaskStatusType closedStatus = taskStatusTypeService.getTaskStatusTypeEntityByType("CLOSED");
+        TaskBulkResponseDTO result = updateStatusInChunks(ids, closedStatus);
+
+        LOGGER.info("Successfully soft deleted {} of {} tasks", result.getAffected(), result.getRequested());
+
+        return result;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TaskFilterUpdateResponseDTO updateTasksByFilter(Long statusId, Long priorityId, String searchTerm,
+                                                           Long targetStatusId, Long targetPriorityId,
+                                                           boolean dryRun, int chunkSize) {
+        LOGGER.info("Updating tasks by filter - statusId: {}, priorityId: {}, searchTerm: {}, " +
+                        "targetStatusId: {}, targetPriorityId: {}, dryRun: {}, chunkSize: {}",
+                statusId, priorityId, searchTerm, targetStatusId, targetPriorityId, dryRun, chunkSize);
+
+        if ((targetStatusId == null) == (targetPriorityId == null)) {
+            throw new IllegalArgumentException("Exactly one of task status ID or priority ID is required");
+        }
+        if (chunkSize < 1 || chunkSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Chunk size must be between 1 and " + MAX_BATCH_SIZE);
+        }
+        TaskStatusType targetStatus = targetStatusId == null
+                ? null : taskStatusTypeService.getTaskStatusTypeEntityById(targetStatusId);
+        PriorityType targetPriority = targetPriorityId == null
+                ? null : priorityTypeService.getPriorityTypeEntityById(targetPriorityId);
+
+        long matched = taskRepository.countTasksToChange(statusId, priorityId, searchTerm, targetStatusId, targetPriorityId);
+        if (dryRun) {
+            LOGGER.info("Dry run: {} tasks would be updated", matched);
+            return new TaskFilterUpdateResponseDTO(true, matched, 0, 0);
+        }
+
+        // One short transaction per chunk, so row locks are held for at most chunkSize rows at a time
+        LocalDateTime changeDate = LocalDateTime.now();
+        long affected = 0;
+        int chunks = 0;
+        long lastId = 0;
+        while (true) {
+            long afterId = lastId;
+            // {last task ID, rows updated} of the chunk, or null once no task is left to change
+            long[] chunkResult = transactionTemplate.execute(transactionStatus -> {
+                List<Long> ids = taskRepository.findIdsToChangeAfter(statusId, priorityId, searchTerm,
+                        targetStatusId, targetPriorityId, afterId, PageRequest.of(0, chunkSize));
+                if (ids.isEmpty()) {
+                    return null;
+                }
+                int updated = targetStatus != null
+                        ? applyStatusChange(ids, targetStatus, changeDate)
+                        : applyPriorityChange(ids, targetPriority);
+                return new long[]{ids.get(ids.size() - 1), updated};
+            });
+            if (chunkResult == null) {
+                break;
+            }
+            chunks++;
+            lastId = chunkResult[0];
+            affected += chunkResult[1];
+        }
+
+        LOGGER.info("Successfully updated {} of {} matched tasks in {} chunks", affected, matched, chunks);
+
+        return new TaskFilterUpdateResponseDTO(false, matched, affected, chunks);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<TaskResponseDTO> getTasksByStatus(Long statusId, int page, int size, String sortBy, String sortDirection) {
@@ -156,11 +518,11 @@ public class TaskServiceImpl implements TaskService {
         Sort.Direction direction = Sort.Direction.fromString(sortDirection);
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
-        Page<Task> taskPage = taskRepository.findByTaskStatusId(statusId, pageable);
+        Page<TaskResponseDTO> taskPage = taskRepository.findProjectedTasksWithFilters(statusId, null, null, pageable);
 
         LOGGER.info("Found {} tasks with status ID: {}", taskPage.getTotalElements(), statusId);
 
-        return taskPage.map(task -> modelMapper.map(task, TaskResponseDTO.class));
+        return taskPage;
     }
 
     @Override
@@ -171,11 +533,11 @@ public class TaskServiceImpl implements TaskService {
         Sort.Direction direction = Sort.Direction.fromString(sortDirection);
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
-        Page<Task> taskPage = taskRepository.findByPriorityId(priorityId, pageable);
+        Page<TaskResponseDTO> taskPage = taskRepository.findProjectedTasksWithFilters(null, priorityId, null, pageable);
 
         LOGGER.info("Found {} tasks with priority ID: {}", taskPage.getTotalElements(), priorityId);
 
-        return taskPage.map(task -> modelMapper.map(task, TaskResponseDTO.class));
+        return taskPage;
     }
 
     @Override
@@ -186,13 +548,55 @@ public class TaskServiceImpl implements TaskService {
         Sort.Direction direction = Sort.Direction.fromString(sortDirection);
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
-        Page<Task> taskPage = taskRepository.searchByTitleOrDescription(searchTerm, pageable);
+        Page<TaskResponseDTO> taskPage = taskRepository.findProjectedTasksWithFilters(null, null, searchTerm, pageable);
 
         LOGGER.info("Found {} tasks matching search term: {}", taskPage.getTotalElements(), searchTerm);
 
-        return taskPage.map(task -> modelMapper.map(task, TaskResponseDTO.class));
+        return taskPage;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TaskResponseDTO> fullTextSearchTasks(String searchTerm, TaskSearchMode mode, int page, int size) {
+        LOGGER.info("Full-text searching tasks with term: {}, mode: {}", searchTerm, mode);
+
+        Pageable pageable = PageRequest.of(page, size);
+
+        if (mode == TaskSearchMode.INDEX && taskSearchIndex.isReady()) {
+            InvertedIndex.SearchHits hits = taskSearchIndex.search(searchTerm, page, size);
+            List<Long> ids = Arrays.stream(hits.getIds()).boxed().collect(Collectors.toList());
+
+            LOGGER.info("Found {} tasks in search index for term: {}", hits.getTotalHits(), searchTerm);
+
+            return new PageImpl<>(findProjectedInOrder(ids), pageable, hits.getTotalHits());
+        }
+
+        if (mode == TaskSearchMode.LIKE || mode == TaskSearchMode.INDEX || !fullTextSearchSupport.isAvailable()) {
+            LOGGER.debug("Ranked search not available for mode {}, falling back to LIKE search", mode);
+            return searchTasks(searchTerm, page, size, "createDate", "DESC");
+        }
+
+        Page<Long> idPage = mode == TaskSearchMode.BOOLEAN
+                ? taskRepository.fullTextSearchBooleanIds(searchTerm, pageable)
+                : taskRepository.fullTextSearchNaturalIds(searchTerm, pageable);
+
+        LOGGER.info("Found {} tasks matching full-text term: {}", idPage.getTotalElements(), searchTerm);
+
+        return new PageImpl<>(findProjectedInOrder(idPage.getContent()), pageable, idPage.getTotalElements());
     }
 
+    // Loads task projections by primary key, keeping the order of the given (ranked) IDs
+    private List<TaskResponseDTO> findProjectedInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, TaskResponseDTO> tasksById = taskRepository.findProjectedByIdIn(ids).stream()
+                .collect(Collectors.toMap(TaskResponseDTO::getId, Function.identity()));
+        return ids.stream()
+                .map(tasksById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
 
     @Override
     @Transactional(readOnly = true)
@@ -204,43 +608,189 @@ public class TaskServiceImpl implements TaskService {
         Sort.Direction direction = Sort.Direction.fromString(sortDirection);
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
-        Page<Task> taskPage = taskRepository.findTasksWithFilters(statusId, priorityId, searchTerm, pageable);
+        Page<TaskResponseDTO> taskPage = taskRepository.findProjectedTasksWithFilters(statusId, priorityId, searchTerm, pageable);
 
         LOGGER.info("Found {} tasks with applied filters", taskPage.getTotalElements());
 
-        return taskPage.map(task -> modelMapper.map(task, TaskResponseDTO.class));
+        return taskPage;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public TaskStatisticsResponseDTO getTaskStatistics() {
-        LOGGER.info("Generating task statistics");
+    public TaskSliceResponseDTO getTaskSlice(Long statusId, Long priorityId, String searchTerm,
+                                             int page, int size, String sortBy, String sortDirection,
+                                             boolean approximateTotal) {
+        LOGGER.info("Fetching task slice - statusId: {}, priorityId: {}, searchTerm: {}, approximateTotal: {}",
+                statusId, priorityId, searchTerm, approximateTotal);
 
-        Long totalTasks = taskRepository.count();
-        Long completedTasks = taskRepository.countCompletedTasks();
-        Long activeTasks = taskRepository.countActiveTasks();
+        Sort.Direction direction = Sort.Direction.fromString(sortDirection);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
-        // Get tasks by status
-        List<Object[]> statusCounts = taskRepository.countTasksByStatus();
-        Map<String, Long> tasksByStatus = new HashMap<>();
-        for (Object[] row : statusCounts) {
-            tasksByStatus.put((String) row[0], (Long) row[1]);
+        Slice<TaskResponseDTO> taskSlice = taskRepository.findTaskSliceWithFilters(statusId, priorityId, searchTerm, pageable);
+
+        Long total = null;
+        if (approximateTotal) {
+            total = taskCountCache.getOrCompute(statusId, priorityId, searchTerm,
+                    () -> taskRepository.countTasksWithFilters(statusId, priorityId, searchTerm));
         }
 
-        // Get tasks by priority
-        List<Object[]> priorityCounts = taskRepository.countTasksByPriority();
-        Map<String, Long> tasksByPriority = new HashMap<>();
-        for (Object[] row : priorityCounts) {
-            tasksByPriority.put((String) row[0], (Long) row[1]);
+        LOGGER.info("Found {} tasks in slice {}, hasNext: {}",
+                taskSlice.getNumberOfElements(), taskSlice.getNumber(), taskSlice.hasNext());
+
+        return new TaskSliceResponseDTO(taskSlice.getContent(), taskSlice.getNumber(), taskSlice.getSize(),
+                taskSlice.hasNext(), total);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskCursorPageResponseDTO getTasksByCursor(Long statusId, Long priorityId, String searchTerm,
+                                                      String cursor, int size, String sortDirection) {
+        LOGGER.info("Fetching tasks by cursor - statusId: {}, priorityId: {}, searchTerm: {}, size: {}, direction: {}",
+                statusId, priorityId, searchTerm, size, sortDirection);
+
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+
+        Sort.Direction direction = Sort.Direction.fromString(sortDirection);
+        // Fetch one extra row to find out whether another page exists without counting
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<TaskResponseDTO> tasks;
+        if (cursor == null || cursor.isBlank()) {
+            tasks = direction.isAscending()
+                    ? taskRepository.seekTasksAsc(statusId, priorityId, searchTerm, limit)
+                    : taskRepository.seekTasksDesc(statusId, priorityId, searchTerm, limit);
+        } else {
+            TaskCursor position = TaskCursor.decode(cursor);
+            tasks = direction.isAscending()
+                    ? taskRepository.seekTasksAscAfter(statusId, priorityId, searchTerm,
+                            position.getCreateDate(), position.getId(), limit)
+                    : taskRepository.seekTasksDescAfter(statusId, priorityId, searchTerm,
+                            position.getCreateDate(), position.getId(), limit);
         }
 
-        TaskStatisticsResponseDTO statistics = new TaskStatisticsResponseDTO(
-                totalTasks, tasksByStatus, tasksByPriority, completedTasks, activeTasks
-        );
+        boolean hasNext = tasks.size() > size;
+        List<TaskResponseDTO> content = hasNext ? tasks.subList(0, size) : tasks;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TaskResponseDTO last = content.get(content.size() - 1);
+            nextCursor = TaskCursor.of(last.getCreateDate(), last.getId()).encode();
+        }
+
+        LOGGER.info("Found {} tasks by cursor, hasNext: {}", content.size(), hasNext);
+
+        return new TaskCursorPageResponseDTO(content, size, hasNext, nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskStatisticsResponseDTO getTaskStatistics() {
+        LOGGER.info("Generating task statistics");
+
+        // Served from the in-memory counters once seeded, otherwise aggregated in a single query
+        List<Object[]> cells = taskStatisticsCounters.isReady()
+                ? taskStatisticsCounters.snapshot()
+                : taskRepository.countTasksByStatusAndPriority();
+        TaskStatisticsResponseDTO statistics = TaskStatisticsResponseDTO.fromStatusPriorityCounts(cells);
 
         LOGGER.info("Generated statistics - Total: {}, Completed: {}, Active: {}",
-                totalTasks, completedTasks, activeTasks);
+                statistics.getTotalTasks(), statistics.getCompletedTasks(), statistics.getActiveTasks());
 
         return statistics;
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SearchIndexStatusResponseDTO getSearchIndexStatus() {
+        LOGGER.info("Checking search index consistency");
+        return taskSearchIndex.checkConsistency();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SearchIndexStatusResponseDTO rebuildSearchIndex() {
+        LOGGER.info("Rebuilding search index on request");
+        taskSearchIndex.rebuild();
+        return taskSearchIndex.checkConsistency();
+    }
+
+    private String validate(TaskCreateRequestDTO createRequestDTO) {
+        if (createRequestDTO == null) {
+            return "Task is required";
+        }
+        Set<ConstraintViolation<TaskCreateRequestDTO>> violations = validator.validate(createRequestDTO);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private TaskBulkResponseDTO updateStatusInChunks(List<Long> ids, TaskStatusType taskStatus) {
+        List<Long> distinctIds = distinctBulkIds(ids);
+        LocalDateTime changeDate = LocalDateTime.now();
+
+        int affected = 0;
+        for (int from = 0; from < distinctIds.size(); from += BULK_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, distinctIds.size()));
+            affected += applyStatusChange(chunk, taskStatus, changeDate);
+        }
+        return new TaskBulkResponseDTO(distinctIds.size(), affected);
+    }
+
+    private int applyStatusChange(List<Long> ids, TaskStatusType taskStatus, LocalDateTime changeDate) {
+        // The per-cell counts are only queried when the counters or a stream subscriber need them
+        TaskEventDTO.DeltaBuilder statisticsDelta = new TaskEventDTO.DeltaBuilder();
+        if (taskStatisticsCounters.isReady() || taskEventBroadcaster.hasSubscribers()) {
+            for (Object[] row : taskRepository.countStatusChangesByCell(ids, taskStatus.getId())) {
+                taskStatisticsCounters.tasksMovedAfterCommit((String) row[0], (String) row[1],
+                        taskStatus.getType(), (String) row[1], (Long) row[2]);
+                statisticsDelta.move((String) row[0], (String) row[1], taskStatus.getType(), (String) row[1], (Long) row[2]);
+            }
+        }
+        int updated = taskRepository.updateStatusByIdIn(ids, taskStatus, changeDate);
+        if (updated > 0) {
+            // Bulk JPQL updates skip the entity listener that advances the sequence
+            taskChangeSequence.advanceAfterCommit();
+            // Tasks of the chunk that already had the status are logged too; an extra upsert is harmless to readers
+            taskChangeLog.record(ids);
+            TransactionCallbacks.afterCommit(taskCountCache::invalidateAll);
+            taskEventBroadcaster.publishAfterCommit(() -> TaskEventDTO.bulk(updated, statisticsDelta.build()));
+        }
+        return updated;
+    }
+
+    private int applyPriorityChange(List<Long> ids, PriorityType priority) {
+        TaskEventDTO.DeltaBuilder statisticsDelta = new TaskEventDTO.DeltaBuilder();
+        if (taskStatisticsCounters.isReady() || taskEventBroadcaster.hasSubscribers()) {
+            for (Object[] row : taskRepository.countPriorityChangesByCell(ids, priority.getId())) {
+                taskStatisticsCounters.tasksMovedAfterCommit((String) row[0], (String) row[1],
+                        (String) row[0], priority.getType(), (Long) row[2]);
+                statisticsDelta.move((String) row[0], (String) row[1], (String) row[0], priority.getType(), (Long) row[2]);
+            }
+        }
+        int updated = taskRepository.updatePriorityByIdIn(ids, priority);
+        if (updated > 0) {
+            taskChangeSequence.advanceAfterCommit();
+            taskChangeLog.record(ids);
+            TransactionCallbacks.afterCommit(taskCountCache::invalidateAll);
+            taskEventBroadcaster.publishAfterCommit(() -> TaskEventDTO.bulk(updated, statisticsDelta.build()));
+        }
+        return updated;
+    }
+
+    private List<Long> distinctBulkIds(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinctIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one task ID is required");
+        }
+        if (distinctIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Bulk operations cannot exceed " + MAX_BATCH_SIZE + " tasks");
+        }
+        return distinctIds;
+    }
 }
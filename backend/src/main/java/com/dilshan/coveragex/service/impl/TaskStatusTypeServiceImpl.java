@@ -1,93 +1,91 @@
 package com.dilshan.coveragex.service.impl;
 
+import com.dilshan.coveragex.cache.ReferenceDataRegistry;
 import com.dilshan.coveragex.dto.TaskStatusTypeResponseDTO;
 import com.dilshan.coveragex.entity.TaskStatusType;
 import com.dilshan.coveragex.exception.TaskStatusTypeNotFoundException;
-import com.dilshan.coveragex.repository.TaskStatusTypeRepository;
+import com.dilshan.coveragex.mapper.TaskStatusTypeMapper;
 import com.dilshan.coveragex.service.TaskStatusTypeService;
-import org.modelmapper.ModelMapper;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
+/**
+ * Answers from the cached status types in {@link ReferenceDataRegistry} and declares no transaction, so
+ * GET /api/task-status-types never takes a connection and lookups made by TaskServiceImpl add no transaction work.
+ */
+@Timed("app.service.invocations")
 @Service
-@Transactional
 public class TaskStatusTypeServiceImpl implements TaskStatusTypeService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TaskStatusTypeServiceImpl.class);
 
-    private final TaskStatusTypeRepository taskStatusTypeRepository;
-    private final ModelMapper modelMapper;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final TaskStatusTypeMapper taskStatusTypeMapper;
 
     @Autowired
-    public TaskStatusTypeServiceImpl(TaskStatusTypeRepository taskStatusTypeRepository, ModelMapper modelMapper) {
-        this.taskStatusTypeRepository = taskStatusTypeRepository;
-        this.modelMapper = modelMapper;
+    public TaskStatusTypeServiceImpl(ReferenceDataRegistry referenceDataRegistry, TaskStatusTypeMapper taskStatusTypeMapper) {
+        this.referenceDataRegistry = referenceDataRegistry;
+        this.taskStatusTypeMapper = taskStatusTypeMapper;
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<TaskStatusTypeResponseDTO> getAllTaskStatusTypes() {
         LOGGER.info("Fetching all task status types");
 
-        List<TaskStatusType> taskStatusTypes = taskStatusTypeRepository.findAll();
+        List<TaskStatusType> taskStatusTypes = referenceDataRegistry.getTaskStatusTypes();
         LOGGER.info("Found {} task status types", taskStatusTypes.size());
 
         return taskStatusTypes.stream()
-                .map(taskStatusType -> modelMapper.map(taskStatusType, TaskStatusTypeResponseDTO.class))
+                .map(taskStatusTypeMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
     @Override
-    @Transactional(readOnly = true)
     public TaskStatusTypeResponseDTO getTaskStatusTypeById(Long id) {
         LOGGER.info("Fetching task status type with ID: {}", id);
 
-        TaskStatusType taskStatusType = taskStatusTypeRepository.findById(id)
+        TaskStatusType taskStatusType = referenceDataRegistry.findTaskStatusTypeById(id)
                 .orElseThrow(() -> TaskStatusTypeNotFoundException.forId(id));
 
         LOGGER.info("Found task status type: {}", taskStatusType.getType());
-        return modelMapper.map(taskStatusType, TaskStatusTypeResponseDTO.class);
+        return taskStatusTypeMapper.toResponseDTO(taskStatusType);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public TaskStatusType getTaskStatusTypeEntityById(Long id) {
         LOGGER.debug("Fetching task status type entity with ID: {}", id);
 
-        return taskStatusTypeRepository.findById(id)
+        return referenceDataRegistry.findTaskStatusTypeById(id)
                 .orElseThrow(() -> TaskStatusTypeNotFoundException.forId(id));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public TaskStatusTypeResponseDTO getTaskStatusTypeByType(String type) {
         LOGGER.info("Fetching task status type with type: {}", type);
 
-        TaskStatusType taskStatusType = taskStatusTypeRepository.findByType(type)
+        TaskStatusType taskStatusType = referenceDataRegistry.findTaskStatusTypeByType(type)
                 .orElseThrow(() -> new TaskStatusTypeNotFoundException("Task status type not found with type: " + type));
 
-        return modelMapper.map(taskStatusType, TaskStatusTypeResponseDTO.class);
+        return taskStatusTypeMapper.toResponseDTO(taskStatusType);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public TaskStatusType getTaskStatusTypeEntityByType(String type) {
         LOGGER.debug("Fetching task status type entity with type: {}", type);
 
-        return taskStatusTypeRepository.findByType(type)
+        return referenceDataRegistry.findTaskStatusTypeByType(type)
                 .orElseThrow(() -> new TaskStatusTypeNotFoundException("Task status type not found with type: " + type));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public boolean existsById(Long id) {
         LOGGER.debug("Checking if task status type exists with ID: {}", id);
-        return taskStatusTypeRepository.existsById(id);
+        return referenceDataRegistry.existsTaskStatusTypeById(id);
     }
 }
@@ -0,0 +1,304 @@
+package com.dilshan.coveragex.stream;
+
+import com.dilshan.coveragex.dto.TaskEventDTO;
+import com.dilshan.coveragex.exception.TaskStreamUnavailableException;
+import com.dilshan.coveragex.util.TransactionCallbacks;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Fans committed task events out to the Server-Sent Events subscribers of GET /api/tasks/stream.
+ * Writers only ever offer to a bounded per-subscriber queue, so a slow client can never hold up a transaction:
+ * when its queue is full the pending events are coalesced into a single RESYNC event, and a subscriber that
+ * overflows again before that RESYNC was even sent is dropped. Queues are drained on a small sender pool,
+ * at most one drain per subscriber at a time, so each subscriber sees its events in commit order.
+ * Writes happen on separate writer threads and a sender waits for each one only up to the send timeout,
+ * so a client that stops reading is dropped instead of holding a sender; emitters are only completed by
+ * those threads, never by the publishing request thread.
+ * Events are published by the node that committed the write and subscribers are held in that node's memory,
+ * so with several nodes a client hears only about writes that went through the node holding its connection;
+ * GET /api/tasks/changes, read from the database, is the way to catch up across nodes.
+ */
+@Component
+public class TaskEventBroadcaster {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskEventBroadcaster.class);
+
+    private final int queueCapacity;
+    private final int maxSubscribers;
+    private final Duration timeout;
+    private final Duration sendTimeout;
+    private final Executor senders;
+    private final Executor writers;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong eventIds = new AtomicLong();
+
+    @Autowired
+    public TaskEventBroadcaster(@Value("${app.tasks.events.queue-capacity:256}") int queueCapacity,
+                                @Value("${app.tasks.events.max-subscribers:1000}") int maxSubscribers,
+                                @Value("${app.tasks.events.timeout:PT30M}") Duration timeout,
+                                @Value("${app.tasks.events.send-timeout:PT10S}") Duration sendTimeout,
+                                @Value("${app.tasks.events.sender-threads:4}") int senderThreads) {
+        this(queueCapacity, maxSubscribers, timeout, sendTimeout,
+                Executors.newFixedThreadPool(senderThreads, daemonThreads("task-events-")),
+                // Unbounded, but a writer only stays blocked while its client's socket is stalled, and such a
+                // client is dropped after one timed-out write, so there is at most one stuck writer per client
+                Executors.newCachedThreadPool(daemonThreads("task-events-writer-")));
+    }
+
+    TaskEventBroadcaster(int queueCapacity, int maxSubscribers, Duration timeout, Duration sendTimeout,
+                         Executor senders, Executor writers) {
+        this.queueCapacity = queueCapacity;
+        this.maxSubscribers = maxSubscribers;
+        this.timeout = timeout;
+        this.sendTimeout = sendTimeout;
+        this.senders = senders;
+        this.writers = writers;
+    }
+
+    private static ThreadFactory daemonThreads(String namePrefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Registers a new subscriber. Its first event is a RESYNC, so a client that reconnects after a gap reloads.
+     */
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter subscribe(SseEmitter emitter) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new TaskStreamUnavailableException("Task event stream is at its limit of " + maxSubscribers
+                    + " subscribers");
+        }
+        Subscriber subscriber = new Subscriber(emitter, queueCapacity);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        subscriber.resyncPending.set(true);
+        schedule(subscriber);
+        LOGGER.info("Task event subscriber added, {} subscribers", subscribers.size());
+        return emitter;
+    }
+
+    public boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Publishes the event once the current transaction commits; rolled-back writes are never announced.
+     * The event is only built when someone is subscribed.
+     */
+    public void publishAfterCommit(Supplier<TaskEventDTO> event) {
+        if (hasSubscribers()) {
+            TransactionCallbacks.afterCommit(() -> publish(event.get()));
+        }
+    }
+
+    void publish(TaskEventDTO event) {
+        Envelope envelope = new Envelope(eventIds.incrementAndGet(), event);
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.queue.offer(envelope)) {
+                if (subscriber.resyncPending.getAndSet(true)) {
+                    // Its sender completes the emitter: complete() would wait here for a write stuck on that client
+                    drop(subscriber);
+                } else {
+                    // Everything queued is superseded by the RESYNC the subscriber gets next
+                    subscriber.queue.clear();
+                }
+            }
+            schedule(subscriber);
+        }
+    }
+
+    /**
+     * Comment frame that keeps idle connections open through proxies and detects clients that went away.
+     */
+    @Scheduled(fixedRateString = "${app.tasks.events.heartbeat-interval:PT15S}",
+               initialDelayString = "${app.tasks.events.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatPending.set(true);
+            schedule(subscriber);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (senders instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+        for (Subscriber subscriber : subscribers) {
+            complete(subscriber);
+        }
+        subscribers.clear();
+        if (writers instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            while (!subscriber.dropped && subscribers.contains(subscriber)) {
+                if (subscriber.resyncPending.get()) {
+                    subscriber.queue.clear();
+                    send(subscriber, event(new Envelope(eventIds.get(), TaskEventDTO.resync())));
+                    subscriber.resyncPending.set(false);
+                    continue;
+                }
+                Envelope envelope = subscriber.queue.poll();
+                if (envelope != null) {
+                    send(subscriber, event(envelope));
+                } else if (subscriber.heartbeatPending.getAndSet(false)) {
+                    send(subscriber, SseEmitter.event().comment("heartbeat"));
+                } else {
+                    break;
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The container completes the emitter on a failed write; just stop sending to it
+            LOGGER.debug("Task event subscriber went away: {}", e.getMessage());
+            subscribers.remove(subscriber);
+        } catch (TimeoutException e) {
+            LOGGER.debug("Task event write did not finish within {}", sendTimeout);
+            drop(subscriber);
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (subscriber.dropped) {
+            complete(subscriber);
+        } else if (subscribers.contains(subscriber)
+                && (!subscriber.queue.isEmpty() || subscriber.resyncPending.get())) {
+            // An event offered between the last poll and clearing the flag would otherwise wait for the next one
+            schedule(subscriber);
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder event(Envelope envelope) {
+        return SseEmitter.event()
+                .id(Long.toString(envelope.id()))
+                .name(envelope.event().getType().name().toLowerCase(Locale.ROOT))
+                .data(envelope.event(), MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * Writes on a writer thread and waits at most the send timeout for it. A write that times out is left
+     * blocked on its writer until the container gives up on the socket; the sender moves on either way.
+     */
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException, TimeoutException {
+        FutureTask<Void> write = new FutureTask<>(() -> {
+            subscriber.emitter.send(event);
+            return null;
+        });
+        try {
+            writers.execute(write);
+            write.get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            throw new IllegalStateException("Task event writers are shut down", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while sending a task event", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            write.cancel(true);
+            throw e;
+        }
+    }
+
+    private void drop(Subscriber subscriber) {
+        subscriber.dropped = true;
+        if (subscribers.remove(subscriber)) {
+            LOGGER.warn("Dropped task event subscriber that stopped reading, {} subscribers left", subscribers.size());
+        }
+    }
+
+    /**
+     * Completes the emitter on a writer thread, where waiting behind a stuck write blocks nobody else.
+     * EventSource clients reconnect on their own and start over with a RESYNC.
+     */
+    private void complete(Subscriber subscriber) {
+        if (subscriber.completed.compareAndSet(false, true)) {
+            try {
+                writers.execute(subscriber.emitter::complete);
+            } catch (RejectedExecutionException e) {
+                // Shutting down; the container closes the connection
+            }
+        }
+    }
+
+    private record Envelope(long id, TaskEventDTO event) {
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Envelope> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean resyncPending = new AtomicBoolean();
+        private final AtomicBoolean heartbeatPending = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile boolean dropped;
+
+        private Subscriber(SseEmitter emitter, int queueCapacity) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.dilshan.coveragex.transfer;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Lets background bulk work yield to interactive requests: before taking a connection, callers wait while
+ * other threads are queued for one or the pool is busier than the configured share.
+ * Waiting is capped so a saturated pool slows an import down but never stalls it. A no-op on non-Hikari pools.
+ */
+@Component
+public class ConnectionPoolThrottle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConnectionPoolThrottle.class);
+
+    private final HikariDataSource hikariDataSource;
+    private final double maxPoolUsage;
+    private final long pauseMillis;
+    private final long maxWaitMillis;
+
+    @Autowired
+    public ConnectionPoolThrottle(DataSource dataSource,
+                                  @Value("${app.tasks.import.throttle.max-pool-usage:0.75}") double maxPoolUsage,
+                                  @Value("${app.tasks.import.throttle.pause-millis:50}") long pauseMillis,
+                                  @Value("${app.tasks.import.throttle.max-wait-millis:5000}") long maxWaitMillis) {
+        this.hikariDataSource = unwrapHikari(dataSource);
+        this.maxPoolUsage = maxPoolUsage;
+        this.pauseMillis = pauseMillis;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    public boolean isSaturated() {
+        HikariPoolMXBean pool = hikariDataSource == null ? null : hikariDataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return false;
+        }
+        return pool.getThreadsAwaitingConnection() > 0
+                || pool.getActiveConnections() >= Math.max(1, maxPoolUsage * hikariDataSource.getMaximumPoolSize());
+    }
+
+    /**
+     * Blocks while the pool is saturated, up to the configured maximum, and returns the time spent waiting.
+     */
+    public long awaitCapacity() {
+        long start = System.nanoTime();
+        long waitedMillis = 0;
+        long pause = pauseMillis;
+        while (waitedMillis < maxWaitMillis && isSaturated()) {
+            try {
+                Thread.sleep(pause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            pause = Math.min(pause * 2, 1000);
+            waitedMillis = (System.nanoTime() - start) / 1_000_000;
+        }
+        if (waitedMillis >= maxWaitMillis) {
+            LOGGER.warn("Connection pool still saturated after {} ms, continuing", waitedMillis);
+        }
+        return waitedMillis;
+    }
+
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.dilshan.coveragex.transfer;
+
+import com.dilshan.coveragex.dto.TaskResponseDTO;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+public class CsvTaskExportWriter implements TaskExportWriter {
+
+    public static final String[] COLUMNS = {
+            "id", "taskTitle", "description", "createDate", "lastStatusChangeDate", "priority", "taskStatus", "version"
+    };
+
+    private final Writer writer;
+
+    public CsvTaskExportWriter(OutputStream outputStream) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(String.join(",", COLUMNS));
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(TaskResponseDTO task) throws IOException {
+        writer.write(String.valueOf(task.getId()));
+        writer.write(',');
+        writeField(task.getTaskTitle());
+        writer.write(',');
+        writeField(task.getDescription());
+        writer.write(',');
+        writeField(task.getCreateDate() == null ? null : task.getCreateDate().toString());
+        writer.write(',');
+        writeField(task.getLastStatusChangeDate() == null ? null : task.getLastStatusChangeDate().toString());
+        writer.write(',');
+        writeField(task.getPriority() == null ? null : task.getPriority().getType());
+        writer.write(',');
+        writeField(task.getTaskStatus() == null ? null : task.getTaskStatus().getType());
+        writer.write(',');
+        writeField(task.getVersion() == null ? null : task.getVersion().toString());
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    // RFC 4180: quote fields containing a delimiter, quote or line break, doubling embedded quotes
+    private void writeField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,183 @@
+package com.dilshan.coveragex.transfer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * RFC 4180 CSV with a header row. Requires a taskTitle column, and priorityId or priority (type name)
+ * and taskStatusId or taskStatus (type name) columns; other columns are ignored, so a CSV export can be imported again.
+ * Quoted fields may contain delimiters, doubled quotes and line breaks.
+ */
+public class CsvTaskImportReader implements TaskImportReader {
+
+    private final BufferedReader reader;
+    private final int maxRecordLength;
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+    private Map<String, Integer> columns;
+    // Physical line the next record starts on; quoted line breaks make records span several lines
+    private long lineNumber = 1;
+    private boolean recordTooLong;
+    private boolean endOfInput;
+
+    public CsvTaskImportReader(BufferedReader reader, int maxRecordLength) {
+        this.reader = reader;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    @Override
+    public TaskImportRow next() throws IOException {
+        if (columns == null && !readHeader()) {
+            return null;
+        }
+        while (!endOfInput) {
+            long recordLine = lineNumber;
+            if (!readRecord()) {
+                return null;
+            }
+            if (recordTooLong) {
+                return TaskImportRow.failed(recordLine, "Record exceeds " + maxRecordLength + " characters");
+            }
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            return toRow(recordLine);
+        }
+        return null;
+    }
+
+    private boolean readHeader() throws IOException {
+        if (!readRecord()) {
+            return false;
+        }
+        if (recordTooLong) {
+            throw new IllegalArgumentException("CSV header exceeds " + maxRecordLength + " characters");
+        }
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            // Spreadsheet tools often prefix UTF-8 files with a byte order mark
+            String name = i == 0 ? fields.get(i).replace("\uFEFF", "") : fields.get(i);
+            header.putIfAbsent(name.trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!header.containsKey("tasktitle")
+                || !(header.containsKey("priorityid") || header.containsKey("priority"))
+                || !(header.containsKey("taskstatusid") || header.containsKey("taskstatus"))) {
+            throw new IllegalArgumentException("CSV header must contain taskTitle, priorityId or priority, "
+                    + "and taskStatusId or taskStatus columns");
+        }
+        columns = header;
+        return true;
+    }
+
+    private TaskImportRow toRow(long recordLine) {
+        try {
+            TaskImportRow row = new TaskImportRow();
+            row.setLine(recordLine);
+            row.setTaskTitle(value("tasktitle"));
+            row.setDescription(value("description"));
+            row.setPriorityId(id("priorityid"));
+            row.setPriorityType(row.getPriorityId() == null ? value("priority") : null);
+            row.setTaskStatusId(id("taskstatusid"));
+            row.setTaskStatusType(row.getTaskStatusId() == null ? value("taskstatus") : null);
+            return row;
+        } catch (IllegalArgumentException e) {
+            return TaskImportRow.failed(recordLine, e.getMessage());
+        }
+    }
+
+    // Missing columns and empty fields both read as null
+    private String value(String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    private Long id(String column) {
+        String value = value(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " must be an integer: " + value);
+        }
+    }
+
+    /**
+     * Reads one record into {@link #fields}. Past the length limit the record is still scanned to its end,
+     * so parsing resumes at the next record, but nothing more is buffered. Returns false at the end of the input.
+     */
+    private boolean readRecord() throws IOException {
+        fields.clear();
+        field.setLength(0);
+        recordTooLong = false;
+        boolean inQuotes = false;
+        int length = 0;
+
+        while (true) {
+            int c = reader.read();
+            if (c == -1) {
+                endOfInput = true;
+                if (length == 0) {
+                    return false;
+                }
+                endField();
+                return true;
+            }
+            if (++length > maxRecordLength) {
+                recordTooLong = true;
+            }
+
+            if (inQuotes) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        append('"');
+                    } else {
+                        inQuotes = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                inQuotes = true;
+            } else if (c == ',') {
+                endField();
+            } else if (c == '\n') {
+                lineNumber++;
+                endField();
+                return true;
+            } else if (c != '\r') {
+                append((char) c);
+            }
+        }
+    }
+
+    private void append(char c) {
+        if (!recordTooLong) {
+            field.append(c);
+        }
+    }
+
+    private void endField() {
+        if (!recordTooLong) {
+            fields.add(field.toString());
+        }
+        field.setLength(0);
+    }
+}
@@ -0,0 +1,131 @@
+package com.dilshan.coveragex.transfer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Consumer;
+
+/**
+ * One JSON object per line. Accepts the create request fields (taskTitle, description, priorityId, taskStatusId)
+ * and, so an NDJSON export can be imported again, priority/taskStatus given as a type name or as an {id, type} object.
+ * Other fields are ignored.
+ */
+public class NdjsonTaskImportReader implements TaskImportReader {
+
+    private final Reader reader;
+    private final ObjectMapper objectMapper;
+    private final int maxLineLength;
+    private final StringBuilder line = new StringBuilder();
+    private long lineNumber;
+    private boolean endOfInput;
+
+    public NdjsonTaskImportReader(Reader reader, ObjectMapper objectMapper, int maxLineLength) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+        this.maxLineLength = maxLineLength;
+    }
+
+    @Override
+    public TaskImportRow next() throws IOException {
+        while (!endOfInput) {
+            boolean tooLong = readLine();
+            lineNumber++;
+            if (tooLong) {
+                return TaskImportRow.failed(lineNumber, "Line exceeds " + maxLineLength + " characters");
+            }
+            if (!line.toString().isBlank()) {
+                return parse(lineNumber, line.toString());
+            }
+        }
+        return null;
+    }
+
+    // Reads up to the next line feed; characters beyond the limit are discarded, not buffered
+    private boolean readLine() throws IOException {
+        line.setLength(0);
+        boolean tooLong = false;
+        int c;
+        while ((c = reader.read()) != -1 && c != '\n') {
+            if (line.length() < maxLineLength) {
+                line.append((char) c);
+            } else {
+                tooLong = true;
+            }
+        }
+        endOfInput = c == -1;
+        return tooLong;
+    }
+
+    private TaskImportRow parse(long lineNumber, String text) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(text);
+        } catch (JsonProcessingException e) {
+            return TaskImportRow.failed(lineNumber, "Invalid JSON: " + e.getOriginalMessage());
+        }
+        if (node == null || !node.isObject()) {
+            return TaskImportRow.failed(lineNumber, "Line must be a JSON object");
+        }
+
+        try {
+            TaskImportRow row = new TaskImportRow();
+            row.setLine(lineNumber);
+            row.setTaskTitle(text(node, "taskTitle"));
+            row.setDescription(text(node, "description"));
+            row.setPriorityId(id(node, "priorityId"));
+            row.setTaskStatusId(id(node, "taskStatusId"));
+            readReference(node.get("priority"), "priority", row::setPriorityId, row::setPriorityType,
+                    row.getPriorityId() != null);
+            readReference(node.get("taskStatus"), "taskStatus", row::setTaskStatusId, row::setTaskStatusType,
+                    row.getTaskStatusId() != null);
+            return row;
+        } catch (IllegalArgumentException e) {
+            return TaskImportRow.failed(lineNumber, e.getMessage());
+        }
+    }
+
+    // "HIGH" or {"id": 1, "type": "HIGH"}; an explicit *Id field takes precedence
+    private static void readReference(JsonNode value, String fieldName, Consumer<Long> idSetter,
+                                      Consumer<String> typeSetter, boolean idAlreadySet) {
+        if (value == null || value.isNull() || idAlreadySet) {
+            return;
+        }
+        if (value.isTextual()) {
+            typeSetter.accept(value.asText());
+        } else if (value.isObject()) {
+            Long id = id(value, "id");
+            if (id != null) {
+                idSetter.accept(id);
+            } else {
+                typeSetter.accept(text(value, "type"));
+            }
+        } else {
+            throw new IllegalArgumentException(fieldName + " must be a type name or an object with id or type");
+        }
+    }
+
+    private static String text(JsonNode node, String fieldName) {
+        JsonNode value = node.get(fieldName);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        if (!value.isTextual()) {
+            throw new IllegalArgumentException(fieldName + " must be a string");
+        }
+        return value.asText();
+    }
+
+    private static Long id(JsonNode node, String fieldName) {
+        JsonNode value = node.get(fieldName);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        if (!value.isIntegralNumber() || !value.canConvertToLong()) {
+            throw new IllegalArgumentException(fieldName + " must be an integer");
+        }
+        return value.asLong();
+    }
+}
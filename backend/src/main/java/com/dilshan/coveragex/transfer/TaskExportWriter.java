@@ -0,0 +1,16 @@
+package com.dilshan.coveragex.transfer;
+
+import com.dilshan.coveragex.dto.TaskResponseDTO;
+
+import java.io.IOException;
+
+/**
+ * Writes exported tasks one at a time to an output stream, so an export holds at most one row in memory.
+ * {@link #finish()} flushes buffered output; it does not close the underlying stream.
+ */
+public interface TaskExportWriter {
+
+    void write(TaskResponseDTO task) throws IOException;
+
+    void finish() throws IOException;
+}
@@ -0,0 +1,15 @@
+package com.dilshan.coveragex.transfer;
+
+import java.io.IOException;
+
+/**
+ * Reads import records incrementally from a request body, holding at most one record in memory.
+ * Records longer than the reader's limit are skipped and reported as failed rows, not buffered.
+ */
+public interface TaskImportReader {
+
+    /**
+     * The next record, or null at the end of the input. Blank lines are skipped.
+     */
+    TaskImportRow next() throws IOException;
+}
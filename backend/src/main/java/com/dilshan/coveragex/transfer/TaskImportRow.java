@@ -0,0 +1,30 @@
+package com.dilshan.coveragex.transfer;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One parsed import record. Priority and status come either as an ID or as a type name;
+ * a record that could not be parsed carries only its line number and an error.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportRow {
+    private long line;
+    private String taskTitle;
+    private String description;
+    private Long priorityId;
+    private String priorityType;
+    private Long taskStatusId;
+    private String taskStatusType;
+    private String error;
+
+    public static TaskImportRow failed(long line, String error) {
+        TaskImportRow row = new TaskImportRow();
+        row.setLine(line);
+        row.setError(error);
+        return row;
+    }
+}
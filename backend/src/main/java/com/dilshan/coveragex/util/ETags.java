@@ -0,0 +1,68 @@
+package com.dilshan.coveragex.util;
+
+import org.springframework.http.ETag;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entity tags for task resources. A single task's ETag is its optimistic-lock version as a strong tag,
+ * so it changes with every committed write to that task, bulk updates included.
+ * Collections carry weak tags built by {@link com.dilshan.coveragex.cache.TaskChangeSequence}.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String forVersion(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static String weak(String value) {
+        return "W/\"" + value + "\"";
+    }
+
+    public static boolean isWildcard(String header) {
+        return header != null && ETag.parse(header).stream().anyMatch(ETag::isWildcard);
+    }
+
+    /**
+     * Task versions named by the strong tags of an If-Match header value. Weak and non-numeric tags
+     * can never match a task's strong version tag, so they are left out.
+     */
+    public static List<Long> versions(String ifMatch) {
+        List<Long> versions = new ArrayList<>();
+        for (ETag candidate : ETag.parse(ifMatch)) {
+            if (!candidate.weak() && !candidate.isWildcard()) {
+                try {
+                    versions.add(Long.valueOf(candidate.tag()));
+                } catch (NumberFormatException e) {
+                    // not one of our version tags
+                }
+            }
+        }
+        return versions;
+    }
+
+    /**
+     * Whether any tag in an If-Match / If-None-Match header value matches the given ETag.
+     * If-Match requires strong comparison (weak tags never match), If-None-Match uses weak comparison.
+     */
+    public static boolean anyMatches(String header, String etag, boolean strongComparison) {
+        if (header == null) {
+            return false;
+        }
+        ETag current = ETag.parse(etag).get(0);
+        for (ETag candidate : ETag.parse(header)) {
+            if (candidate.isWildcard()) {
+                return true;
+            }
+            boolean weak = candidate.weak() || current.weak();
+            if (candidate.tag().equals(current.tag()) && !(strongComparison && weak)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
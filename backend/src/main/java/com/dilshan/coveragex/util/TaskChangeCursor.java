@@ -0,0 +1,63 @@
+package com.dilshan.coveragex.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque position in the task change log: the commit sequence of the last change read,
+ * plus its log entry ID as a tie-breaker within that commit.
+ */
+public final class TaskChangeCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final long commitSeq;
+    private final long id;
+
+    private TaskChangeCursor(long commitSeq, long id) {
+        this.commitSeq = commitSeq;
+        this.id = id;
+    }
+
+    public static TaskChangeCursor of(long commitSeq, long id) {
+        return new TaskChangeCursor(commitSeq, id);
+    }
+
+    /**
+     * Cursor after every change committed up to and including the given sequence.
+     */
+    public static TaskChangeCursor head(long commitSeq) {
+        return new TaskChangeCursor(commitSeq, Long.MAX_VALUE);
+    }
+
+    public static TaskChangeCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            long commitSeq = Long.parseLong(raw.substring(0, separatorIndex));
+            long id = Long.parseLong(raw.substring(separatorIndex + 1));
+            if (commitSeq < 0 || id < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            return new TaskChangeCursor(commitSeq, id);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        String raw = commitSeq + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public long getCommitSeq() {
+        return commitSeq;
+    }
+
+    public long getId() {
+        return id;
+    }
+}
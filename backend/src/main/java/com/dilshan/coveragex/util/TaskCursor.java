@@ -0,0 +1,55 @@
+package com.dilshan.coveragex.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position used by the cursor-based task listing.
+ * A cursor points at the last task of a page: its create date plus its ID as a tie-breaker.
+ */
+public final class TaskCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createDate;
+    private final Long id;
+
+    private TaskCursor(LocalDateTime createDate, Long id) {
+        this.createDate = createDate;
+        this.id = id;
+    }
+
+    public static TaskCursor of(LocalDateTime createDate, Long id) {
+        return new TaskCursor(createDate, id);
+    }
+
+    public static TaskCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            LocalDateTime createDate = LocalDateTime.parse(raw.substring(0, separatorIndex));
+            Long id = Long.valueOf(raw.substring(separatorIndex + 1));
+            return new TaskCursor(createDate, id);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        String raw = createDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCreateDate() {
+        return createDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,80 @@
+-- Upgrade script for todo_coveragex databases created by an earlier schema.sql
+-- schema.sql only creates what is missing (CREATE TABLE IF NOT EXISTS), so changes to existing tables land here.
+-- Run it once before starting a new version against an existing database:
+--   mysql -u <user> -p todo_coveragex < src/main/resources/db/upgrade.sql
+-- Every step checks the current schema first, so running it again is harmless.
+
+USE todo_coveragex;
+
+DROP PROCEDURE IF EXISTS upgrade_todo_coveragex;
+
+DELIMITER //
+CREATE PROCEDURE upgrade_todo_coveragex()
+BEGIN
+    -- Task ids come from task_id_seq in blocks of 50 instead of AUTO_INCREMENT, so inserts can be batched.
+    -- The AUTO_INCREMENT attribute left on existing tasks.id is harmless: every insert now supplies the id.
+    CREATE TABLE IF NOT EXISTS task_id_seq (
+        next_val BIGINT
+    ) ENGINE=InnoDB;
+
+    INSERT INTO task_id_seq (next_val)
+    SELECT COALESCE(existing.max_id + 50, 1)
+    FROM (SELECT MAX(id) AS max_id FROM tasks) existing
+    WHERE NOT EXISTS (SELECT * FROM task_id_seq);
+
+    -- Also repairs a sequence that was created at 1 on top of existing tasks (e.g. by ddl-auto)
+    UPDATE task_id_seq
+    SET next_val = (SELECT MAX(id) + 50 FROM tasks)
+    WHERE next_val < (SELECT MAX(id) + 50 FROM tasks);
+
+    -- last_status_change_date is set by the application on status changes only; ON UPDATE moved it on every edit
+    IF EXISTS (SELECT * FROM information_schema.COLUMNS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'tasks'
+                 AND COLUMN_NAME = 'last_status_change_date' AND EXTRA LIKE '%on update%') THEN
+        ALTER TABLE tasks MODIFY last_status_change_date DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP;
+    END IF;
+
+    -- Optimistic-locking version behind the task ETags
+    IF NOT EXISTS (SELECT * FROM information_schema.COLUMNS
+                   WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'tasks' AND COLUMN_NAME = 'version') THEN
+        ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0 AFTER last_status_change_date;
+    END IF;
+
+    -- Composite indexes for keyset (seek) pagination on (create_date, id)
+    IF NOT EXISTS (SELECT * FROM information_schema.STATISTICS
+                   WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'tasks' AND INDEX_NAME = 'idx_tasks_create_date_id') THEN
+        CREATE INDEX idx_tasks_create_date_id ON tasks (create_date, id);
+    END IF;
+    IF NOT EXISTS (SELECT * FROM information_schema.STATISTICS
+                   WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'tasks' AND INDEX_NAME = 'idx_tasks_status_create_date_id') THEN
+        CREATE INDEX idx_tasks_status_create_date_id ON tasks (task_status_id, create_date, id);
+    END IF;
+    IF NOT EXISTS (SELECT * FROM information_schema.STATISTICS
+                   WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'tasks' AND INDEX_NAME = 'idx_tasks_priority_create_date_id') THEN
+        CREATE INDEX idx_tasks_priority_create_date_id ON tasks (priority_id, create_date, id);
+    END IF;
+
+    -- Change feed tables (GET /api/tasks/changes)
+    CREATE TABLE IF NOT EXISTS task_changes (
+        id BIGINT AUTO_INCREMENT PRIMARY KEY,
+        commit_seq BIGINT NOT NULL,
+        task_id BIGINT NOT NULL,
+        changed_at DATETIME(6) NOT NULL,
+
+        INDEX idx_task_changes_seq_id (commit_seq, id),
+        INDEX idx_task_changes_task_seq_id (task_id, commit_seq, id),
+        INDEX idx_task_changes_changed_at (changed_at)
+    ) ENGINE=InnoDB;
+
+    CREATE TABLE IF NOT EXISTS task_change_clock (
+        id BIGINT PRIMARY KEY,
+        last_seq BIGINT NOT NULL,
+        compacted_seq BIGINT NOT NULL
+    ) ENGINE=InnoDB;
+
+    INSERT IGNORE INTO task_change_clock (id, last_seq, compacted_seq) VALUES (1, 0, 0);
+END //
+DELIMITER ;
+
+CALL upgrade_todo_coveragex();
+DROP PROCEDURE upgrade_todo_coveragex;
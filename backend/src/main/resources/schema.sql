@@ -24,11 +24,12 @@ CREATE TABLE IF NOT EXISTS task_status_types (
 -- Table: tasks
 -- Main table for storing task information
 CREATE TABLE IF NOT EXISTS tasks (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     task_title VARCHAR(255) NOT NULL,
     description TEXT,
     create_date DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    last_status_change_date DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    last_status_change_date DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
     priority_id BIGINT NOT NULL,
     task_status_id BIGINT NOT NULL,
     
@@ -47,11 +48,52 @@ CREATE TABLE IF NOT EXISTS tasks (
     INDEX idx_tasks_create_date (create_date),
     INDEX idx_tasks_status_change_date (last_status_change_date),
     INDEX idx_tasks_title (task_title),
+
+    -- Composite indexes for keyset (seek) pagination on (create_date, id)
+    INDEX idx_tasks_create_date_id (create_date, id),
+    INDEX idx_tasks_status_create_date_id (task_status_id, create_date, id),
+    INDEX idx_tasks_priority_create_date_id (priority_id, create_date, id),
     
     -- Full-text index for search functionality
     FULLTEXT INDEX ft_idx_tasks_search (task_title, description)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- Table: task_id_seq
+-- Sequence emulation for task IDs, allocated by Hibernate in blocks of 50 so inserts can be batched
+CREATE TABLE IF NOT EXISTS task_id_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+-- Hibernate's pooled optimizer reads any value other than the initial 1 as the top of a block (value - 49 .. value),
+-- so with existing tasks the sequence starts at MAX(id) + 50, the first block then starting at MAX(id) + 1
+INSERT INTO task_id_seq (next_val)
+SELECT COALESCE(existing.max_id + 50, 1)
+FROM (SELECT MAX(id) AS max_id FROM tasks) existing
+WHERE NOT EXISTS (SELECT * FROM task_id_seq);
+
+-- Table: task_changes
+-- Append-only log of task writes read by GET /api/tasks/changes, in commit order of the writing transactions
+CREATE TABLE IF NOT EXISTS task_changes (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    commit_seq BIGINT NOT NULL,
+    task_id BIGINT NOT NULL,
+    changed_at DATETIME(6) NOT NULL,
+
+    INDEX idx_task_changes_seq_id (commit_seq, id),
+    INDEX idx_task_changes_task_seq_id (task_id, commit_seq, id),
+    INDEX idx_task_changes_changed_at (changed_at)
+) ENGINE=InnoDB;
+
+-- Table: task_change_clock
+-- Single row handing out commit sequences; its row lock is held only from just before a write commits
+CREATE TABLE IF NOT EXISTS task_change_clock (
+    id BIGINT PRIMARY KEY,
+    last_seq BIGINT NOT NULL,
+    compacted_seq BIGINT NOT NULL
+) ENGINE=InnoDB;
+
+INSERT IGNORE INTO task_change_clock (id, last_seq, compacted_seq) VALUES (1, 0, 0);
+
 -- Insert default priority types
 INSERT IGNORE INTO priority_types (type) VALUES 
     ('HIGH'),
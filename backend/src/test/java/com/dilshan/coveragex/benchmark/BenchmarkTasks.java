@@ -0,0 +1,80 @@
+package com.dilshan.coveragex.benchmark;
+
+import com.dilshan.coveragex.dto.PriorityTypeResponseDTO;
+import com.dilshan.coveragex.dto.TaskResponseDTO;
+import com.dilshan.coveragex.dto.TaskStatisticsResponseDTO;
+import com.dilshan.coveragex.dto.TaskStatusTypeResponseDTO;
+import com.dilshan.coveragex.entity.PriorityType;
+import com.dilshan.coveragex.entity.Task;
+import com.dilshan.coveragex.entity.TaskStatusType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixtures for the JMH benchmarks, sized like production data: every task carries a full-length description.
+ */
+final class BenchmarkTasks {
+
+    static final int DESCRIPTION_LENGTH = 1000;
+
+    private static final String[] PRIORITIES = {"HIGH", "MEDIUM", "LOW"};
+    private static final String[] STATUSES = {"OPEN", "IN_PROGRESS", "HOLD", "DONE", "CLOSED"};
+
+    private BenchmarkTasks() {
+    }
+
+    static List<Task> tasks(int count) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task("Benchmark task " + i, description(i),
+                    new PriorityType((long) (i % PRIORITIES.length) + 1, PRIORITIES[i % PRIORITIES.length]),
+                    new TaskStatusType((long) (i % STATUSES.length) + 1, STATUSES[i % STATUSES.length]));
+            task.setId((long) i + 1);
+            task.setVersion(0L);
+            task.setCreateDate(now.minusMinutes(i));
+            task.setLastStatusChangeDate(now);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    static List<TaskResponseDTO> responses(int count) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskResponseDTO> responses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            TaskResponseDTO response = new TaskResponseDTO();
+            response.setId((long) i + 1);
+            response.setTaskTitle("Benchmark task " + i);
+            response.setDescription(description(i));
+            response.setCreateDate(now.minusMinutes(i));
+            response.setLastStatusChangeDate(now);
+            response.setPriority(new PriorityTypeResponseDTO((long) (i % PRIORITIES.length) + 1, PRIORITIES[i % PRIORITIES.length]));
+            response.setTaskStatus(new TaskStatusTypeResponseDTO((long) (i % STATUSES.length) + 1, STATUSES[i % STATUSES.length]));
+            response.setVersion(0L);
+            responses.add(response);
+        }
+        return responses;
+    }
+
+    static TaskStatisticsResponseDTO statistics() {
+        List<Object[]> cells = new ArrayList<>();
+        for (int s = 0; s < STATUSES.length; s++) {
+            for (int p = 0; p < PRIORITIES.length; p++) {
+                cells.add(new Object[]{STATUSES[s], PRIORITIES[p], 1000L * (s + 1) + p});
+            }
+        }
+        return TaskStatisticsResponseDTO.fromStatusPriorityCounts(cells);
+    }
+
+    private static String description(int seed) {
+        StringBuilder description = new StringBuilder(DESCRIPTION_LENGTH);
+        while (description.length() < DESCRIPTION_LENGTH) {
+            description.append("Step ").append(seed).append(": review the notes, update the checklist. ");
+        }
+        description.setLength(DESCRIPTION_LENGTH);
+        return description.toString();
+    }
+}
@@ -0,0 +1,145 @@
+package com.dilshan.coveragex.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+/**
+ * Closed-model HTTP load shared by the comparison harnesses: a fixed number of clients, each sending its next
+ * request as soon as the previous one completed. Latencies are only recorded after the warmup, and the
+ * connections in use are sampled every 10 ms over the same window.
+ */
+final class ClosedLoadDriver {
+
+    // application.yml logs every SQL statement and web request at DEBUG; that alone would cap the throughput
+    static final List<String> QUIET_LOGGING = List.of(
+            "--logging.level.root=WARN",
+            "--logging.level.org.hibernate.SQL=WARN",
+            "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+            "--logging.level.org.springframework.web=WARN",
+            "--logging.level.com.dilshan.coveragex=WARN");
+
+    private ClosedLoadDriver() {
+    }
+
+    // Spring joins repeated --key=value options with commas, so defaults are dropped when the caller passes the key
+    static String[] arguments(List<String> defaults, String[] overrides) {
+        List<String> arguments = new ArrayList<>(Arrays.asList(overrides));
+        for (String argument : defaults) {
+            String key = argument.substring(0, argument.indexOf('=') + 1);
+            if (arguments.stream().noneMatch(given -> given.startsWith(key))) {
+                arguments.add(argument);
+            }
+        }
+        return arguments.toArray(String[]::new);
+    }
+
+    static Result drive(String mode, int concurrency, int warmupSeconds, int durationSeconds,
+                        Function<ThreadLocalRandom, String> nextUrl, IntSupplier connectionsInUse) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        long startNanos = System.nanoTime();
+        long measureFrom = startNanos + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long deadline = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+        AtomicLong errors = new AtomicLong();
+
+        List<Integer> connectionSamples = new ArrayList<>();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            long now = System.nanoTime();
+            if (now >= measureFrom && now < deadline) {
+                synchronized (connectionSamples) {
+                    connectionSamples.add(connectionsInUse.getAsInt());
+                }
+            }
+        }, 0, 10, TimeUnit.MILLISECONDS);
+
+        // One platform thread per client: the client side stays identical whatever the server runs on
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        List<Future<long[]>> futures = new ArrayList<>(concurrency);
+        for (int c = 0; c < concurrency; c++) {
+            futures.add(clients.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long[] latencies = new long[1024];
+                int count = 0;
+                long now;
+                while ((now = System.nanoTime()) < deadline) {
+                    boolean ok;
+                    try {
+                        HttpResponse<Void> response = client.send(
+                                HttpRequest.newBuilder(URI.create(nextUrl.apply(random))).GET().build(),
+                                HttpResponse.BodyHandlers.discarding());
+                        ok = response.statusCode() == 200;
+                    } catch (Exception e) {
+                        ok = false;
+                    }
+                    long end = System.nanoTime();
+                    if (now < measureFrom) {
+                        continue;
+                    }
+                    if (!ok) {
+                        errors.incrementAndGet();
+                    }
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = end - now;
+                }
+                return Arrays.copyOf(latencies, count);
+            }));
+        }
+
+        List<long[]> perClient = new ArrayList<>(concurrency);
+        for (Future<long[]> future : futures) {
+            perClient.add(future.get());
+        }
+        clients.shutdown();
+        sampler.shutdownNow();
+
+        long[] all = perClient.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        int[] samples;
+        synchronized (connectionSamples) {
+            samples = connectionSamples.stream().mapToInt(Integer::intValue).toArray();
+        }
+        return new Result(mode, all, all.length / (double) durationSeconds, errors.get(), samples);
+    }
+
+    static void print(List<Result> results) {
+        System.out.printf("%-10s %12s %10s %10s %10s %10s %8s %12s %12s%n", "mode", "requests/s", "p50 ms",
+                "p99 ms", "p99.9 ms", "max ms", "errors", "avg conns", "max conns");
+        for (Result result : results) {
+            System.out.printf("%-10s %12.0f %10.2f %10.2f %10.2f %10.2f %8d %12.1f %12d%n", result.mode,
+                    result.throughput, result.percentileMillis(50), result.percentileMillis(99),
+                    result.percentileMillis(99.9), result.percentileMillis(100), result.errors,
+                    Arrays.stream(result.connectionSamples).average().orElse(0),
+                    Arrays.stream(result.connectionSamples).max().orElse(0));
+        }
+    }
+
+    record Result(String mode, long[] sortedLatencies, double throughput, long errors, int[] connectionSamples) {
+
+        double percentileMillis(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, Math.min(index, sortedLatencies.length - 1))] / 1_000_000.0;
+        }
+    }
+}
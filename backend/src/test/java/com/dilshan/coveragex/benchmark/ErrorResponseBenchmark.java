@@ -0,0 +1,91 @@
+package com.dilshan.coveragex.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.dilshan.coveragex.dto.TaskCreateRequestDTO;
+import com.dilshan.coveragex.exception.GlobalExceptionHandler;
+import com.dilshan.coveragex.exception.TaskNotFoundException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error responses built by GlobalExceptionHandler for the most common client errors: an unknown task,
+ * a rejected argument, and a create request failing validation on every field.
+ * The handler's own logging is switched off, so this measures the response construction alone.
+ * Run with: java -cp <test classpath> com.dilshan.coveragex.benchmark.ErrorResponseBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private WebRequest request;
+    private TaskNotFoundException notFound;
+    private IllegalArgumentException illegalArgument;
+    private MethodArgumentNotValidException invalid;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(GlobalExceptionHandler.class)).setLevel(Level.OFF);
+
+        handler = new GlobalExceptionHandler();
+        request = new ServletWebRequest(new MockHttpServletRequest("POST", "/api/tasks"));
+        notFound = TaskNotFoundException.forId(42L);
+        illegalArgument = new IllegalArgumentException("Page size must be between 1 and 100");
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new TaskCreateRequestDTO(), "taskCreateRequestDTO");
+        bindingResult.addError(new FieldError("taskCreateRequestDTO", "taskTitle", "Task title cannot be blank"));
+        bindingResult.addError(new FieldError("taskCreateRequestDTO", "description", "Description cannot exceed 1000 characters"));
+        bindingResult.addError(new FieldError("taskCreateRequestDTO", "priorityId", "Priority ID is required"));
+        bindingResult.addError(new FieldError("taskCreateRequestDTO", "taskStatusId", "Task status ID is required"));
+        MethodParameter parameter = new MethodParameter(
+                ErrorResponseBenchmark.class.getDeclaredMethod("createTask", TaskCreateRequestDTO.class), 0);
+        invalid = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> taskNotFound() {
+        return handler.handleTaskNotFoundException(notFound, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> illegalArgument() {
+        return handler.handleIllegalArgumentException(illegalArgument, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> validationFailed() {
+        return handler.handleValidationExceptions(invalid, request);
+    }
+
+    // Stands in for the controller method the validation error is reported against
+    @SuppressWarnings("unused")
+    private void createTask(TaskCreateRequestDTO createRequestDTO) {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ErrorResponseBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,40 @@
+package com.dilshan.coveragex.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+/**
+ * Runs the mapping, serialization and error-response benchmarks together and writes the results as JSON,
+ * throughput plus gc.alloc.rate.norm (bytes allocated per operation), to compare release over release.
+ * Allocation per operation is the more stable of the two across machines; compare throughput only between runs on the same host.
+ * Run with: java -cp <test classpath> com.dilshan.coveragex.benchmark.HotPathBenchmarks [result file]
+ */
+public class HotPathBenchmarks {
+
+    private static final String DEFAULT_RESULT_FILE = "target/jmh/hot-path.json";
+
+    public static void main(String[] args) throws RunnerException {
+        String resultFile = args.length > 0 ? args[0] : DEFAULT_RESULT_FILE;
+        File parent = new File(resultFile).getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IllegalStateException("Cannot create directory for " + resultFile);
+        }
+
+        Options options = new OptionsBuilder()
+                .include(TaskMappingBenchmark.class.getSimpleName())
+                .include(TaskSerializationBenchmark.class.getSimpleName())
+                .include(ErrorResponseBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile)
+                .build();
+        new Runner(options).run();
+        System.out.println("Results written to " + resultFile);
+    }
+}
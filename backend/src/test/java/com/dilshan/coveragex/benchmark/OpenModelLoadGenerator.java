@@ -0,0 +1,435 @@
+package com.dilshan.coveragex.benchmark;
+
+import com.dilshan.coveragex.TodoApplication;
+import com.dilshan.coveragex.cache.ReferenceDataRegistry;
+import com.dilshan.coveragex.dto.TaskCreateRequestDTO;
+import com.dilshan.coveragex.dto.TaskUpdateRequestDTO;
+import com.dilshan.coveragex.entity.PriorityType;
+import com.dilshan.coveragex.entity.TaskStatusType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load test of the REST API: requests arrive at loadtest.rates requests per second whatever the
+ * response times, the way independent users do, so a saturated server shows up as queueing latency instead of
+ * slowing the clients down as it does in ClosedLoadDriver. Each rate runs as a stage with a weighted mix of
+ * create, update, filter, search, statistics and delete requests, and every request's latency is recorded from
+ * its scheduled send time in a per-endpoint HdrHistogram. The p50/p95/p99/p99.9 table is printed and written to
+ * loadtest.reportDir together with the full percentile distribution of each endpoint.
+ * Every request is sent on its own virtual thread.
+ * Defaults to the in-memory H2 test profile; pass --spring.* arguments to point it at MySQL.
+ * Run with: java -cp <test classpath> com.dilshan.coveragex.benchmark.OpenModelLoadGenerator [--spring.x=y ...]
+ */
+public class OpenModelLoadGenerator {
+
+    private static final String RATES = System.getProperty("loadtest.rates", "50,100,200");
+    private static final String MIX = System.getProperty("loadtest.mix",
+            "create=10,update=15,filter=30,search=20,statistics=15,delete=10");
+    private static final boolean POISSON = !"uniform".equals(System.getProperty("loadtest.arrivals", "poisson"));
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmupSeconds", 10);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.durationSeconds", 30);
+    private static final int TASKS = Integer.getInteger("loadtest.tasks", 5000);
+    private static final int MAX_IN_FLIGHT = Integer.getInteger("loadtest.maxInFlight", 10_000);
+    private static final int TIMEOUT_SECONDS = Integer.getInteger("loadtest.timeoutSeconds", 30);
+    private static final String REPORT_DIR = System.getProperty("loadtest.reportDir", "target/loadtest");
+    private static final String PROFILE = System.getProperty("loadtest.profile", "test");
+
+    // Latencies are recorded in microseconds; anything slower than the request timeout is clamped to it
+    private static final long HIGHEST_LATENCY_MICROS = TimeUnit.SECONDS.toMicros(TIMEOUT_SECONDS);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    enum Endpoint {
+        CREATE("POST /api/tasks"),
+        UPDATE("PUT /api/tasks/{id}"),
+        FILTER("GET /api/tasks/filter"),
+        SEARCH("GET /api/tasks/search"),
+        STATISTICS("GET /api/tasks/statistics"),
+        DELETE("DELETE /api/tasks/{id}");
+
+        private final String route;
+
+        Endpoint(String route) {
+            this.route = route;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] rates = Arrays.stream(RATES.split(",")).mapToInt(rate -> Integer.parseInt(rate.trim())).toArray();
+        Mix mix = Mix.parse(MIX);
+
+        // The test profile aggregates statistics per request; production reads the maintained counters
+        List<String> defaults = new ArrayList<>(List.of("--server.port=0",
+                "--app.tasks.statistics-counters.enabled=true"));
+        defaults.addAll(ClosedLoadDriver.QUIET_LOGGING);
+
+        List<Stage> stages = new ArrayList<>();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TodoApplication.class)
+                .profiles(PROFILE.split(","))
+                .run(ClosedLoadDriver.arguments(defaults, args))) {
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            ReferenceDataRegistry registry = context.getBean(ReferenceDataRegistry.class);
+            Workload workload = new Workload("http://localhost:" + port + "/api/tasks",
+                    registry.getPriorityTypes().stream().mapToLong(PriorityType::getId).toArray(),
+                    registry.getTaskStatusTypes().stream().mapToLong(TaskStatusType::getId).toArray(),
+                    new TaskIds(VirtualThreadLoadComparison.seed(context, TASKS)));
+            System.out.printf("Seeded %d tasks, sending %s arrivals at %s requests/s to port %d%n",
+                    TASKS, POISSON ? "poisson" : "uniform", RATES, port);
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int rate : rates) {
+                    Stage stage = run(rate, mix, workload, executor);
+                    stages.add(stage);
+                    print(List.of(stage), System.out);
+                }
+            }
+        }
+
+        Path reportDir = Path.of(REPORT_DIR, LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+        writeReport(reportDir, stages);
+        System.out.println();
+        print(stages, System.out);
+        System.out.println("Report written to " + reportDir.toAbsolutePath());
+    }
+
+    private static Stage run(int rate, Mix mix, Workload workload, ExecutorService executor)
+            throws InterruptedException {
+        Stage stage = new Stage(rate);
+        AtomicInteger inFlight = new AtomicInteger();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / (double) rate;
+
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(WARMUP_SECONDS);
+        long deadline = measureFrom + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+        double offsetNanos = 0;
+        long maxLagNanos = 0;
+        while (start + (long) offsetNanos < deadline) {
+            long intendedStart = start + (long) offsetNanos;
+            long now;
+            while ((now = System.nanoTime()) < intendedStart) {
+                LockSupport.parkNanos(intendedStart - now);
+            }
+            boolean measured = intendedStart >= measureFrom;
+            if (measured) {
+                maxLagNanos = Math.max(maxLagNanos, now - intendedStart);
+            }
+
+            Endpoint endpoint = mix.next(random);
+            Result result = stage.results.get(endpoint);
+            if (inFlight.incrementAndGet() > MAX_IN_FLIGHT) {
+                inFlight.decrementAndGet();
+                if (measured) {
+                    result.dropped.incrementAndGet();
+                }
+            } else {
+                executor.execute(() -> {
+                    try {
+                        workload.send(endpoint, intendedStart, measured ? result : null);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            }
+
+            // Arrivals are scheduled from the previous arrival, not from when it was sent, so a stall is caught up
+            offsetNanos += POISSON ? -Math.log(1 - random.nextDouble()) * meanIntervalNanos : meanIntervalNanos;
+        }
+
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS + 5);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        stage.maxDispatchLagMillis = maxLagNanos / 1_000_000.0;
+        return stage;
+    }
+
+    static final class Workload {
+
+        private final HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        private final String baseUrl;
+        private final long[] priorityIds;
+        private final long[] taskStatusIds;
+        private final TaskIds taskIds;
+        private final AtomicLong created = new AtomicLong();
+
+        Workload(String baseUrl, long[] priorityIds, long[] taskStatusIds, TaskIds taskIds) {
+            this.baseUrl = baseUrl;
+            this.priorityIds = priorityIds;
+            this.taskStatusIds = taskStatusIds;
+            this.taskIds = taskIds;
+        }
+
+        void send(Endpoint endpoint, long intendedStart, Result result) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long taskId = switch (endpoint) {
+                case UPDATE -> taskIds.any(random);
+                // Taken out of the pool up front so later updates and deletes do not pick a deleted task
+                case DELETE -> taskIds.take(random);
+                default -> 0;
+            };
+            int status;
+            try {
+                HttpResponse<String> response = client.send(request(endpoint, taskId, random),
+                        HttpResponse.BodyHandlers.ofString());
+                status = response.statusCode();
+                if (endpoint == Endpoint.CREATE && status == 201) {
+                    taskIds.add(OBJECT_MAPPER.readTree(response.body()).get("id").asLong());
+                }
+            } catch (IOException e) {
+                status = -1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                status = -1;
+            }
+            if (result != null) {
+                result.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart), status);
+            }
+        }
+
+        private HttpRequest request(Endpoint endpoint, long taskId, ThreadLocalRandom random) throws IOException {
+            HttpRequest.Builder builder = switch (endpoint) {
+                case CREATE -> json(HttpRequest.newBuilder(URI.create(baseUrl)), "POST",
+                        new TaskCreateRequestDTO("Load generator task " + created.incrementAndGet(),
+                                "Created by the open-model load generator", pick(priorityIds, random),
+                                pick(taskStatusIds, random)));
+                case UPDATE -> json(HttpRequest.newBuilder(URI.create(baseUrl + "/" + taskId)), "PUT",
+                        new TaskUpdateRequestDTO("Updated load test task " + taskId,
+                                "Updated by the open-model load generator", pick(priorityIds, random),
+                                pick(taskStatusIds, random)));
+                case FILTER -> HttpRequest.newBuilder(URI.create(baseUrl + "/filter?statusId="
+                        + pick(taskStatusIds, random) + (random.nextBoolean() ? "&priorityId=" + pick(priorityIds, random) : "")
+                        + "&page=" + random.nextInt(10) + "&size=20")).GET();
+                case SEARCH -> HttpRequest.newBuilder(URI.create(baseUrl + "/search?searchTerm=task%20"
+                        + random.nextInt(1000) + "&page=0&size=20")).GET();
+                case STATISTICS -> HttpRequest.newBuilder(URI.create(baseUrl + "/statistics")).GET();
+                case DELETE -> HttpRequest.newBuilder(URI.create(baseUrl + "/" + taskId)).DELETE();
+            };
+            return builder.timeout(Duration.ofSeconds(TIMEOUT_SECONDS)).build();
+        }
+
+        private static HttpRequest.Builder json(HttpRequest.Builder builder, String method, Object body)
+                throws IOException {
+            return builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(OBJECT_MAPPER.writeValueAsBytes(body)));
+        }
+
+        private static long pick(long[] ids, ThreadLocalRandom random) {
+            return ids[random.nextInt(ids.length)];
+        }
+    }
+
+    // Ids of the tasks created so far, with random access for updates and deletes
+    static final class TaskIds {
+
+        private long[] ids;
+        private int size;
+
+        TaskIds(long[] seeded) {
+            ids = Arrays.copyOf(seeded, Math.max(16, seeded.length * 2));
+            size = seeded.length;
+        }
+
+        synchronized void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        synchronized long any(ThreadLocalRandom random) {
+            return size == 0 ? 0 : ids[random.nextInt(size)];
+        }
+
+        synchronized long take(ThreadLocalRandom random) {
+            if (size == 0) {
+                return 0;
+            }
+            int index = random.nextInt(size);
+            long id = ids[index];
+            ids[index] = ids[--size];
+            return id;
+        }
+    }
+
+    static final class Mix {
+
+        private final Endpoint[] endpoints;
+        private final int[] cumulativeWeights;
+
+        private Mix(Endpoint[] endpoints, int[] cumulativeWeights) {
+            this.endpoints = endpoints;
+            this.cumulativeWeights = cumulativeWeights;
+        }
+
+        static Mix parse(String mix) {
+            List<Endpoint> endpoints = new ArrayList<>();
+            List<Integer> cumulative = new ArrayList<>();
+            int total = 0;
+            for (String entry : mix.split(",")) {
+                String[] parts = entry.trim().split("=");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Expected endpoint=weight in loadtest.mix, got: " + entry);
+                }
+                int weight = Integer.parseInt(parts[1].trim());
+                if (weight > 0) {
+                    total += weight;
+                    endpoints.add(Endpoint.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)));
+                    cumulative.add(total);
+                }
+            }
+            if (total == 0) {
+                throw new IllegalArgumentException("loadtest.mix has no endpoint with a positive weight: " + mix);
+            }
+            return new Mix(endpoints.toArray(Endpoint[]::new), cumulative.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        Endpoint next(ThreadLocalRandom random) {
+            int ticket = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (ticket < cumulativeWeights[i]) {
+                    return endpoints[i];
+                }
+            }
+            throw new IllegalStateException("Unreachable");
+        }
+    }
+
+    static final class Stage {
+
+        private final int rate;
+        private final Map<Endpoint, Result> results = new EnumMap<>(Endpoint.class);
+        private double maxDispatchLagMillis;
+
+        Stage(int rate) {
+            this.rate = rate;
+            for (Endpoint endpoint : Endpoint.values()) {
+                results.put(endpoint, new Result());
+            }
+        }
+    }
+
+    static final class Result {
+
+        private final Histogram latencies = new ConcurrentHistogram(HIGHEST_LATENCY_MICROS, 3);
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+        private final Map<Integer, AtomicLong> statusCounts = new ConcurrentHashMap<>();
+
+        void record(long latencyMicros, int status) {
+            latencies.recordValue(Math.min(Math.max(latencyMicros, 1), HIGHEST_LATENCY_MICROS));
+            statusCounts.computeIfAbsent(status, code -> new AtomicLong()).incrementAndGet();
+            if (status < 200 || status >= 300) {
+                errors.incrementAndGet();
+            }
+        }
+
+        double percentileMillis(double percentile) {
+            return latencies.getTotalCount() == 0 ? 0 : latencies.getValueAtPercentile(percentile) / 1000.0;
+        }
+    }
+
+    private static void print(List<Stage> stages, PrintStream out) {
+        out.printf("%8s %-26s %10s %10s %9s %9s %9s %9s %9s %8s %8s%n", "rate/s", "endpoint", "requests", "req/s",
+                "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms", "errors", "dropped");
+        for (Stage stage : stages) {
+            for (Map.Entry<Endpoint, Result> entry : stage.results.entrySet()) {
+                Result result = entry.getValue();
+                long count = result.latencies.getTotalCount();
+                if (count == 0 && result.dropped.get() == 0) {
+                    continue;
+                }
+                out.printf("%8d %-26s %10d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %8d %8d%n", stage.rate,
+                        entry.getKey().route, count, count / (double) DURATION_SECONDS, result.percentileMillis(50),
+                        result.percentileMillis(95), result.percentileMillis(99), result.percentileMillis(99.9),
+                        result.latencies.getMaxValue() / 1000.0, result.errors.get(), result.dropped.get());
+            }
+            out.printf("%8d max dispatch lag %.2f ms%n", stage.rate, stage.maxDispatchLagMillis);
+        }
+    }
+
+    private static void writeReport(Path reportDir, List<Stage> stages) throws IOException {
+        Files.createDirectories(reportDir);
+        try (PrintStream out = new PrintStream(Files.newOutputStream(reportDir.resolve("summary.txt")))) {
+            out.printf("arrivals=%s, warmup=%ds, duration=%ds, tasks=%d, mix=%s%n",
+                    POISSON ? "poisson" : "uniform", WARMUP_SECONDS, DURATION_SECONDS, TASKS, MIX);
+            print(stages, out);
+        }
+
+        List<Map<String, Object>> json = new ArrayList<>();
+        for (Stage stage : stages) {
+            Map<String, Object> endpoints = new LinkedHashMap<>();
+            for (Map.Entry<Endpoint, Result> entry : stage.results.entrySet()) {
+                Result result = entry.getValue();
+                Map<String, Object> summary = new LinkedHashMap<>();
+                summary.put("requests", result.latencies.getTotalCount());
+                summary.put("throughput", result.latencies.getTotalCount() / (double) DURATION_SECONDS);
+                summary.put("p50Millis", result.percentileMillis(50));
+                summary.put("p95Millis", result.percentileMillis(95));
+                summary.put("p99Millis", result.percentileMillis(99));
+                summary.put("p999Millis", result.percentileMillis(99.9));
+                summary.put("maxMillis", result.latencies.getMaxValue() / 1000.0);
+                summary.put("errors", result.errors.get());
+                summary.put("dropped", result.dropped.get());
+                summary.put("statusCounts", new TreeMap<>(result.statusCounts));
+                endpoints.put(entry.getKey().route, summary);
+
+                // Percentile distribution in the .hgrm format the HdrHistogram plotter reads
+                Path distribution = reportDir.resolve("rate-" + stage.rate + "-"
+                        + entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm");
+                try (PrintStream out = new PrintStream(Files.newOutputStream(distribution))) {
+                    result.latencies.outputPercentileDistribution(out, 1000.0);
+                }
+            }
+            Map<String, Object> stageJson = new LinkedHashMap<>();
+            stageJson.put("rate", stage.rate);
+            stageJson.put("maxDispatchLagMillis", stage.maxDispatchLagMillis);
+            stageJson.put("endpoints", endpoints);
+            json.add(stageJson);
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("arrivals", POISSON ? "poisson" : "uniform");
+        report.put("warmupSeconds", WARMUP_SECONDS);
+        report.put("durationSeconds", DURATION_SECONDS);
+        report.put("tasks", TASKS);
+        report.put("mix", MIX);
+        report.put("stages", json);
+        OBJECT_MAPPER.writeValue(reportDir.resolve("summary.json").toFile(), report);
+    }
+}
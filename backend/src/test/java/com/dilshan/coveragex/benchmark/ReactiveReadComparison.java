@@ -0,0 +1,88 @@
+package com.dilshan.coveragex.benchmark;
+
+import com.dilshan.coveragex.TodoApplication;
+import com.dilshan.coveragex.reactive.ReactiveReadApplication;
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Runs the same read workload (by ID, list page, filter, statistics) against the servlet/JPA application and the
+ * reactive WebFlux/R2DBC read API, both with a pool of loadtest.poolSize connections to the same database, and prints
+ * throughput, tail latency and the connections in use during the run.
+ * The servlet application creates and seeds the schema and stays up while the reactive one runs.
+ * Defaults to a shared in-memory H2 database; since H2 executes on the calling thread, use MySQL for conclusions:
+ * -Dloadtest.profile=default --spring.datasource.url=jdbc:mysql://... --spring.r2dbc.url=r2dbc:mysql://...
+ * Run with: java -cp <test classpath> com.dilshan.coveragex.benchmark.ReactiveReadComparison [--spring.x=y ...]
+ */
+public class ReactiveReadComparison {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 500);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmupSeconds", 10);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.durationSeconds", 30);
+    private static final int TASKS = Integer.getInteger("loadtest.tasks", 5000);
+    private static final int POOL_SIZE = Integer.getInteger("loadtest.poolSize", 20);
+    private static final String PROFILE = System.getProperty("loadtest.profile", "test");
+
+    public static void main(String[] args) throws Exception {
+        List<String> defaults = new ArrayList<>(List.of("--server.port=0"));
+        defaults.addAll(ClosedLoadDriver.QUIET_LOGGING);
+        defaults.add("--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE);
+        defaults.add("--spring.r2dbc.url=r2dbc:h2:mem:///testdb;DB_CLOSE_DELAY=-1");
+        defaults.add("--spring.r2dbc.pool.initial-size=" + POOL_SIZE);
+        defaults.add("--spring.r2dbc.pool.max-size=" + POOL_SIZE);
+        String[] arguments = ClosedLoadDriver.arguments(defaults, args);
+
+        List<ClosedLoadDriver.Result> results = new ArrayList<>();
+        try (ConfigurableApplicationContext servlet = new SpringApplicationBuilder(TodoApplication.class)
+                .profiles(PROFILE)
+                .run(arguments)) {
+            long[] taskIds = VirtualThreadLoadComparison.seed(servlet, TASKS);
+            HikariDataSource dataSource = servlet.getBean(HikariDataSource.class);
+            results.add(ClosedLoadDriver.drive("servlet", CONCURRENCY, WARMUP_SECONDS, DURATION_SECONDS,
+                    workload(port(servlet), taskIds), () -> dataSource.getHikariPoolMXBean().getActiveConnections()));
+
+            try (ConfigurableApplicationContext reactive = new SpringApplicationBuilder(ReactiveReadApplication.class)
+                    .web(WebApplicationType.REACTIVE)
+                    .profiles("reactive", PROFILE)
+                    .run(arguments)) {
+                ConnectionPool pool = reactive.getBean(ConnectionPool.class);
+                results.add(ClosedLoadDriver.drive("reactive", CONCURRENCY, WARMUP_SECONDS, DURATION_SECONDS,
+                        workload(port(reactive), taskIds),
+                        () -> pool.getMetrics().map(PoolMetrics::acquiredSize).orElse(0)));
+            }
+        }
+
+        System.out.printf("%nconcurrency=%d, duration=%ds, pool=%d, tasks=%d%n",
+                CONCURRENCY, DURATION_SECONDS, POOL_SIZE, TASKS);
+        ClosedLoadDriver.print(results);
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+    }
+
+    // 60% by ID, 20% list pages, 10% filtered by status, 10% statistics
+    private static Function<ThreadLocalRandom, String> workload(int port, long[] taskIds) {
+        String baseUrl = "http://localhost:" + port + "/api/tasks";
+        return random -> {
+            int pick = random.nextInt(10);
+            if (pick < 6) {
+                return baseUrl + "/" + taskIds[random.nextInt(taskIds.length)];
+            } else if (pick < 8) {
+                return baseUrl + "?page=" + random.nextInt(50) + "&size=20";
+            } else if (pick < 9) {
+                return baseUrl + "/filter?statusId=1&page=" + random.nextInt(50) + "&size=20";
+            }
+            return baseUrl + "/statistics";
+        };
+    }
+}
@@ -0,0 +1,292 @@
+package com.dilshan.coveragex.benchmark;
+
+import com.dilshan.coveragex.TodoApplication;
+import com.dilshan.coveragex.cache.ReferenceDataRegistry;
+import com.dilshan.coveragex.dto.TaskResponseDTO;
+import com.dilshan.coveragex.dto.TaskSearchMode;
+import com.dilshan.coveragex.entity.Task;
+import com.dilshan.coveragex.mapper.TaskMapper;
+import com.dilshan.coveragex.repository.FullTextSearchSupport;
+import com.dilshan.coveragex.repository.TaskRepository;
+import com.dilshan.coveragex.search.TaskSearchIndex;
+import com.dilshan.coveragex.service.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Times the TaskRepository queries at production volumes and writes the results as JSON for trend tracking.
+ * The tasks table is grown to each volume in bench.volumes in turn (rows are bulk-inserted over JDBC, so the
+ * application's task ID sequence is not advanced), and at each volume every query runs bench.warmup times
+ * untimed and bench.iterations times timed, each in its own read-only transaction. Alternatives are timed side
+ * by side: entities against projections, offset pages against slices and keyset seeks, LIKE against the
+ * in-memory index (and MySQL FULLTEXT when running on MySQL).
+ * Defaults to in-memory H2 in MySQL mode, which needs a large heap at the top volume (-Xmx8g for 5M rows);
+ * pass --spring.datasource.* arguments to run against a real MySQL.
+ * Run with: java -cp <test classpath> com.dilshan.coveragex.benchmark.RepositoryQueryBenchmark [--spring.x=y ...]
+ */
+public class RepositoryQueryBenchmark {
+
+    private static final String VOLUMES = System.getProperty("bench.volumes", "100000,1000000,5000000");
+    private static final int WARMUP = Integer.getInteger("bench.warmup", 2);
+    private static final int ITERATIONS = Integer.getInteger("bench.iterations", 5);
+    private static final int PAGE_SIZE = Integer.getInteger("bench.pageSize", 20);
+    private static final String PROFILE = System.getProperty("bench.profile", "test");
+    private static final String RESULT_FILE = System.getProperty("bench.result", "target/benchmarks/repository-queries.json");
+
+    private static final int SEED_BATCH_SIZE = 5000;
+    private static final int[] OFFSETS = {0, 1_000, 10_000, 100_000, 1_000_000};
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createDate");
+
+    // Every task gets two words from this list in its title and eight in its description
+    private static final String[] WORDS = {
+            "invoice", "release", "review", "deploy", "budget", "customer", "report", "backlog", "design", "meeting",
+            "migration", "onboarding", "audit", "roadmap", "security", "payroll", "vendor", "training", "support",
+            "analytics", "contract", "hiring", "feedback", "prototype", "inventory", "forecast", "compliance",
+            "newsletter", "workshop", "survey", "pipeline", "outage", "refactor", "benchmark", "license", "renewal",
+            "shipment", "campaign", "dashboard", "retrospective"};
+    // In one task out of RARE_EVERY, to time a selective search next to a common one
+    private static final String RARE_TERM = "zeppelin";
+    private static final int RARE_EVERY = 10_000;
+
+    private final TaskRepository taskRepository;
+    private final TaskService taskService;
+    private final TaskMapper taskMapper;
+    private final TaskSearchIndex taskSearchIndex;
+    private final FullTextSearchSupport fullTextSearchSupport;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnly;
+    private final List<Long> priorityIds = new ArrayList<>();
+    private final List<Long> statusIds = new ArrayList<>();
+    private final LocalDateTime seedStart = LocalDateTime.now();
+    private final List<Map<String, Object>> results = new ArrayList<>();
+    private long seeded;
+
+    private RepositoryQueryBenchmark(ConfigurableApplicationContext context) {
+        taskRepository = context.getBean(TaskRepository.class);
+        taskService = context.getBean(TaskService.class);
+        taskMapper = context.getBean(TaskMapper.class);
+        taskSearchIndex = context.getBean(TaskSearchIndex.class);
+        fullTextSearchSupport = context.getBean(FullTextSearchSupport.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        ReferenceDataRegistry registry = context.getBean(ReferenceDataRegistry.class);
+        registry.getPriorityTypes().forEach(priority -> priorityIds.add(priority.getId()));
+        registry.getTaskStatusTypes().forEach(status -> statusIds.add(status.getId()));
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> defaults = new ArrayList<>(List.of(
+                "--spring.main.web-application-type=none",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"));
+        defaults.addAll(ClosedLoadDriver.QUIET_LOGGING);
+        long[] volumes = Arrays.stream(VOLUMES.split(",")).map(String::trim).mapToLong(Long::parseLong).sorted().toArray();
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TodoApplication.class)
+                .profiles(PROFILE)
+                .run(ClosedLoadDriver.arguments(defaults, args))) {
+            RepositoryQueryBenchmark benchmark = new RepositoryQueryBenchmark(context);
+            for (long volume : volumes) {
+                benchmark.seedTo(volume);
+                benchmark.runAll(volume);
+            }
+            benchmark.write(context.getBean(DataSource.class), volumes);
+        }
+    }
+
+    private void seedTo(long volume) {
+        long started = System.nanoTime();
+        long nextId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM tasks", Long.class) + 1;
+        seeded = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Long.class);
+        while (seeded < volume) {
+            int batchSize = (int) Math.min(SEED_BATCH_SIZE, volume - seeded);
+            List<Object[]> rows = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                rows.add(row(nextId++));
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO tasks (id, task_title, description, create_date, " +
+                    "last_status_change_date, version, priority_id, task_status_id) VALUES (?, ?, ?, ?, ?, 0, ?, ?)", rows);
+            seeded += batchSize;
+        }
+        System.out.printf("Seeded %d tasks in %d s%n", seeded, (System.nanoTime() - started) / 1_000_000_000);
+
+        started = System.nanoTime();
+        taskSearchIndex.rebuild();
+        System.out.printf("Rebuilt search index in %d s%n", (System.nanoTime() - started) / 1_000_000_000);
+    }
+
+    private Object[] row(long id) {
+        StringBuilder title = new StringBuilder("Task ").append(id);
+        for (int i = 0; i < 2; i++) {
+            title.append(' ').append(word(id, i));
+        }
+        StringBuilder description = new StringBuilder("Seeded task ").append(id).append(':');
+        for (int i = 2; i < 10; i++) {
+            description.append(' ').append(word(id, i));
+        }
+        if (id % RARE_EVERY == 0) {
+            description.append(' ').append(RARE_TERM);
+        }
+        description.append(". Check the attached notes before closing.");
+        // Older IDs are older tasks, so the newest-first pages start at the most recent inserts
+        Timestamp createDate = Timestamp.valueOf(seedStart.minusSeconds(10_000_000 - id % 10_000_000));
+        return new Object[]{id, title.toString(), description.toString(), createDate, createDate,
+                priorityIds.get((int) (id % priorityIds.size())), statusIds.get((int) (id % statusIds.size()))};
+    }
+
+    private static String word(long id, int position) {
+        long mixed = (id * 0x9E3779B97F4A7C15L + position * 0xC2B2AE3D27D4EB4FL) >>> 33;
+        return WORDS[(int) (mixed % WORDS.length)];
+    }
+
+    private void runAll(long volume) {
+        System.out.printf("%n%d tasks%n", volume);
+        Long statusId = statusIds.get(0);
+        Long priorityId = priorityIds.get(0);
+        String term = WORDS[0];
+
+        // findTasksWithFilters with every combination of null and non-null filters, as entities and as projections
+        for (int combination = 0; combination < 8; combination++) {
+            Long status = (combination & 1) != 0 ? statusId : null;
+            Long priority = (combination & 2) != 0 ? priorityId : null;
+            String search = (combination & 4) != 0 ? term : null;
+            String variant = "status=" + (status != null) + ",priority=" + (priority != null) + ",search=" + (search != null);
+            Pageable firstPage = PageRequest.of(0, PAGE_SIZE, NEWEST_FIRST);
+            time(volume, "filters", "findTasksWithFilters", variant + ",entity",
+                    () -> mapped(taskRepository.findTasksWithFilters(status, priority, search, firstPage)));
+            time(volume, "filters", "findProjectedTasksWithFilters", variant + ",projection",
+                    () -> taskRepository.findProjectedTasksWithFilters(status, priority, search, firstPage).getNumberOfElements());
+        }
+
+        for (String searchTerm : List.of(term, RARE_TERM)) {
+            String variant = searchTerm.equals(RARE_TERM) ? "rare" : "common";
+            time(volume, "search", "searchByTitleOrDescription", variant + ",like",
+                    () -> mapped(taskRepository.searchByTitleOrDescription(searchTerm, PageRequest.of(0, PAGE_SIZE, NEWEST_FIRST))));
+            time(volume, "search", "fullTextSearchTasks", variant + ",index",
+                    () -> taskService.fullTextSearchTasks(searchTerm, TaskSearchMode.INDEX, 0, PAGE_SIZE).getNumberOfElements());
+            if (fullTextSearchSupport.isAvailable()) {
+                time(volume, "search", "fullTextSearchNaturalIds", variant + ",mysql-fulltext",
+                        () -> taskRepository.fullTextSearchNaturalIds(searchTerm, PageRequest.of(0, PAGE_SIZE)).getNumberOfElements());
+            }
+        }
+
+        time(volume, "counts", "count", "all", () -> (int) taskRepository.count());
+        time(volume, "counts", "countTasksByStatus", "all", () -> taskRepository.countTasksByStatus().size());
+        time(volume, "counts", "countTasksByPriority", "all", () -> taskRepository.countTasksByPriority().size());
+        time(volume, "counts", "countTasksByStatusAndPriority", "all", () -> taskRepository.countTasksByStatusAndPriority().size());
+        time(volume, "counts", "countCompletedTasks", "all", () -> taskRepository.countCompletedTasks().intValue());
+        time(volume, "counts", "countActiveTasks", "all", () -> taskRepository.countActiveTasks().intValue());
+        time(volume, "counts", "countTasksWithFilters", "status",
+                () -> (int) taskRepository.countTasksWithFilters(statusId, null, null));
+        time(volume, "counts", "countTasksWithFilters", "search",
+                () -> (int) taskRepository.countTasksWithFilters(null, null, term));
+
+        // The same page at increasing depth: offset with a total count, offset without one, and a keyset seek
+        for (int offset : OFFSETS) {
+            if (offset + PAGE_SIZE > volume) {
+                continue;
+            }
+            String variant = "offset=" + offset;
+            Pageable page = PageRequest.of(offset / PAGE_SIZE, PAGE_SIZE, NEWEST_FIRST);
+            time(volume, "pagination", "findProjectedTasksWithFilters", variant + ",offset-page",
+                    () -> taskRepository.findProjectedTasksWithFilters(null, null, null, page).getNumberOfElements());
+            time(volume, "pagination", "findTaskSliceWithFilters", variant + ",offset-slice",
+                    () -> taskRepository.findTaskSliceWithFilters(null, null, null, page).getNumberOfElements());
+            TaskResponseDTO cursor = offset == 0 ? null : readOnly.execute(status -> taskRepository
+                    .findTaskSliceWithFilters(null, null, null, PageRequest.of(offset - 1, 1, NEWEST_FIRST))
+                    .getContent().get(0));
+            time(volume, "pagination", "seekTasksDescAfter", variant + ",keyset", () -> cursor == null
+                    ? taskRepository.seekTasksDesc(null, null, null, PageRequest.of(0, PAGE_SIZE)).size()
+                    : taskRepository.seekTasksDescAfter(null, null, null, cursor.getCreateDate(), cursor.getId(),
+                            PageRequest.of(0, PAGE_SIZE)).size());
+        }
+    }
+
+    // Entities are mapped inside the transaction, as the service does, so the comparison with projections is fair
+    private int mapped(Page<Task> page) {
+        return page.getContent().stream().map(taskMapper::toResponseDTO).toList().size();
+    }
+
+    private void time(long volume, String group, String query, String variant, Supplier<Integer> operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            readOnly.execute(status -> operation.get());
+        }
+        long[] nanos = new long[ITERATIONS];
+        int rows = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long started = System.nanoTime();
+            Integer result = readOnly.execute(status -> operation.get());
+            nanos[i] = System.nanoTime() - started;
+            rows = result == null ? 0 : result;
+        }
+        Arrays.sort(nanos);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("volume", volume);
+        result.put("group", group);
+        result.put("query", query);
+        result.put("variant", variant);
+        result.put("rows", rows);
+        result.put("minMs", millis(nanos[0]));
+        result.put("medianMs", millis(nanos[nanos.length / 2]));
+        result.put("p95Ms", millis(nanos[Math.min(nanos.length - 1, (int) Math.ceil(nanos.length * 0.95) - 1)]));
+        result.put("maxMs", millis(nanos[nanos.length - 1]));
+        result.put("meanMs", millis(Arrays.stream(nanos).sum() / nanos.length));
+        results.add(result);
+        System.out.printf("  %-11s %-30s %-55s median %10.3f ms  p95 %10.3f ms  rows %d%n",
+                group, query, variant, result.get("medianMs"), result.get("p95Ms"), rows);
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    private void write(DataSource dataSource, long[] volumes) throws IOException, SQLException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            report.put("database", metaData.getDatabaseProductName() + " " + metaData.getDatabaseProductVersion());
+            report.put("url", metaData.getURL());
+        }
+        report.put("timestamp", Instant.now().toString());
+        report.put("java", Runtime.version().toString());
+        report.put("volumes", volumes);
+        report.put("warmup", WARMUP);
+        report.put("iterations", ITERATIONS);
+        report.put("pageSize", PAGE_SIZE);
+        report.put("results", results);
+
+        File file = new File(RESULT_FILE);
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (!parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Cannot create directory " + parent);
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+        System.out.printf("%nResults written to %s%n", file);
+    }
+}
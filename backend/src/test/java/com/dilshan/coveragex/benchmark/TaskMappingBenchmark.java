@@ -0,0 +1,79 @@
+package com.dilshan.coveragex.benchmark;
+
+import com.dilshan.coveragex.dto.TaskResponseDTO;
+import com.dilshan.coveragex.entity.Task;
+import com.dilshan.coveragex.mapper.PriorityTypeMapper;
+import com.dilshan.coveragex.mapper.TaskMapper;
+import com.dilshan.coveragex.mapper.TaskStatusTypeMapper;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the hand-written TaskMapper with the reflective ModelMapper setup it replaced, one page of tasks per operation.
+ * Run with: java -cp <test classpath> com.dilshan.coveragex.benchmark.TaskMappingBenchmark
+ * or together with the other hot-path benchmarks through {@link HotPathBenchmarks}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    private List<Task> tasks;
+    private ModelMapper modelMapper;
+    private TaskMapper taskMapper;
+
+    @Setup
+    public void setUp() {
+        tasks = BenchmarkTasks.tasks(pageSize);
+
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setMatchingStrategy(MatchingStrategies.STRICT)
+                .setFieldMatchingEnabled(true)
+                .setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE);
+
+        taskMapper = new TaskMapper(new PriorityTypeMapper(), new TaskStatusTypeMapper());
+    }
+
+    @Benchmark
+    public List<TaskResponseDTO> modelMapper() {
+        List<TaskResponseDTO> page = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            page.add(modelMapper.map(task, TaskResponseDTO.class));
+        }
+        return page;
+    }
+
+    @Benchmark
+    public List<TaskResponseDTO> taskMapper() {
+        List<TaskResponseDTO> page = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            page.add(taskMapper.toResponseDTO(task));
+        }
+        return page;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(TaskMappingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,79 @@
+package com.dilshan.coveragex.benchmark;
+
+import com.dilshan.coveragex.dto.TaskResponseDTO;
+import com.dilshan.coveragex.dto.TaskStatisticsResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the two largest responses, GET /api/tasks pages and GET /api/tasks/statistics,
+ * with an ObjectMapper configured like the one Spring Boot builds for the controllers.
+ * Run with: java -cp <test classpath> com.dilshan.coveragex.benchmark.TaskSerializationBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private TaskStatisticsResponseDTO statistics;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        statistics = BenchmarkTasks.statistics();
+    }
+
+    // Only the page benchmark is parameterized, so statistics is not run once per page size
+    @State(Scope.Benchmark)
+    public static class TaskPage {
+
+        @Param({"10", "100", "1000"})
+        private int pageSize;
+
+        private Page<TaskResponseDTO> page;
+
+        @Setup
+        public void setUp() {
+            page = new PageImpl<>(BenchmarkTasks.responses(pageSize),
+                    PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createDate")), 100_000);
+        }
+    }
+
+    @Benchmark
+    public byte[] taskPage(TaskPage taskPage) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(taskPage.page);
+    }
+
+    @Benchmark
+    public byte[] statistics() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(statistics);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(TaskSerializationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,81 @@
+package com.dilshan.coveragex.benchmark;
+
+import com.dilshan.coveragex.TodoApplication;
+import com.dilshan.coveragex.cache.ReferenceDataRegistry;
+import com.dilshan.coveragex.dto.TaskBatchItemResultDTO;
+import com.dilshan.coveragex.dto.TaskCreateRequestDTO;
+import com.dilshan.coveragex.service.TaskService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Closed-model load test of the same workload against the default Tomcat thread pool and the virtual-threads profile.
+ * Each run starts the application on a random port, seeds tasks, and keeps loadtest.concurrency clients busy
+ * with GET /api/tasks/{id} and GET /api/tasks requests; both runs use the same Hikari pool size.
+ * Defaults to the in-memory H2 test profile; pass --spring.* arguments to point it at MySQL.
+ * Run with: java -cp <test classpath> com.dilshan.coveragex.benchmark.VirtualThreadLoadComparison [--spring.x=y ...]
+ */
+public class VirtualThreadLoadComparison {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 1000);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmupSeconds", 10);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.durationSeconds", 30);
+    private static final int TASKS = Integer.getInteger("loadtest.tasks", 5000);
+    private static final int POOL_SIZE = Integer.getInteger("loadtest.poolSize", 20);
+    private static final String PROFILE = System.getProperty("loadtest.profile", "test");
+
+    public static void main(String[] args) throws Exception {
+        List<ClosedLoadDriver.Result> results = new ArrayList<>();
+        results.add(run("platform", PROFILE, args));
+        results.add(run("virtual", PROFILE + ",virtual-threads", args));
+
+        System.out.printf("%nconcurrency=%d, duration=%ds, pool=%d%n", CONCURRENCY, DURATION_SECONDS, POOL_SIZE);
+        ClosedLoadDriver.print(results);
+    }
+
+    private static ClosedLoadDriver.Result run(String mode, String profiles, String[] args) throws Exception {
+        List<String> defaults = new ArrayList<>(List.of("--server.port=0",
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE));
+        defaults.addAll(ClosedLoadDriver.QUIET_LOGGING);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TodoApplication.class)
+                .profiles(profiles.split(","))
+                .run(ClosedLoadDriver.arguments(defaults, args))) {
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            long[] taskIds = seed(context, TASKS);
+            System.out.printf("%s: seeded %d tasks, running %d clients against port %d%n",
+                    mode, taskIds.length, CONCURRENCY, port);
+            String baseUrl = "http://localhost:" + port + "/api/tasks";
+            HikariDataSource dataSource = context.getBean(HikariDataSource.class);
+            return ClosedLoadDriver.drive(mode, CONCURRENCY, WARMUP_SECONDS, DURATION_SECONDS,
+                    random -> random.nextInt(5) == 0
+                            ? baseUrl + "?page=" + random.nextInt(50) + "&size=20"
+                            : baseUrl + "/" + taskIds[random.nextInt(taskIds.length)],
+                    () -> dataSource.getHikariPoolMXBean().getActiveConnections());
+        }
+    }
+
+    static long[] seed(ConfigurableApplicationContext context, int tasks) {
+        TaskService taskService = context.getBean(TaskService.class);
+        ReferenceDataRegistry registry = context.getBean(ReferenceDataRegistry.class);
+        Long priorityId = registry.getPriorityTypes().get(0).getId();
+        Long taskStatusId = registry.getTaskStatusTypes().get(0).getId();
+
+        List<Long> ids = new ArrayList<>(tasks);
+        while (ids.size() < tasks) {
+            List<TaskCreateRequestDTO> batch = new ArrayList<>();
+            for (int i = 0; i < Math.min(1000, tasks - ids.size()); i++) {
+                batch.add(new TaskCreateRequestDTO("Load test task " + (ids.size() + i),
+                        "Seeded for the load test", priorityId, taskStatusId));
+            }
+            for (TaskBatchItemResultDTO item : taskService.createTasks(batch).getResults()) {
+                ids.add(item.getId());
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+}
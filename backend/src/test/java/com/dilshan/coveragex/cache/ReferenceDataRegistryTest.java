@@ -0,0 +1,77 @@
+package com.dilshan.coveragex.cache;
+
+import com.dilshan.coveragex.entity.PriorityType;
+import com.dilshan.coveragex.entity.TaskStatusType;
+import com.dilshan.coveragex.repository.PriorityTypeRepository;
+import com.dilshan.coveragex.repository.TaskStatusTypeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReferenceDataRegistryTest {
+
+    private PriorityTypeRepository priorityTypeRepository;
+    private TaskStatusTypeRepository taskStatusTypeRepository;
+    private ReferenceDataRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        priorityTypeRepository = mock(PriorityTypeRepository.class);
+        taskStatusTypeRepository = mock(TaskStatusTypeRepository.class);
+        when(priorityTypeRepository.findAll()).thenReturn(Arrays.asList(
+                new PriorityType(2L, "MEDIUM"), new PriorityType(1L, "HIGH"), new PriorityType(5000L, "LOW")));
+        when(taskStatusTypeRepository.findAll()).thenReturn(Collections.singletonList(new TaskStatusType(1L, "OPEN")));
+        registry = new ReferenceDataRegistry(priorityTypeRepository, taskStatusTypeRepository);
+    }
+
+    @Test
+    void lookups_ServedFromSingleLoad() {
+        // Act & Assert
+        assertEquals("HIGH", registry.findPriorityTypeById(1L).orElseThrow().getType());
+        assertEquals(5000L, registry.findPriorityTypeByType("LOW").orElseThrow().getId());
+        assertEquals("LOW", registry.findPriorityTypeById(5000L).orElseThrow().getType());
+        assertTrue(registry.findPriorityTypeById(3L).isEmpty());
+        assertTrue(registry.findPriorityTypeById(null).isEmpty());
+        assertTrue(registry.existsTaskStatusTypeById(1L));
+        assertFalse(registry.existsTaskStatusTypeById(2L));
+        assertEquals(Arrays.asList(1L, 2L, 5000L),
+                registry.getPriorityTypes().stream().map(PriorityType::getId).toList());
+
+        verify(priorityTypeRepository, times(1)).findAll();
+        verify(taskStatusTypeRepository, times(1)).findAll();
+    }
+
+    @Test
+    void invalidate_ReloadsOnNextLookup() {
+        // Arrange
+        registry.findTaskStatusTypeByType("OPEN");
+        when(taskStatusTypeRepository.findAll()).thenReturn(Collections.singletonList(new TaskStatusType(7L, "CLOSED")));
+
+        // Act
+        registry.invalidate();
+
+        // Assert
+        assertEquals(7L, registry.findTaskStatusTypeByType("CLOSED").orElseThrow().getId());
+        assertTrue(registry.findTaskStatusTypeByType("OPEN").isEmpty());
+        verify(taskStatusTypeRepository, times(2)).findAll();
+    }
+
+    @Test
+    void lookups_ReturnDetachedCopies() {
+        // Arrange
+        PriorityType loaded = new PriorityType(1L, "HIGH");
+        when(priorityTypeRepository.findAll()).thenReturn(Collections.singletonList(loaded));
+
+        // Act
+        PriorityType result = registry.findPriorityTypeById(1L).orElseThrow();
+
+        // Assert
+        assertNotSame(loaded, result);
+        assertEquals(loaded, result);
+    }
+}
@@ -0,0 +1,89 @@
+package com.dilshan.coveragex.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskChangeSequenceTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void advanceAfterCommit_WithoutTransactionAdvancesImmediately() {
+        // Arrange
+        TaskChangeSequence sequence = new TaskChangeSequence();
+
+        // Act
+        sequence.advanceAfterCommit();
+
+        // Assert
+        assertEquals(1, sequence.current());
+    }
+
+    @Test
+    void advanceAfterCommit_AdvancesOncePerCommittedTransaction() {
+        // Arrange
+        TaskChangeSequence sequence = new TaskChangeSequence();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        sequence.advanceAfterCommit();
+        sequence.advanceAfterCommit();
+        long beforeCommit = sequence.current();
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        // Assert
+        assertEquals(0, beforeCommit);
+        assertEquals(1, sequence.current());
+        assertFalse(TransactionSynchronizationManager.hasResource(sequence));
+    }
+
+    @Test
+    void advanceAfterCommit_IgnoresRolledBackTransaction() {
+        // Arrange
+        TaskChangeSequence sequence = new TaskChangeSequence();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        sequence.advanceAfterCommit();
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Assert
+        assertEquals(0, sequence.current());
+        assertFalse(TransactionSynchronizationManager.hasResource(sequence));
+    }
+
+    @Test
+    void collectionETag_ChangesWithSequenceAndParameters() {
+        // Arrange
+        TaskChangeSequence sequence = new TaskChangeSequence();
+
+        // Act
+        String first = sequence.collectionETag("tasks", 0, 10, "createDate", "DESC");
+        String samePage = sequence.collectionETag("tasks", 0, 10, "createDate", "DESC");
+        String nextPage = sequence.collectionETag("tasks", 1, 10, "createDate", "DESC");
+        sequence.advanceAfterCommit();
+        String afterWrite = sequence.collectionETag("tasks", 0, 10, "createDate", "DESC");
+
+        // Assert
+        assertTrue(first.startsWith("W/\""));
+        assertEquals(first, samePage);
+        assertNotEquals(first, nextPage);
+        assertNotEquals(first, afterWrite);
+    }
+
+    private static void complete(int status) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(status);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
@@ -0,0 +1,41 @@
+package com.dilshan.coveragex.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskCountCacheTest {
+
+    @Test
+    void getOrCompute_CachesPerFilterCombination() {
+        // Arrange
+        TaskCountCache cache = new TaskCountCache(60, 100);
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        long first = cache.getOrCompute(1L, null, "Docs", () -> { calls.incrementAndGet(); return 5L; });
+        long second = cache.getOrCompute(1L, null, "docs", () -> { calls.incrementAndGet(); return 7L; });
+        long other = cache.getOrCompute(2L, null, "docs", () -> { calls.incrementAndGet(); return 9L; });
+
+        // Assert
+        assertEquals(5L, first);
+        assertEquals(5L, second);
+        assertEquals(9L, other);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void getOrCompute_ExpiredEntryIsRecomputed() {
+        // Arrange
+        TaskCountCache cache = new TaskCountCache(0, 100);
+
+        // Act
+        cache.getOrCompute(null, null, null, () -> 5L);
+        long result = cache.getOrCompute(null, null, null, () -> 6L);
+
+        // Assert
+        assertEquals(6L, result);
+    }
+}
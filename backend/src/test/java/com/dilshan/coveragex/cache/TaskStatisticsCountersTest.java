@@ -0,0 +1,167 @@
+package com.dilshan.coveragex.cache;
+
+import com.dilshan.coveragex.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskStatisticsCountersTest {
+
+    @Test
+    void onApplicationReady_SeedsFromDatabase() {
+        // Arrange
+        TaskRepository taskRepository = mock(TaskRepository.class);
+        when(taskRepository.countTasksByStatusAndPriority()).thenReturn(Arrays.asList(
+                new Object[]{"OPEN", "HIGH", 3L},
+                new Object[]{"DONE", "LOW", 2L}
+        ));
+        TaskStatisticsCounters counters = new TaskStatisticsCounters(taskRepository, new TaskChangeSequence(), true);
+
+        // Act
+        counters.onApplicationReady();
+
+        // Assert
+        assertTrue(counters.isReady());
+        Map<String, Long> cells = toMap(counters.snapshot());
+        assertEquals(2, cells.size());
+        assertEquals(3L, cells.get("OPEN/HIGH"));
+        assertEquals(2L, cells.get("DONE/LOW"));
+    }
+
+    @Test
+    void onApplicationReady_DisabledStaysNotReady() {
+        // Arrange
+        TaskRepository taskRepository = mock(TaskRepository.class);
+        TaskStatisticsCounters counters = new TaskStatisticsCounters(taskRepository, new TaskChangeSequence(), false);
+
+        // Act
+        counters.onApplicationReady();
+
+        // Assert
+        assertFalse(counters.isReady());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void adjustments_MoveTasksBetweenCells() {
+        // Arrange
+        TaskRepository taskRepository = mock(TaskRepository.class);
+        TaskStatisticsCounters counters = new TaskStatisticsCounters(taskRepository, new TaskChangeSequence(), true);
+
+        // Act
+        counters.taskCreatedAfterCommit("OPEN", "HIGH");
+        counters.taskCreatedAfterCommit("OPEN", "HIGH");
+        counters.taskMovedAfterCommit("OPEN", "HIGH", "CLOSED", "HIGH");
+        counters.taskMovedAfterCommit("CLOSED", "HIGH", "CLOSED", "HIGH");
+
+        // Assert
+        Map<String, Long> cells = toMap(counters.snapshot());
+        assertEquals(1L, cells.get("OPEN/HIGH"));
+        assertEquals(1L, cells.get("CLOSED/HIGH"));
+    }
+
+    @Test
+    void reconcile_CorrectsDrift() {
+        // Arrange
+        TaskRepository taskRepository = mock(TaskRepository.class);
+        when(taskRepository.countTasksByStatusAndPriority()).thenReturn(
+                Collections.singletonList(new Object[]{"OPEN", "HIGH", 2L}));
+        TaskStatisticsCounters counters = new TaskStatisticsCounters(taskRepository, new TaskChangeSequence(), true);
+        counters.taskCreatedAfterCommit("OPEN", "HIGH");
+        counters.taskCreatedAfterCommit("DONE", "LOW");
+
+        // Act
+        long drift = counters.reconcile();
+
+        // Assert
+        assertEquals(2L, drift);
+        Map<String, Long> cells = toMap(counters.snapshot());
+        assertEquals(1, cells.size());
+        assertEquals(2L, cells.get("OPEN/HIGH"));
+        assertEquals(0L, counters.reconcile());
+    }
+
+    @Test
+    void reconcile_DriftAdvancesChangeSequence() {
+        // Arrange
+        TaskRepository taskRepository = mock(TaskRepository.class);
+        when(taskRepository.countTasksByStatusAndPriority()).thenReturn(
+                Collections.singletonList(new Object[]{"OPEN", "HIGH", 1L}));
+        TaskChangeSequence sequence = new TaskChangeSequence();
+        TaskStatisticsCounters counters = new TaskStatisticsCounters(taskRepository, sequence, true);
+        String staleETag = sequence.collectionETag("statistics");
+
+        // Act
+        long drift = counters.reconcile();
+        String correctedETag = sequence.collectionETag("statistics");
+        counters.reconcile();
+
+        // Assert
+        assertEquals(1L, drift);
+        assertNotEquals(staleETag, correctedETag);
+        assertEquals(correctedETag, sequence.collectionETag("statistics"));
+    }
+
+    @Test
+    void reconcile_KeepsCommitAppliedWhileCounting() {
+        // Arrange: a task commits after the count read the database and its adjustment lands before the correction
+        TaskRepository taskRepository = mock(TaskRepository.class);
+        TaskStatisticsCounters counters = new TaskStatisticsCounters(taskRepository, new TaskChangeSequence(), true);
+        counters.taskCreatedAfterCommit("OPEN", "HIGH");
+        when(taskRepository.countTasksByStatusAndPriority()).thenAnswer(invocation -> {
+            counters.taskCreatedAfterCommit("OPEN", "HIGH");
+            return Collections.singletonList(new Object[]{"OPEN", "HIGH", 1L});
+        });
+
+        // Act
+        long drift = counters.reconcile();
+
+        // Assert
+        assertEquals(0L, drift);
+        assertEquals(2L, toMap(counters.snapshot()).get("OPEN/HIGH"));
+    }
+
+    @Test
+    void reconcile_SkipsCellWithPendingCommit() {
+        // Arrange: a task is counted by the database, but its transaction has not run its callbacks yet
+        TaskRepository taskRepository = mock(TaskRepository.class);
+        when(taskRepository.countTasksByStatusAndPriority()).thenReturn(
+                Collections.singletonList(new Object[]{"OPEN", "HIGH", 1L}));
+        TaskStatisticsCounters counters = new TaskStatisticsCounters(taskRepository, new TaskChangeSequence(), true);
+        List<TransactionSynchronization> callbacks;
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counters.taskCreatedAfterCommit("OPEN", "HIGH");
+            callbacks = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Act
+        long drift = counters.reconcile();
+        callbacks.forEach(TransactionSynchronization::afterCommit);
+        callbacks.forEach(callback -> callback.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Assert: not seeded to 1 and then incremented to 2
+        assertEquals(0L, drift);
+        assertEquals(1L, toMap(counters.snapshot()).get("OPEN/HIGH"));
+        assertEquals(0L, counters.reconcile());
+    }
+
+    private static Map<String, Long> toMap(List<Object[]> rows) {
+        Map<String, Long> cells = new HashMap<>();
+        for (Object[] row : rows) {
+            cells.put(row[0] + "/" + row[1], (Long) row[2]);
+        }
+        return cells;
+    }
+}
@@ -1,32 +1,56 @@
 package com.dilshan.coveragex.controller;
 
+import com.dilshan.coveragex.cache.TaskChangeSequence;
 import com.dilshan.coveragex.dto.*;
+import com.dilshan.coveragex.entity.Task;
+import com.dilshan.coveragex.exception.TaskChangeCursorExpiredException;
+import com.dilshan.coveragex.exception.TaskPreconditionFailedException;
+import com.dilshan.coveragex.exception.TaskStreamUnavailableException;
+import com.dilshan.coveragex.service.TaskChangeFeedService;
+import com.dilshan.coveragex.service.TaskExportService;
+import com.dilshan.coveragex.service.TaskImportService;
 import com.dilshan.coveragex.service.TaskService;
+import com.dilshan.coveragex.stream.TaskEventBroadcaster;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(TaskController.class)
+@Import(TaskChangeSequence.class)
 @ActiveProfiles("test")
 class TaskControllerTest {
 
@@ -36,6 +60,21 @@ class TaskControllerTest {
     @MockBean
     private TaskService taskService;
 
+    @MockBean
+    private TaskExportService taskExportService;
+
+    @MockBean
+    private TaskImportService taskImportService;
+
+    @MockBean
+    private TaskEventBroadcaster taskEventBroadcaster;
+
+    @MockBean
+    private TaskChangeFeedService taskChangeFeedService;
+
+    @Autowired
+    private TaskChangeSequence taskChangeSequence;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -53,6 +92,7 @@ class TaskControllerTest {
         taskResponseDTO.setDescription("Test Description");
         taskResponseDTO.setCreateDate(LocalDateTime.now());
         taskResponseDTO.setLastStatusChangeDate(LocalDateTime.now());
+        taskResponseDTO.setVersion(2L);
 
         // Setup priority and status DTOs
         PriorityTypeResponseDTO priorityDTO = new PriorityTypeResponseDTO();
@@ -91,6 +131,7 @@ class TaskControllerTest {
         tasksByPriority.put("LOW", 3L);
 
         statisticsDTO = new TaskStatisticsResponseDTO(10L, tasksByStatus, tasksByPriority, 5L, 5L);
+        statisticsDTO.getTasksByStatusAndPriority().put("OPEN", Map.of("HIGH", 2L, "LOW", 1L));
     }
 
     @Test
@@ -111,6 +152,66 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.taskStatus.type", is("OPEN")));
     }
 
+    @Test
+    void createTasks_Success() throws Exception {
+        // Arrange
+        TaskBatchResponseDTO batchResponse = new TaskBatchResponseDTO(2, 1, 1, 5L, 200.0, Arrays.asList(
+                new TaskBatchItemResultDTO(0, true, 1L, null),
+                new TaskBatchItemResultDTO(1, false, null, "taskTitle: Task title cannot be blank")));
+        when(taskService.createTasks(anyList())).thenReturn(batchResponse);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Arrays.asList(createRequestDTO, new TaskCreateRequestDTO()))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.succeeded", is(1)))
+                .andExpect(jsonPath("$.failed", is(1)))
+                .andExpect(jsonPath("$.results[0].id", is(1)))
+                .andExpect(jsonPath("$.results[1].success", is(false)));
+    }
+
+    @Test
+    void updateTaskStatuses_Success() throws Exception {
+        // Arrange
+        when(taskService.updateTaskStatuses(Arrays.asList(1L, 2L), 4L)).thenReturn(new TaskBulkResponseDTO(2, 1));
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/tasks/bulk/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskBulkRequestDTO(Arrays.asList(1L, 2L), 4L, null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested", is(2)))
+                .andExpect(jsonPath("$.affected", is(1)));
+    }
+
+    @Test
+    void updateTasksByFilter_DryRun() throws Exception {
+        // Arrange
+        when(taskService.updateTasksByFilter(3L, 3L, null, 5L, null, true, 1000))
+                .thenReturn(new TaskFilterUpdateResponseDTO(true, 12L, 0L, 0));
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/tasks/filter")
+                        .param("statusId", "3")
+                        .param("priorityId", "3")
+                        .param("dryRun", "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskFilterUpdateRequestDTO(5L, null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.dryRun", is(true)))
+                .andExpect(jsonPath("$.matched", is(12)));
+    }
+
+    @Test
+    void deleteTasks_EmptyIds() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/bulk/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskBulkRequestDTO(Arrays.asList(), null, null))))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void createTask_ValidationError() throws Exception {
         // Arrange - Create invalid request (missing required fields)
@@ -169,13 +270,170 @@ class TaskControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id", is(1)))
                 .andExpect(jsonPath("$.taskTitle", is("Test Task")))
-                .andExpect(jsonPath("$.description", is("Test Description")));
+                .andExpect(jsonPath("$.description", is("Test Description")))
+                .andExpect(header().string("ETag", "\"2\""));
+    }
+
+    @Test
+    void getTaskById_ConnectionPoolExhausted() throws Exception {
+        // Arrange
+        when(taskService.getTaskById(1L))
+                .thenThrow(new CannotCreateTransactionException("Connection is not available, request timed out"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/1"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    void streamTaskEvents_StartsEventStream() throws Exception {
+        // Arrange
+        SseEmitter emitter = new SseEmitter();
+        when(taskEventBroadcaster.subscribe()).thenReturn(emitter);
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/tasks/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        emitter.send(SseEmitter.event().name("resync").data("{}"));
+
+        // Assert
+        assertTrue(result.getResponse().getContentType().startsWith(MediaType.TEXT_EVENT_STREAM_VALUE));
+        assertTrue(result.getResponse().getContentAsString().contains("event:resync"));
+        emitter.complete();
+    }
+
+    @Test
+    void streamTaskEvents_TooManySubscribers() throws Exception {
+        // Arrange
+        when(taskEventBroadcaster.subscribe())
+                .thenThrow(new TaskStreamUnavailableException("Task event stream is at its limit of 1000 subscribers"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "30"));
+    }
+
+    @Test
+    void getTaskChanges_Success() throws Exception {
+        // Arrange
+        TaskChangeFeedResponseDTO feed = new TaskChangeFeedResponseDTO(
+                List.of(new TaskChangeDTO(1L, TaskChangeOperation.UPSERT, LocalDateTime.now(), taskResponseDTO)),
+                "next", false);
+        when(taskChangeFeedService.getChanges("start", 50)).thenReturn(feed);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/changes").param("since", "start").param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[0].taskId").value(1))
+                .andExpect(jsonPath("$.changes[0].operation").value("UPSERT"))
+                .andExpect(jsonPath("$.changes[0].task.taskTitle").value(taskResponseDTO.getTaskTitle()))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void getTaskChanges_ExpiredCursor() throws Exception {
+        // Arrange
+        when(taskChangeFeedService.getChanges("old", 100))
+                .thenThrow(new TaskChangeCursorExpiredException("Changes before commit sequence 7 have been compacted"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/changes").param("since", "old"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.status").value(410));
+    }
+
+    @Test
+    void getTaskById_NotModified() throws Exception {
+        // Arrange
+        when(taskService.getTaskVersion(1L)).thenReturn(2L);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/1").header("If-None-Match", "\"2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"2\""))
+                .andExpect(content().string(""));
+
+        verify(taskService, never()).getTaskById(anyLong());
+    }
+
+    @Test
+    void getTaskById_ModifiedSinceETag() throws Exception {
+        // Arrange
+        when(taskService.getTaskVersion(1L)).thenReturn(2L);
+        when(taskService.getTaskById(1L)).thenReturn(taskResponseDTO);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/1").header("If-None-Match", "\"1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2\""))
+                .andExpect(jsonPath("$.version", is(2)));
+    }
+
+    @Test
+    void updateTask_IfMatchStale() throws Exception {
+        // Arrange
+        when(taskService.updateTask(eq(1L), any(TaskUpdateRequestDTO.class), eq(1L)))
+                .thenThrow(TaskPreconditionFailedException.forVersion(1L, 1L, 2L));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/tasks/1")
+                        .header("If-Match", "\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequestDTO)))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(taskService, never()).getTaskVersion(anyLong());
+    }
+
+    @Test
+    void updateTask_IfMatchWeakTag() throws Exception {
+        // Act & Assert
+        mockMvc.perform(put("/api/tasks/1")
+                        .header("If-Match", "W/\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequestDTO)))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(taskService, never()).updateTask(anyLong(), any(TaskUpdateRequestDTO.class), any());
+    }
+
+    @Test
+    void updateTask_IfMatchSeveralTags() throws Exception {
+        // Arrange
+        when(taskService.getTaskVersion(1L)).thenReturn(2L);
+        when(taskService.updateTask(eq(1L), any(TaskUpdateRequestDTO.class), eq(2L))).thenReturn(taskResponseDTO);
+
+        // Act & Assert
+        mockMvc.perform(put("/api/tasks/1")
+                        .header("If-Match", "\"1\", \"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequestDTO)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2\""));
+    }
+
+    @Test
+    void updateTask_ConcurrentModification() throws Exception {
+        // Arrange
+        when(taskService.updateTask(eq(1L), any(TaskUpdateRequestDTO.class), eq(2L)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/tasks/1")
+                        .header("If-Match", "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequestDTO)))
+                .andExpect(status().isPreconditionFailed());
     }
 
     @Test
     void updateTask_Success() throws Exception {
         // Arrange
-        when(taskService.updateTask(eq(1L), any(TaskUpdateRequestDTO.class))).thenReturn(taskResponseDTO);
+        when(taskService.updateTask(eq(1L), any(TaskUpdateRequestDTO.class), isNull())).thenReturn(taskResponseDTO);
 
         // Act & Assert
         mockMvc.perform(put("/api/tasks/1")
@@ -187,6 +445,37 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.taskTitle", is("Test Task")));
     }
 
+    @Test
+    void patchTask_MergePatch() throws Exception {
+        // Arrange
+        when(taskService.patchTask(eq(1L), any(JsonNode.class), eq(2L))).thenReturn(taskResponseDTO);
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/tasks/1")
+                        .header("If-Match", "\"2\"")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"taskStatusId\": 4, \"description\": null}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2\""))
+                .andExpect(jsonPath("$.id", is(1)));
+
+        verify(taskService).patchTask(1L, objectMapper.readTree("{\"taskStatusId\": 4, \"description\": null}"), 2L);
+        verify(taskService, never()).getTaskVersion(anyLong());
+    }
+
+    @Test
+    void patchTask_InvalidField() throws Exception {
+        // Arrange
+        when(taskService.patchTask(eq(1L), any(JsonNode.class), isNull()))
+                .thenThrow(new IllegalArgumentException("Field cannot be patched: createDate"));
+
+        // Act & Assert
+        mockMvc.perform(patch("/api/tasks/1")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"createDate\": \"2024-01-01T00:00:00\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void deleteTask_Success() throws Exception {
         // Act & Assert
@@ -282,6 +571,191 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.completedTasks", is(5)))
                 .andExpect(jsonPath("$.activeTasks", is(5)))
                 .andExpect(jsonPath("$.tasksByStatus.OPEN", is(3)))
-                .andExpect(jsonPath("$.tasksByPriority.HIGH", is(4)));
+                .andExpect(jsonPath("$.tasksByPriority.HIGH", is(4)))
+                .andExpect(jsonPath("$.tasksByStatusAndPriority.OPEN.HIGH", is(2)))
+                .andExpect(header().string("ETag", org.hamcrest.Matchers.startsWith("W/")))
+                .andExpect(header().string("Cache-Control", "no-cache"));
+    }
+
+    @Test
+    void exportTasks_StreamsCsv() throws Exception {
+        // Arrange
+        when(taskExportService.exportTasks(eq(1L), isNull(), eq("report"), eq(TaskTransferFormat.CSV), any(OutputStream.class)))
+                .thenAnswer(invocation -> {
+                    invocation.getArgument(4, OutputStream.class).write("id\r\n1\r\n".getBytes(StandardCharsets.UTF_8));
+                    return 1L;
+                });
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/tasks/export")
+                        .param("format", "csv")
+                        .param("statusId", "1")
+                        .param("searchTerm", "report"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"tasks.csv\""))
+                .andExpect(content().string("id\r\n1\r\n"));
+    }
+
+    @Test
+    void exportTasks_UnsupportedFormat() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void importTasks_Csv() throws Exception {
+        // Arrange
+        TaskImportResponseDTO report = new TaskImportResponseDTO(TaskTransferFormat.CSV, 2, 1, 1, 1, 5, 200.0, 0,
+                List.of(new TaskImportErrorDTO(3, "Unknown priority: URGENT")), false);
+        when(taskImportService.importTasks(any(Reader.class), eq(TaskTransferFormat.CSV), eq(500))).thenReturn(report);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/import")
+                        .param("chunkSize", "500")
+                        .contentType("text/csv;charset=UTF-8")
+                        .content("taskTitle,priority,taskStatus\nA,HIGH,OPEN\nB,URGENT,OPEN\n"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.format", is("CSV")))
+                .andExpect(jsonPath("$.imported", is(1)))
+                .andExpect(jsonPath("$.errors[0].line", is(3)));
+    }
+
+    @Test
+    void importTasks_UnsupportedContentType() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/import")
+                        .contentType(MediaType.APPLICATION_XML)
+                        .content("<tasks/>"))
+                .andExpect(status().isUnsupportedMediaType());
+        verify(taskImportService, never()).importTasks(any(), any(), any());
+    }
+
+    @Test
+    void getTaskStatistics_NotModifiedUntilTaskWrite() throws Exception {
+        // Arrange
+        when(taskService.getTaskStatistics()).thenReturn(statisticsDTO);
+        String etag = mockMvc.perform(get("/api/tasks/statistics"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/statistics").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+        verify(taskService, times(1)).getTaskStatistics();
+
+        taskChangeSequence.advanceAfterCommit();
+        mockMvc.perform(get("/api/tasks/statistics").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)));
+    }
+
+    @Test
+    void getTasksWithFilters_NotModifiedOnlyForSameParameters() throws Exception {
+        // Arrange
+        Page<TaskResponseDTO> taskPage = new PageImpl<>(Arrays.asList(taskResponseDTO));
+        when(taskService.getTasksWithFilters(any(), any(), any(), anyInt(), anyInt(), anyString(), anyString()))
+                .thenReturn(taskPage);
+        String etag = mockMvc.perform(get("/api/tasks/filter").param("statusId", "1"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/filter").param("statusId", "1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/tasks/filter").param("statusId", "2").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getTasksByCursor_Success() throws Exception {
+        // Arrange
+        TaskCursorPageResponseDTO cursorPage = new TaskCursorPageResponseDTO(
+                Arrays.asList(taskResponseDTO), 10, true, "next-cursor");
+        when(taskService.getTasksByCursor(isNull(), isNull(), isNull(), eq("abc"), eq(10), eq("DESC")))
+                .thenReturn(cursorPage);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/cursor")
+                        .param("cursor", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andExpect(jsonPath("$.nextCursor", is("next-cursor")));
+    }
+
+    @Test
+    void getTaskSlice_Success() throws Exception {
+        // Arrange
+        TaskSliceResponseDTO slice = new TaskSliceResponseDTO(Arrays.asList(taskResponseDTO), 0, 10, false, 1L);
+        when(taskService.getTaskSlice(isNull(), eq(1L), isNull(), eq(0), eq(10), eq("createDate"), eq("DESC"), eq(true)))
+                .thenReturn(slice);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/slice")
+                        .param("priorityId", "1")
+                        .param("approximateTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext", is(false)))
+                .andExpect(jsonPath("$.approximateTotalElements", is(1)));
+    }
+
+    @Test
+    void searchTasks_FullTextMode() throws Exception {
+        // Arrange
+        Page<TaskResponseDTO> taskPage = new PageImpl<>(Arrays.asList(taskResponseDTO));
+        when(taskService.fullTextSearchTasks(eq("test"), eq(TaskSearchMode.NATURAL), eq(0), eq(10))).thenReturn(taskPage);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/search")
+                        .param("searchTerm", "test")
+                        .param("mode", "NATURAL"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content", hasSize(1)));
+    }
+
+    @Test
+    void searchTasks_InvalidMode() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/search")
+                        .param("searchTerm", "test")
+                        .param("mode", "FUZZY"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getSearchIndexStatus_Success() throws Exception {
+        // Arrange
+        SearchIndexStatusResponseDTO indexStatus = new SearchIndexStatusResponseDTO(
+                10L, 10L, 0L, 0L, 42L, true, LocalDateTime.now(), 5L);
+        when(taskService.getSearchIndexStatus()).thenReturn(indexStatus);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/search-index"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.indexedTasks", is(10)))
+                .andExpect(jsonPath("$.consistent", is(true)));
+    }
+
+    @Test
+    void rebuildSearchIndex_Success() throws Exception {
+        // Arrange
+        SearchIndexStatusResponseDTO indexStatus = new SearchIndexStatusResponseDTO(
+                10L, 10L, 0L, 0L, 42L, true, LocalDateTime.now(), 5L);
+        when(taskService.rebuildSearchIndex()).thenReturn(indexStatus);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/search-index/rebuild"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.terms", is(42)));
     }
 }
@@ -0,0 +1,90 @@
+package com.dilshan.coveragex.integration;
+
+import com.dilshan.coveragex.entity.PriorityType;
+import com.dilshan.coveragex.entity.Task;
+import com.dilshan.coveragex.entity.TaskStatusType;
+import com.dilshan.coveragex.metrics.TaskCountGauges;
+import com.dilshan.coveragex.repository.PriorityTypeRepository;
+import com.dilshan.coveragex.repository.TaskRepository;
+import com.dilshan.coveragex.repository.TaskStatusTypeRepository;
+import com.dilshan.coveragex.service.PriorityTypeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Spring Boot tests only keep an in-memory registry unless observability is enabled, so this context
+ * gets the Prometheus registry that production uses.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureObservability
+@Transactional
+class MetricsIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private PriorityTypeService priorityTypeService;
+
+    @Autowired
+    private TaskCountGauges taskCountGauges;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PriorityTypeRepository priorityTypeRepository;
+
+    @Autowired
+    private TaskStatusTypeRepository taskStatusTypeRepository;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    }
+
+    @Test
+    void prometheus_ExposesServiceAndRepositoryHistograms() throws Exception {
+        // Arrange
+        priorityTypeService.getAllPriorityTypes();
+        taskRepository.countTasksByStatus();
+
+        // Act & Assert
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("app_service_invocations_seconds_bucket{")))
+                .andExpect(content().string(containsString("method=\"getAllPriorityTypes\"")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket{")))
+                .andExpect(content().string(containsString("method=\"countTasksByStatus\"")));
+    }
+
+    @Test
+    void prometheus_ExposesTaskCountsByStatus() throws Exception {
+        // Arrange
+        PriorityType priority = priorityTypeRepository.save(new PriorityType("METRICS_HIGH"));
+        TaskStatusType status = taskStatusTypeRepository.save(new TaskStatusType("METRICS_OPEN"));
+        taskRepository.save(new Task("First", "Counted", priority, status));
+        taskRepository.save(new Task("Second", "Counted", priority, status));
+        taskCountGauges.refresh();
+
+        // Act & Assert
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("tasks_count{status=\"METRICS_OPEN\"} 2")));
+    }
+}
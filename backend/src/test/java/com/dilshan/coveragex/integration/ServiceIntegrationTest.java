@@ -18,6 +18,7 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -102,6 +103,51 @@ class ServiceIntegrationTest {
         assertNotNull(result.getLastStatusChangeDate());
     }
 
+    @Test
+    void taskService_createTasks_InsertsValidItems() {
+        // Arrange
+        List<TaskCreateRequestDTO> requests = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            requests.add(new TaskCreateRequestDTO("Batch Task " + i, "Batch description", highPriority.getId(), openStatus.getId()));
+        }
+        requests.add(new TaskCreateRequestDTO("Invalid Status", null, highPriority.getId(), 999999L));
+
+        // Act
+        TaskBatchResponseDTO result = taskService.createTasks(requests);
+
+        // Assert
+        assertEquals(121, result.getRequested());
+        assertEquals(120, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+        assertFalse(result.getResults().get(120).isSuccess());
+        assertEquals(120L, taskRepository.count());
+        Long firstId = result.getResults().get(0).getId();
+        assertEquals("Batch Task 0", taskService.getTaskById(firstId).getTaskTitle());
+        assertEquals(120L, result.getResults().stream()
+                .filter(TaskBatchItemResultDTO::isSuccess)
+                .map(TaskBatchItemResultDTO::getId)
+                .distinct()
+                .count());
+    }
+
+    @Test
+    void taskService_deleteTasks_ClosesTasks() {
+        // Arrange
+        TaskResponseDTO first = taskService.createTask(
+                new TaskCreateRequestDTO("Bulk Task 1", null, highPriority.getId(), openStatus.getId()));
+        TaskResponseDTO second = taskService.createTask(
+                new TaskCreateRequestDTO("Bulk Task 2", null, highPriority.getId(), openStatus.getId()));
+
+        // Act
+        TaskBulkResponseDTO result = taskService.deleteTasks(List.of(first.getId(), second.getId(), 999999L));
+
+        // Assert
+        assertEquals(3, result.getRequested());
+        assertEquals(2, result.getAffected());
+        assertEquals("CLOSED", taskService.getTaskById(first.getId()).getTaskStatus().getType());
+        assertEquals("CLOSED", taskService.getTaskById(second.getId()).getTaskStatus().getType());
+    }
+
     @Test
     void taskService_getAllTasks_Success() {
         // Arrange - Create a test task
@@ -273,6 +319,26 @@ class ServiceIntegrationTest {
         assertTrue(result.getContent().get(0).getTaskTitle().contains("Searchable"));
     }
 
+    @Test
+    void taskService_fullTextSearchTasks_FallsBackOnH2() {
+        // Arrange - Create test tasks
+        TaskCreateRequestDTO createRequest = new TaskCreateRequestDTO();
+        createRequest.setTaskTitle("Searchable Task");
+        createRequest.setDescription("This task contains searchable content");
+        createRequest.setPriorityId(highPriority.getId());
+        createRequest.setTaskStatusId(openStatus.getId());
+
+        taskService.createTask(createRequest);
+
+        // Act - H2 has no MATCH ... AGAINST, so the LIKE search answers instead
+        Page<TaskResponseDTO> result = taskService.fullTextSearchTasks("Searchable", TaskSearchMode.NATURAL, 0, 10);
+
+        // Assert
+        assertNotNull(result);
+        assertEquals(1, result.getTotalElements());
+        assertEquals("Searchable Task", result.getContent().get(0).getTaskTitle());
+    }
+
     @Test
     void taskService_getTasksWithFilters_Success() {
         // Arrange - Create test tasks
@@ -0,0 +1,177 @@
+package com.dilshan.coveragex.integration;
+
+import com.dilshan.coveragex.dto.TaskBulkResponseDTO;
+import com.dilshan.coveragex.dto.TaskChangeDTO;
+import com.dilshan.coveragex.dto.TaskChangeFeedResponseDTO;
+import com.dilshan.coveragex.dto.TaskChangeOperation;
+import com.dilshan.coveragex.dto.TaskCreateRequestDTO;
+import com.dilshan.coveragex.dto.TaskResponseDTO;
+import com.dilshan.coveragex.dto.TaskUpdateRequestDTO;
+import com.dilshan.coveragex.entity.PriorityType;
+import com.dilshan.coveragex.entity.TaskStatusType;
+import com.dilshan.coveragex.exception.TaskChangeCursorExpiredException;
+import com.dilshan.coveragex.feed.TaskChangeCompactor;
+import com.dilshan.coveragex.repository.PriorityTypeRepository;
+import com.dilshan.coveragex.repository.TaskChangeRepository;
+import com.dilshan.coveragex.repository.TaskRepository;
+import com.dilshan.coveragex.repository.TaskStatusTypeRepository;
+import com.dilshan.coveragex.service.TaskChangeFeedService;
+import com.dilshan.coveragex.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The change log is written just before commit, so unlike the other integration tests these writes really commit.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class TaskChangeFeedIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskChangeFeedService taskChangeFeedService;
+
+    @Autowired
+    private TaskChangeCompactor taskChangeCompactor;
+
+    @Autowired
+    private TaskChangeRepository taskChangeRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PriorityTypeRepository priorityTypeRepository;
+
+    @Autowired
+    private TaskStatusTypeRepository taskStatusTypeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private PriorityType highPriority;
+    private TaskStatusType openStatus;
+    private TaskStatusType doneStatus;
+
+    @BeforeEach
+    void setUp() {
+        taskChangeRepository.deleteAll();
+        taskRepository.deleteAll();
+
+        highPriority = priorityTypeRepository.findByType("HIGH")
+                .orElseGet(() -> priorityTypeRepository.save(new PriorityType("HIGH")));
+        openStatus = taskStatusTypeRepository.findByType("OPEN")
+                .orElseGet(() -> taskStatusTypeRepository.save(new TaskStatusType("OPEN")));
+        doneStatus = taskStatusTypeRepository.findByType("DONE")
+                .orElseGet(() -> taskStatusTypeRepository.save(new TaskStatusType("DONE")));
+        taskStatusTypeRepository.findByType("CLOSED")
+                .orElseGet(() -> taskStatusTypeRepository.save(new TaskStatusType("CLOSED")));
+    }
+
+    @Test
+    void getChanges_ReturnsCommittedWritesAsUpsertsAndTombstones() {
+        // Arrange
+        String start = taskChangeFeedService.getChanges(null, 100).getNextCursor();
+        TaskResponseDTO kept = createTask("Kept");
+        TaskResponseDTO closed = createTask("Closed");
+        taskService.updateTask(kept.getId(), new TaskUpdateRequestDTO("Kept, renamed", null,
+                highPriority.getId(), doneStatus.getId()), null);
+        taskService.deleteTask(closed.getId(), null);
+
+        // Act
+        TaskChangeFeedResponseDTO changes = taskChangeFeedService.getChanges(start, 100);
+        TaskChangeFeedResponseDTO caughtUp = taskChangeFeedService.getChanges(changes.getNextCursor(), 100);
+
+        // Assert
+        assertEquals(2, changes.getChanges().size());
+        assertEquals(kept.getId(), changes.getChanges().get(0).getTaskId());
+        assertEquals(TaskChangeOperation.UPSERT, changes.getChanges().get(0).getOperation());
+        assertEquals("Kept, renamed", changes.getChanges().get(0).getTask().getTaskTitle());
+        assertEquals(closed.getId(), changes.getChanges().get(1).getTaskId());
+        assertEquals(TaskChangeOperation.TOMBSTONE, changes.getChanges().get(1).getOperation());
+        assertTrue(caughtUp.getChanges().isEmpty());
+        assertEquals(changes.getNextCursor(), caughtUp.getNextCursor());
+    }
+
+    @Test
+    void getChanges_PagesThroughBulkWritesInCommitOrder() {
+        // Arrange
+        String start = taskChangeFeedService.getChanges(null, 100).getNextCursor();
+        TaskResponseDTO first = createTask("First");
+        TaskResponseDTO second = createTask("Second");
+        TaskBulkResponseDTO bulk = taskService.updateTaskStatuses(List.of(second.getId(), first.getId()), doneStatus.getId());
+
+        // Act
+        TaskChangeFeedResponseDTO firstPage = taskChangeFeedService.getChanges(start, 2);
+        TaskChangeFeedResponseDTO secondPage = taskChangeFeedService.getChanges(firstPage.getNextCursor(), 2);
+
+        // Assert: the bulk update's two entries share one commit sequence and come after both creates
+        assertEquals(2, bulk.getAffected());
+        assertTrue(firstPage.isHasMore());
+        assertEquals(List.of(first.getId(), second.getId()),
+                firstPage.getChanges().stream().map(TaskChangeDTO::getTaskId).toList());
+        assertFalse(secondPage.isHasMore());
+        assertEquals(Set.of(first.getId(), second.getId()),
+                secondPage.getChanges().stream().map(TaskChangeDTO::getTaskId).collect(Collectors.toSet()));
+        assertEquals("DONE", secondPage.getChanges().get(0).getTask().getTaskStatus().getType());
+    }
+
+    @Test
+    void rolledBackWrite_RecordsNothing() {
+        // Arrange
+        String start = taskChangeFeedService.getChanges(null, 100).getNextCursor();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            createTask("Rolled back");
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertTrue(taskChangeFeedService.getChanges(start, 100).getChanges().isEmpty());
+        assertEquals(0, taskChangeRepository.count());
+    }
+
+    @Test
+    void compaction_KeepsLatestEntryAndExpiresOldCursors() {
+        // Arrange
+        String start = taskChangeFeedService.getChanges(null, 100).getNextCursor();
+        TaskResponseDTO task = createTask("Task");
+        taskService.updateTask(task.getId(), new TaskUpdateRequestDTO("Task, once", null, highPriority.getId(), openStatus.getId()), null);
+        taskService.updateTask(task.getId(), new TaskUpdateRequestDTO("Task, twice", null, highPriority.getId(), openStatus.getId()), null);
+        String latest = taskChangeFeedService.getChanges(start, 100).getNextCursor();
+
+        // Act
+        long superseded = taskChangeCompactor.removeSuperseded();
+        TaskChangeFeedResponseDTO afterSuperseded = taskChangeFeedService.getChanges(start, 100);
+        long expired = taskChangeCompactor.removeExpired(LocalDateTime.now().plusMinutes(1));
+
+        // Assert
+        assertEquals(2, superseded);
+        assertEquals(1, afterSuperseded.getChanges().size());
+        assertEquals("Task, twice", afterSuperseded.getChanges().get(0).getTask().getTaskTitle());
+        assertEquals(0, expired);
+        assertEquals(1, taskChangeRepository.count());
+        assertThrows(TaskChangeCursorExpiredException.class, () -> taskChangeFeedService.getChanges(start, 100));
+        assertTrue(taskChangeFeedService.getChanges(latest, 100).getChanges().isEmpty());
+    }
+
+    private TaskResponseDTO createTask(String title) {
+        return taskService.createTask(new TaskCreateRequestDTO(title, null, highPriority.getId(), openStatus.getId()));
+    }
+}
@@ -0,0 +1,82 @@
+package com.dilshan.coveragex.integration;
+
+import com.dilshan.coveragex.entity.PriorityType;
+import com.dilshan.coveragex.entity.TaskStatusType;
+import com.dilshan.coveragex.repository.PriorityTypeRepository;
+import com.dilshan.coveragex.repository.TaskStatusTypeRepository;
+import com.dilshan.coveragex.transfer.ConnectionPoolThrottle;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs an import through the full web stack, so the request is subject to the same
+ * entity-manager-per-request handling as in production. Chunks really commit, hence the fresh context.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext
+class TaskImportIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PriorityTypeRepository priorityTypeRepository;
+
+    @Autowired
+    private TaskStatusTypeRepository taskStatusTypeRepository;
+
+    @SpyBean
+    private ConnectionPoolThrottle connectionPoolThrottle;
+
+    @Test
+    void importTasks_ReturnsConnectionBetweenChunks() throws Exception {
+        // Arrange
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        PriorityType priority = priorityTypeRepository.findByType("HIGH")
+                .orElseGet(() -> priorityTypeRepository.save(new PriorityType("HIGH")));
+        TaskStatusType status = taskStatusTypeRepository.findByType("OPEN")
+                .orElseGet(() -> taskStatusTypeRepository.save(new TaskStatusType("OPEN")));
+        String csv = "taskTitle,priorityId,taskStatusId\n"
+                + ("Task," + priority.getId() + "," + status.getId() + "\n").repeat(5);
+
+        // The throttle runs on the request thread right before each chunk takes a connection
+        HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+        List<Integer> activeBeforeChunk = new ArrayList<>();
+        doAnswer(invocation -> {
+            activeBeforeChunk.add(pool.getHikariPoolMXBean().getActiveConnections());
+            return invocation.callRealMethod();
+        }).when(connectionPoolThrottle).awaitCapacity();
+
+        // Act
+        mockMvc.perform(post("/api/tasks/import").param("chunkSize", "2")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.imported").value(5));
+
+        // Assert
+        assertEquals(List.of(0, 0, 0), activeBeforeChunk);
+    }
+}
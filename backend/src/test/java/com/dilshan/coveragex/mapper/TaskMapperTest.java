@@ -0,0 +1,77 @@
+package com.dilshan.coveragex.mapper;
+
+import com.dilshan.coveragex.dto.TaskResponseDTO;
+import com.dilshan.coveragex.entity.PriorityType;
+import com.dilshan.coveragex.entity.Task;
+import com.dilshan.coveragex.entity.TaskStatusType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskMapperTest {
+
+    private TaskMapper taskMapper;
+    private ModelMapper modelMapper;
+    private ObjectMapper objectMapper;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        taskMapper = new TaskMapper(new PriorityTypeMapper(), new TaskStatusTypeMapper());
+
+        // Same configuration the application used before the hand-written mappers
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setMatchingStrategy(MatchingStrategies.STRICT)
+                .setFieldMatchingEnabled(true)
+                .setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE);
+
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        task = new Task("Test Task", "Test Description",
+                new PriorityType(1L, "HIGH"), new TaskStatusType(2L, "IN_PROGRESS"));
+        task.setId(10L);
+        task.setCreateDate(LocalDateTime.of(2025, 1, 1, 10, 0));
+        task.setLastStatusChangeDate(LocalDateTime.of(2025, 1, 2, 11, 30));
+    }
+
+    @Test
+    void toResponseDTO_MatchesModelMapperJson() throws Exception {
+        // Act
+        TaskResponseDTO mapped = taskMapper.toResponseDTO(task);
+        TaskResponseDTO reflective = modelMapper.map(task, TaskResponseDTO.class);
+
+        // Assert
+        assertEquals(objectMapper.writeValueAsString(reflective), objectMapper.writeValueAsString(mapped));
+        assertEquals(reflective, mapped);
+    }
+
+    @Test
+    void toResponseDTO_NullAssociations() throws Exception {
+        // Arrange
+        task.setPriority(null);
+        task.setTaskStatus(null);
+        task.setDescription(null);
+
+        // Act
+        TaskResponseDTO mapped = taskMapper.toResponseDTO(task);
+
+        // Assert
+        assertNull(mapped.getPriority());
+        assertNull(mapped.getTaskStatus());
+        assertEquals(objectMapper.writeValueAsString(modelMapper.map(task, TaskResponseDTO.class)),
+                objectMapper.writeValueAsString(mapped));
+    }
+
+    @Test
+    void toResponseDTO_Null() {
+        assertNull(taskMapper.toResponseDTO(null));
+    }
+}
@@ -0,0 +1,90 @@
+package com.dilshan.coveragex.metrics;
+
+import com.dilshan.coveragex.cache.ReferenceDataRegistry;
+import com.dilshan.coveragex.cache.TaskStatisticsCounters;
+import com.dilshan.coveragex.entity.TaskStatusType;
+import com.dilshan.coveragex.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskCountGaugesTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskStatisticsCounters taskStatisticsCounters;
+    private TaskRepository taskRepository;
+    private ReferenceDataRegistry referenceDataRegistry;
+    private TaskCountGauges taskCountGauges;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        taskStatisticsCounters = mock(TaskStatisticsCounters.class);
+        taskRepository = mock(TaskRepository.class);
+        referenceDataRegistry = mock(ReferenceDataRegistry.class);
+        when(referenceDataRegistry.getTaskStatusTypes()).thenReturn(Arrays.asList(
+                new TaskStatusType(1L, "OPEN"), new TaskStatusType(2L, "DONE")));
+        taskCountGauges = new TaskCountGauges(meterRegistry, taskStatisticsCounters, taskRepository, referenceDataRegistry);
+    }
+
+    @Test
+    void refresh_SumsCounterCellsPerStatus() {
+        // Arrange
+        when(taskStatisticsCounters.isReady()).thenReturn(true);
+        when(taskStatisticsCounters.snapshot()).thenReturn(Arrays.asList(
+                new Object[]{"OPEN", "HIGH", 3L},
+                new Object[]{"OPEN", "LOW", 2L}
+        ));
+
+        // Act
+        taskCountGauges.refresh();
+
+        // Assert
+        assertEquals(5.0, gauge("OPEN"));
+        assertEquals(0.0, gauge("DONE"));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void refresh_CountersNotReadyQueriesDatabase() {
+        // Arrange
+        when(taskStatisticsCounters.isReady()).thenReturn(false);
+        when(taskRepository.countTasksByStatus()).thenReturn(
+                Collections.singletonList(new Object[]{"DONE", 4L}));
+
+        // Act
+        taskCountGauges.refresh();
+
+        // Assert
+        assertEquals(0.0, gauge("OPEN"));
+        assertEquals(4.0, gauge("DONE"));
+    }
+
+    @Test
+    void refresh_UpdatesExistingGauges() {
+        // Arrange
+        when(taskStatisticsCounters.isReady()).thenReturn(true);
+        when(taskStatisticsCounters.snapshot())
+                .thenReturn(Collections.singletonList(new Object[]{"OPEN", "HIGH", 1L}))
+                .thenReturn(Collections.singletonList(new Object[]{"DONE", "HIGH", 1L}));
+        taskCountGauges.refresh();
+
+        // Act
+        taskCountGauges.refresh();
+
+        // Assert
+        assertEquals(0.0, gauge("OPEN"));
+        assertEquals(1.0, gauge("DONE"));
+        assertEquals(2, meterRegistry.find("tasks.count").gauges().size());
+    }
+
+    private double gauge(String status) {
+        return meterRegistry.get("tasks.count").tag("status", status).gauge().value();
+    }
+}
@@ -0,0 +1,140 @@
+package com.dilshan.coveragex.reactive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDateTime;
+
+@SpringBootTest(properties = {
+        "spring.main.web-application-type=reactive",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:reactive-schema.sql",
+        "spring.sql.init.data-locations=optional:classpath:none.sql"})
+@AutoConfigureWebTestClient
+@ActiveProfiles({"reactive", "test"})
+class ReactiveTaskControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM tasks").then().block();
+        insertTask(1L, "Write documentation", "API docs", 1L, 1L, 0L, LocalDateTime.of(2025, 1, 1, 9, 0));
+        insertTask(2L, "Fix login bug", null, 1L, 2L, 3L, LocalDateTime.of(2025, 1, 2, 9, 0));
+        insertTask(3L, "Review documentation", "Second pass", 3L, 4L, 1L, LocalDateTime.of(2025, 1, 3, 9, 0));
+    }
+
+    @Test
+    void getTaskById_Success() {
+        // Act & Assert
+        webTestClient.get().uri("/api/tasks/2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"3\"")
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(2)
+                .jsonPath("$.taskTitle").isEqualTo("Fix login bug")
+                .jsonPath("$.description").doesNotExist()
+                .jsonPath("$.createDate").isEqualTo("2025-01-02T09:00:00")
+                .jsonPath("$.priority.type").isEqualTo("HIGH")
+                .jsonPath("$.taskStatus.id").isEqualTo(2)
+                .jsonPath("$.taskStatus.type").isEqualTo("IN_PROGRESS")
+                .jsonPath("$.version").isEqualTo(3);
+    }
+
+    @Test
+    void getTaskById_NotModified() {
+        // Act & Assert
+        webTestClient.get().uri("/api/tasks/2")
+                .header("If-None-Match", "\"3\"")
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    void getTaskById_NotFound() {
+        // Act & Assert
+        webTestClient.get().uri("/api/tasks/99")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Task Not Found")
+                .jsonPath("$.message").isEqualTo("Task not found with ID: 99")
+                .jsonPath("$.path").isEqualTo("uri=/api/tasks/99");
+    }
+
+    @Test
+    void getAllTasks_PagedAndSorted() {
+        // Act & Assert
+        webTestClient.get().uri("/api/tasks?page=0&size=2&sortBy=createDate&sortDirection=ASC")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(2)
+                .jsonPath("$.content[0].id").isEqualTo(1)
+                .jsonPath("$.content[1].id").isEqualTo(2)
+                .jsonPath("$.totalElements").isEqualTo(3)
+                .jsonPath("$.totalPages").isEqualTo(2)
+                .jsonPath("$.number").isEqualTo(0)
+                .jsonPath("$.size").isEqualTo(2);
+    }
+
+    @Test
+    void getTasksWithFilters_Success() {
+        // Act & Assert
+        webTestClient.get().uri("/api/tasks/filter?priorityId=1&searchTerm=DOCUMENT")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(1)
+                .jsonPath("$.content[0].taskTitle").isEqualTo("Write documentation")
+                .jsonPath("$.totalElements").isEqualTo(1);
+    }
+
+    @Test
+    void getTasksWithFilters_UnsupportedSortField() {
+        // Act & Assert
+        webTestClient.get().uri("/api/tasks/filter?sortBy=priority;DROP")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void getTaskStatistics_Success() {
+        // Act & Assert
+        webTestClient.get().uri("/api/tasks/statistics")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalTasks").isEqualTo(3)
+                .jsonPath("$.completedTasks").isEqualTo(1)
+                .jsonPath("$.activeTasks").isEqualTo(2)
+                .jsonPath("$.tasksByPriority.HIGH").isEqualTo(2)
+                .jsonPath("$.tasksByStatusAndPriority.DONE.LOW").isEqualTo(1);
+    }
+
+    private void insertTask(Long id, String title, String description, Long priorityId, Long statusId,
+                            Long version, LocalDateTime createDate) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("INSERT INTO tasks (id, task_title, description, "
+                        + "create_date, last_status_change_date, version, priority_id, task_status_id) "
+                        + "VALUES (:id, :title, :description, :date, :date, :version, :priorityId, :statusId)")
+                .bind("id", id)
+                .bind("title", title)
+                .bind("date", createDate)
+                .bind("version", version)
+                .bind("priorityId", priorityId)
+                .bind("statusId", statusId);
+        spec = description == null ? spec.bindNull("description", String.class) : spec.bind("description", description);
+        spec.then().block();
+    }
+}
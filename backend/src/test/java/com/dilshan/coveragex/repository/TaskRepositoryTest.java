@@ -1,5 +1,6 @@
 package com.dilshan.coveragex.repository;
 
+import com.dilshan.coveragex.dto.TaskResponseDTO;
 import com.dilshan.coveragex.entity.PriorityType;
 import com.dilshan.coveragex.entity.Task;
 import com.dilshan.coveragex.entity.TaskStatusType;
@@ -11,9 +12,15 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -213,6 +220,185 @@ class TaskRepositoryTest {
         assertTrue(foundHigh && foundMedium);
     }
 
+    @Test
+    void countTasksByStatusAndPriority_Success() {
+        // Arrange
+        entityManager.persistAndFlush(new Task("Fourth Task", "Description", highPriority, openStatus));
+
+        // Act
+        List<Object[]> result = taskRepository.countTasksByStatusAndPriority();
+
+        // Assert
+        assertEquals(3, result.size());
+        for (Object[] row : result) {
+            String status = (String) row[0];
+            String priority = (String) row[1];
+            Long count = (Long) row[2];
+
+            if ("OPEN".equals(status)) {
+                assertEquals("HIGH", priority);
+                assertEquals(2L, count);
+            } else if ("IN_PROGRESS".equals(status)) {
+                assertEquals("MEDIUM", priority);
+                assertEquals(1L, count);
+            } else {
+                assertEquals("DONE", status);
+                assertEquals("HIGH", priority);
+                assertEquals(1L, count);
+            }
+        }
+    }
+
+    @Test
+    void save_OnlyAdvancesLastStatusChangeDateOnStatusTransition() {
+        // Arrange
+        LocalDateTime changeDate = LocalDateTime.of(2020, 1, 1, 12, 0);
+        Task task = taskRepository.findById(task1.getId()).orElseThrow();
+        task.setLastStatusChangeDate(changeDate);
+        taskRepository.saveAndFlush(task);
+        entityManager.clear();
+
+        // Act
+        Task renamed = taskRepository.findById(task1.getId()).orElseThrow();
+        renamed.setTaskTitle("Renamed Task");
+        renamed.setTaskStatus(entityManager.find(TaskStatusType.class, openStatus.getId()));
+        taskRepository.saveAndFlush(renamed);
+        entityManager.clear();
+        LocalDateTime afterRename = taskRepository.findById(task1.getId()).orElseThrow().getLastStatusChangeDate();
+        entityManager.clear();
+
+        Task completed = taskRepository.findById(task1.getId()).orElseThrow();
+        completed.setTaskStatus(entityManager.find(TaskStatusType.class, doneStatus.getId()));
+        taskRepository.saveAndFlush(completed);
+        entityManager.clear();
+
+        // Assert
+        assertEquals(changeDate, afterRename);
+        Task reloaded = taskRepository.findById(task1.getId()).orElseThrow();
+        assertEquals("Renamed Task", reloaded.getTaskTitle());
+        assertEquals("DONE", reloaded.getTaskStatus().getType());
+        assertTrue(reloaded.getLastStatusChangeDate().isAfter(changeDate));
+    }
+
+    @Test
+    void updateStatusByIdIn_SkipsTasksAlreadyInStatus() {
+        // Arrange
+        List<Long> ids = Arrays.asList(task1.getId(), task2.getId(), task3.getId());
+        LocalDateTime changeDate = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+        // Act
+        List<Object[]> changes = taskRepository.countStatusChangesByCell(ids, doneStatus.getId());
+        int affected = taskRepository.updateStatusByIdIn(ids, doneStatus, changeDate);
+        entityManager.clear();
+
+        // Assert
+        assertEquals(2, affected);
+        assertEquals(2, changes.size());
+        Task updated = taskRepository.findById(task1.getId()).orElseThrow();
+        assertEquals("DONE", updated.getTaskStatus().getType());
+        assertEquals(changeDate, updated.getLastStatusChangeDate());
+        assertNotEquals(changeDate, taskRepository.findById(task3.getId()).orElseThrow().getLastStatusChangeDate());
+    }
+
+    @Test
+    void updatePriorityByIdIn_Success() {
+        // Arrange
+        List<Long> ids = Arrays.asList(task1.getId(), task2.getId());
+
+        // Act
+        List<Object[]> changes = taskRepository.countPriorityChangesByCell(ids, mediumPriority.getId());
+        int affected = taskRepository.updatePriorityByIdIn(ids, mediumPriority);
+        entityManager.clear();
+
+        // Assert
+        assertEquals(1, affected);
+        assertEquals(1, changes.size());
+        assertEquals("OPEN", changes.get(0)[0]);
+        assertEquals("HIGH", changes.get(0)[1]);
+        assertEquals("MEDIUM", taskRepository.findById(task1.getId()).orElseThrow().getPriority().getType());
+    }
+
+    @Test
+    void insertAll_DetachesOnlyInsertedTasks() {
+        // Arrange
+        Task managed = entityManager.find(Task.class, task1.getId());
+        List<Task> tasks = Arrays.asList(
+                new Task("Batch One", "First batch task", highPriority, openStatus),
+                new Task("Batch Two", "Second batch task", mediumPriority, openStatus));
+
+        // Act
+        List<Task> saved = taskRepository.insertAll(tasks);
+
+        // Assert
+        assertTrue(entityManager.getEntityManager().contains(managed));
+        assertTrue(saved.stream().allMatch(task -> task.getId() != null));
+        assertTrue(saved.stream().noneMatch(task -> entityManager.getEntityManager().contains(task)));
+        assertEquals(5, taskRepository.count());
+    }
+
+    @Test
+    void streamTasksWithFilters_OrdersByIdAndAppliesFilters() {
+        // Act
+        List<TaskResponseDTO> all;
+        try (Stream<TaskResponseDTO> tasks = taskRepository.streamTasksWithFilters(null, null, null)) {
+            all = tasks.toList();
+        }
+        List<TaskResponseDTO> highWithDescription;
+        try (Stream<TaskResponseDTO> tasks = taskRepository.streamTasksWithFilters(null, highPriority.getId(), "description")) {
+            highWithDescription = tasks.toList();
+        }
+
+        // Assert
+        assertEquals(Arrays.asList(task1.getId(), task2.getId(), task3.getId()),
+                all.stream().map(TaskResponseDTO::getId).toList());
+        assertEquals(2, highWithDescription.size());
+        assertEquals("HIGH", highWithDescription.get(0).getPriority().getType());
+        assertEquals(0L, highWithDescription.get(0).getVersion());
+    }
+
+    @Test
+    void bulkUpdates_BumpVersionOfChangedTasksOnly() {
+        // Arrange
+        List<Long> ids = Arrays.asList(task1.getId(), task2.getId());
+        Long initialVersion = taskRepository.findVersionById(task1.getId()).orElseThrow();
+
+        // Act
+        taskRepository.updatePriorityByIdIn(ids, mediumPriority);
+        taskRepository.updateStatusByIdIn(ids, doneStatus, LocalDateTime.now());
+        entityManager.clear();
+
+        // Assert
+        assertEquals(initialVersion + 2, taskRepository.findVersionById(task1.getId()).orElseThrow());
+        assertEquals(initialVersion + 1, taskRepository.findVersionById(task2.getId()).orElseThrow());
+        assertEquals(initialVersion, taskRepository.findVersionById(task3.getId()).orElseThrow());
+        assertEquals(initialVersion + 2, taskRepository.findProjectedById(task1.getId()).orElseThrow().getVersion());
+        assertTrue(taskRepository.findVersionById(-1L).isEmpty());
+    }
+
+    @Test
+    void countTasksToChange_ExcludesTasksInTargetState() {
+        // Act
+        long toDone = taskRepository.countTasksToChange(null, highPriority.getId(), null, doneStatus.getId(), null);
+        long toMedium = taskRepository.countTasksToChange(null, null, "task", null, mediumPriority.getId());
+
+        // Assert
+        assertEquals(1L, toDone); // task3 is already DONE
+        assertEquals(2L, toMedium); // task2 is already MEDIUM
+    }
+
+    @Test
+    void findIdsToChangeAfter_SeeksById() {
+        // Act
+        List<Long> firstChunk = taskRepository.findIdsToChangeAfter(null, null, null, null, mediumPriority.getId(),
+                0L, PageRequest.of(0, 1));
+        List<Long> secondChunk = taskRepository.findIdsToChangeAfter(null, null, null, null, mediumPriority.getId(),
+                firstChunk.get(0), PageRequest.of(0, 1));
+
+        // Assert
+        assertEquals(List.of(task1.getId()), firstChunk);
+        assertEquals(List.of(task3.getId()), secondChunk);
+    }
+
     @Test
     void countCompletedTasks_Success() {
         // Act
@@ -320,4 +506,104 @@ class TaskRepositoryTest {
         assertNotNull(result);
         assertEquals(0, result.getContent().size()); // No task matches OPEN status AND MEDIUM priority
     }
+
+    @Test
+    void seekTasksDesc_FirstPage() {
+        // Act
+        List<TaskResponseDTO> result = taskRepository.seekTasksDesc(null, null, null, PageRequest.of(0, 2));
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals("Third Task", result.get(0).getTaskTitle());
+        assertEquals("Second Task", result.get(1).getTaskTitle());
+    }
+
+    @Test
+    void seekTasksDescAfter_ContinuesFromCursor() {
+        // Arrange
+        List<TaskResponseDTO> firstPage = taskRepository.seekTasksDesc(null, null, null, PageRequest.of(0, 2));
+        TaskResponseDTO last = firstPage.get(firstPage.size() - 1);
+
+        // Act
+        List<TaskResponseDTO> result = taskRepository.seekTasksDescAfter(
+                null, null, null, last.getCreateDate(), last.getId(), PageRequest.of(0, 2));
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals("First Task", result.get(0).getTaskTitle());
+    }
+
+    @Test
+    void seekTasksAscAfter_WithFilters() {
+        // Arrange
+        List<TaskResponseDTO> firstPage = taskRepository.seekTasksAsc(null, highPriority.getId(), null, PageRequest.of(0, 1));
+        TaskResponseDTO last = firstPage.get(0);
+
+        // Act
+        List<TaskResponseDTO> result = taskRepository.seekTasksAscAfter(
+                null, highPriority.getId(), null, last.getCreateDate(), last.getId(), PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals("First Task", last.getTaskTitle());
+        assertEquals(1, result.size());
+        assertEquals("Third Task", result.get(0).getTaskTitle());
+    }
+
+    @Test
+    void findTaskSliceWithFilters_ReportsNextWithoutTotal() {
+        // Act
+        Slice<TaskResponseDTO> result = taskRepository.findTaskSliceWithFilters(null, null, null, PageRequest.of(0, 2));
+
+        // Assert
+        assertEquals(2, result.getContent().size());
+        assertTrue(result.hasNext());
+    }
+
+    @Test
+    void countTasksWithFilters_Success() {
+        // Act & Assert
+        assertEquals(3L, taskRepository.countTasksWithFilters(null, null, null));
+        assertEquals(2L, taskRepository.countTasksWithFilters(null, highPriority.getId(), null));
+        assertEquals(1L, taskRepository.countTasksWithFilters(null, highPriority.getId(), "another"));
+    }
+
+    @Test
+    void findProjectedById_Success() {
+        // Act
+        Optional<TaskResponseDTO> result = taskRepository.findProjectedById(task1.getId());
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals("First Task", result.get().getTaskTitle());
+        assertEquals("HIGH", result.get().getPriority().getType());
+        assertEquals(openStatus.getId(), result.get().getTaskStatus().getId());
+        assertEquals("OPEN", result.get().getTaskStatus().getType());
+    }
+
+    @Test
+    void findProjectedTasksWithFilters_SortedAndCounted() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "taskTitle"));
+
+        // Act
+        Page<TaskResponseDTO> result = taskRepository.findProjectedTasksWithFilters(null, null, null, pageable);
+
+        // Assert
+        assertEquals(3, result.getTotalElements());
+        assertEquals(2, result.getContent().size());
+        assertEquals("First Task", result.getContent().get(0).getTaskTitle());
+        assertEquals("Second Task", result.getContent().get(1).getTaskTitle());
+    }
+
+    @Test
+    void findProjectedTasksWithFilters_AllFilters() {
+        // Act
+        Page<TaskResponseDTO> result = taskRepository.findProjectedTasksWithFilters(
+                doneStatus.getId(), highPriority.getId(), "another", PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(1, result.getTotalElements());
+        assertEquals("Third Task", result.getContent().get(0).getTaskTitle());
+        assertEquals("DONE", result.getContent().get(0).getTaskStatus().getType());
+    }
 }
@@ -0,0 +1,148 @@
+package com.dilshan.coveragex.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+        index.index(1L, "Complete project documentation", "Write documentation for the API");
+        index.index(2L, "Security audit", "Review security of the API and fix issues");
+        index.index(3L, "Write unit tests", "Unit tests for the service layer");
+    }
+
+    @Test
+    void tokenize_LowercasesAndSplitsOnNonWordCharacters() {
+        assertEquals(Arrays.asList("ci", "cd", "pipeline", "v2"), InvertedIndex.tokenize("CI/CD pipeline, v2!"));
+        assertTrue(InvertedIndex.tokenize(null).isEmpty());
+    }
+
+    @Test
+    void search_RanksByBm25() {
+        // Act
+        InvertedIndex.SearchHits hits = index.search("security api", 0, 10);
+
+        // Assert - task 2 matches both terms, "security" twice
+        assertEquals(2, hits.getTotalHits());
+        assertEquals(2L, hits.getIds()[0]);
+        assertEquals(1L, hits.getIds()[1]);
+    }
+
+    @Test
+    void search_Pages() {
+        // Act
+        InvertedIndex.SearchHits firstPage = index.search("the", 0, 2);
+        InvertedIndex.SearchHits secondPage = index.search("the", 2, 2);
+
+        // Assert
+        assertEquals(3, firstPage.getTotalHits());
+        assertEquals(2, firstPage.getIds().length);
+        assertEquals(1, secondPage.getIds().length);
+    }
+
+    @Test
+    void index_ReplacesExistingDocument() {
+        // Act
+        index.index(1L, "Renamed task", "Nothing else");
+
+        // Assert
+        assertEquals(0, index.search("documentation", 0, 10).getTotalHits());
+        assertArrayEquals(new long[]{1L}, index.search("renamed", 0, 10).getIds());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void remove_ExcludesDocument() {
+        // Act
+        boolean removed = index.remove(3L);
+
+        // Assert
+        assertTrue(removed);
+        assertFalse(index.contains(3L));
+        assertEquals(0, index.search("unit", 0, 10).getTotalHits());
+        assertFalse(index.remove(3L));
+    }
+
+    @Test
+    void search_NoMatches() {
+        assertEquals(0, index.search("nonexistent", 0, 10).getTotalHits());
+        assertEquals(0, index.search("", 0, 10).getTotalHits());
+    }
+
+    @Test
+    void search_OffsetBeyondMatchesReturnsEmptyPage() {
+        // Arrange
+        index.index(1L, "Shared words", null);
+        index.index(2L, "Shared again", null);
+
+        // Act - page 300000 of size 10000, and an offset whose int sum with the limit would overflow
+        InvertedIndex.SearchHits farPage = index.search("shared", 300_000L * 10_000, 10_000);
+        InvertedIndex.SearchHits nearIntLimit = index.search("shared", Integer.MAX_VALUE - 1, 10);
+
+        // Assert
+        assertEquals(0, farPage.getIds().length);
+        assertEquals(2, farPage.getTotalHits());
+        assertEquals(0, nearIntLimit.getIds().length);
+        assertEquals(2, index.search("shared", 1, Integer.MAX_VALUE).getTotalHits());
+        assertArrayEquals(new long[]{1L}, index.search("shared", 1, Integer.MAX_VALUE).getIds());
+    }
+
+    @Test
+    void index_CompactsTombstonedDocuments() {
+        // Arrange
+        InvertedIndex compacting = new InvertedIndex(4);
+        for (long id = 1; id <= 8; id++) {
+            compacting.index(id, "Task " + id, "Shared words");
+        }
+
+        // Act - every rewrite tombstones an ordinal; the fourth crosses the threshold
+        for (long id = 1; id <= 4; id++) {
+            compacting.index(id, "Rewritten " + id, "Shared words");
+        }
+
+        // Assert
+        assertEquals(0, compacting.tombstones());
+        assertEquals(8, compacting.size());
+        assertEquals(8, compacting.search("shared", 0, 10).getTotalHits());
+        assertArrayEquals(new long[]{3L}, compacting.search("rewritten 3", 0, 1).getIds());
+        assertEquals(4, compacting.search("task", 0, 10).getTotalHits());
+        assertArrayEquals(new long[]{8L}, compacting.search("8", 0, 10).getIds());
+    }
+
+    @Test
+    void index_CompactionDropsUnusedTerms() {
+        // Arrange
+        InvertedIndex compacting = new InvertedIndex(2);
+        compacting.index(1L, "alpha", null);
+        compacting.index(2L, "beta", null);
+        int termsBefore = compacting.termCount();
+
+        // Act
+        compacting.remove(1L);
+        compacting.remove(2L);
+        compacting.index(3L, "gamma", null);
+
+        // Assert
+        assertEquals(2, termsBefore);
+        assertEquals(1, compacting.termCount());
+        assertEquals(0, compacting.search("alpha beta", 0, 10).getTotalHits());
+        assertArrayEquals(new long[]{3L}, compacting.search("gamma", 0, 10).getIds());
+    }
+
+    @Test
+    void documentIds_ListsLiveDocuments() {
+        index.remove(2L);
+        List<Long> ids = index.documentIds();
+        assertEquals(2, ids.size());
+        assertTrue(ids.containsAll(Arrays.asList(1L, 3L)));
+    }
+}
@@ -1,9 +1,10 @@
 package com.dilshan.coveragex.service;
 
+import com.dilshan.coveragex.cache.ReferenceDataRegistry;
 import com.dilshan.coveragex.dto.PriorityTypeResponseDTO;
 import com.dilshan.coveragex.entity.PriorityType;
 import com.dilshan.coveragex.exception.PriorityTypeNotFoundException;
-import com.dilshan.coveragex.repository.PriorityTypeRepository;
+import com.dilshan.coveragex.mapper.PriorityTypeMapper;
 import com.dilshan.coveragex.service.impl.PriorityTypeServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,7 +12,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 
 import java.util.Arrays;
 import java.util.List;
@@ -24,10 +24,10 @@ import static org.mockito.Mockito.*;
 class PriorityTypeServiceTest {
 
     @Mock
-    private PriorityTypeRepository priorityTypeRepository;
+    private ReferenceDataRegistry referenceDataRegistry;
 
     @Mock
-    private ModelMapper modelMapper;
+    private PriorityTypeMapper priorityTypeMapper;
 
     @InjectMocks
     private PriorityTypeServiceImpl priorityTypeService;
@@ -48,8 +48,8 @@ class PriorityTypeServiceTest {
     void getAllPriorityTypes_Success() {
         // Arrange
         List<PriorityType> priorityTypes = Arrays.asList(testPriorityType);
-        when(priorityTypeRepository.findAll()).thenReturn(priorityTypes);
-        when(modelMapper.map(testPriorityType, PriorityTypeResponseDTO.class)).thenReturn(responseDTO);
+        when(referenceDataRegistry.getPriorityTypes()).thenReturn(priorityTypes);
+        when(priorityTypeMapper.toResponseDTO(testPriorityType)).thenReturn(responseDTO);
 
         // Act
         List<PriorityTypeResponseDTO> result = priorityTypeService.getAllPriorityTypes();
@@ -60,14 +60,14 @@ class PriorityTypeServiceTest {
         assertEquals(responseDTO.getId(), result.get(0).getId());
         assertEquals(responseDTO.getType(), result.get(0).getType());
         
-        verify(priorityTypeRepository).findAll();
-        verify(modelMapper).map(testPriorityType, PriorityTypeResponseDTO.class);
+        verify(referenceDataRegistry).getPriorityTypes();
+        verify(priorityTypeMapper).toResponseDTO(testPriorityType);
     }
 
     @Test
     void getAllPriorityTypes_EmptyList() {
         // Arrange
-        when(priorityTypeRepository.findAll()).thenReturn(Arrays.asList());
+        when(referenceDataRegistry.getPriorityTypes()).thenReturn(Arrays.asList());
 
         // Act
         List<PriorityTypeResponseDTO> result = priorityTypeService.getAllPriorityTypes();
@@ -76,15 +76,15 @@ class PriorityTypeServiceTest {
         assertNotNull(result);
         assertTrue(result.isEmpty());
         
-        verify(priorityTypeRepository).findAll();
-        verifyNoInteractions(modelMapper);
+        verify(referenceDataRegistry).getPriorityTypes();
+        verifyNoInteractions(priorityTypeMapper);
     }
 
     @Test
     void getPriorityTypeById_Success() {
         // Arrange
-        when(priorityTypeRepository.findById(1L)).thenReturn(Optional.of(testPriorityType));
-        when(modelMapper.map(testPriorityType, PriorityTypeResponseDTO.class)).thenReturn(responseDTO);
+        when(referenceDataRegistry.findPriorityTypeById(1L)).thenReturn(Optional.of(testPriorityType));
+        when(priorityTypeMapper.toResponseDTO(testPriorityType)).thenReturn(responseDTO);
 
         // Act
         PriorityTypeResponseDTO result = priorityTypeService.getPriorityTypeById(1L);
@@ -94,27 +94,27 @@ class PriorityTypeServiceTest {
         assertEquals(responseDTO.getId(), result.getId());
         assertEquals(responseDTO.getType(), result.getType());
         
-        verify(priorityTypeRepository).findById(1L);
-        verify(modelMapper).map(testPriorityType, PriorityTypeResponseDTO.class);
+        verify(referenceDataRegistry).findPriorityTypeById(1L);
+        verify(priorityTypeMapper).toResponseDTO(testPriorityType);
     }
 
     @Test
     void getPriorityTypeById_NotFound() {
         // Arrange
-        when(priorityTypeRepository.findById(1L)).thenReturn(Optional.empty());
+        when(referenceDataRegistry.findPriorityTypeById(1L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(PriorityTypeNotFoundException.class, 
                     () -> priorityTypeService.getPriorityTypeById(1L));
         
-        verify(priorityTypeRepository).findById(1L);
-        verifyNoInteractions(modelMapper);
+        verify(referenceDataRegistry).findPriorityTypeById(1L);
+        verifyNoInteractions(priorityTypeMapper);
     }
 
     @Test
     void getPriorityTypeEntityById_Success() {
         // Arrange
-        when(priorityTypeRepository.findById(1L)).thenReturn(Optional.of(testPriorityType));
+        when(referenceDataRegistry.findPriorityTypeById(1L)).thenReturn(Optional.of(testPriorityType));
 
         // Act
         PriorityType result = priorityTypeService.getPriorityTypeEntityById(1L);
@@ -124,26 +124,26 @@ class PriorityTypeServiceTest {
         assertEquals(testPriorityType.getId(), result.getId());
         assertEquals(testPriorityType.getType(), result.getType());
         
-        verify(priorityTypeRepository).findById(1L);
+        verify(referenceDataRegistry).findPriorityTypeById(1L);
     }
 
     @Test
     void getPriorityTypeEntityById_NotFound() {
         // Arrange
-        when(priorityTypeRepository.findById(1L)).thenReturn(Optional.empty());
+        when(referenceDataRegistry.findPriorityTypeById(1L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(PriorityTypeNotFoundException.class, 
                     () -> priorityTypeService.getPriorityTypeEntityById(1L));
         
-        verify(priorityTypeRepository).findById(1L);
+        verify(referenceDataRegistry).findPriorityTypeById(1L);
     }
 
     @Test
     void getPriorityTypeByType_Success() {
         // Arrange
-        when(priorityTypeRepository.findByType("HIGH")).thenReturn(Optional.of(testPriorityType));
-        when(modelMapper.map(testPriorityType, PriorityTypeResponseDTO.class)).thenReturn(responseDTO);
+        when(referenceDataRegistry.findPriorityTypeByType("HIGH")).thenReturn(Optional.of(testPriorityType));
+        when(priorityTypeMapper.toResponseDTO(testPriorityType)).thenReturn(responseDTO);
 
         // Act
         PriorityTypeResponseDTO result = priorityTypeService.getPriorityTypeByType("HIGH");
@@ -153,47 +153,47 @@ class PriorityTypeServiceTest {
         assertEquals(responseDTO.getId(), result.getId());
         assertEquals(responseDTO.getType(), result.getType());
         
-        verify(priorityTypeRepository).findByType("HIGH");
-        verify(modelMapper).map(testPriorityType, PriorityTypeResponseDTO.class);
+        verify(referenceDataRegistry).findPriorityTypeByType("HIGH");
+        verify(priorityTypeMapper).toResponseDTO(testPriorityType);
     }
 
     @Test
     void getPriorityTypeByType_NotFound() {
         // Arrange
-        when(priorityTypeRepository.findByType("INVALID")).thenReturn(Optional.empty());
+        when(referenceDataRegistry.findPriorityTypeByType("INVALID")).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(PriorityTypeNotFoundException.class, 
                     () -> priorityTypeService.getPriorityTypeByType("INVALID"));
         
-        verify(priorityTypeRepository).findByType("INVALID");
-        verifyNoInteractions(modelMapper);
+        verify(referenceDataRegistry).findPriorityTypeByType("INVALID");
+        verifyNoInteractions(priorityTypeMapper);
     }
 
     @Test
     void existsById_Success() {
         // Arrange
-        when(priorityTypeRepository.existsById(1L)).thenReturn(true);
+        when(referenceDataRegistry.existsPriorityTypeById(1L)).thenReturn(true);
 
         // Act
         boolean result = priorityTypeService.existsById(1L);
 
         // Assert
         assertTrue(result);
-        verify(priorityTypeRepository).existsById(1L);
+        verify(referenceDataRegistry).existsPriorityTypeById(1L);
     }
 
     @Test
     void existsById_NotExists() {
         // Arrange
-        when(priorityTypeRepository.existsById(1L)).thenReturn(false);
+        when(referenceDataRegistry.existsPriorityTypeById(1L)).thenReturn(false);
 
         // Act
         boolean result = priorityTypeService.existsById(1L);
 
         // Assert
         assertFalse(result);
-        verify(priorityTypeRepository).existsById(1L);
+        verify(referenceDataRegistry).existsPriorityTypeById(1L);
     }
 
     @Test
@@ -217,10 +217,10 @@ class PriorityTypeServiceTest {
         lowDTO.setId(3L);
         lowDTO.setType("LOW");
         
-        when(priorityTypeRepository.findAll()).thenReturn(priorityTypes);
-        when(modelMapper.map(highPriority, PriorityTypeResponseDTO.class)).thenReturn(highDTO);
-        when(modelMapper.map(mediumPriority, PriorityTypeResponseDTO.class)).thenReturn(mediumDTO);
-        when(modelMapper.map(lowPriority, PriorityTypeResponseDTO.class)).thenReturn(lowDTO);
+        when(referenceDataRegistry.getPriorityTypes()).thenReturn(priorityTypes);
+        when(priorityTypeMapper.toResponseDTO(highPriority)).thenReturn(highDTO);
+        when(priorityTypeMapper.toResponseDTO(mediumPriority)).thenReturn(mediumDTO);
+        when(priorityTypeMapper.toResponseDTO(lowPriority)).thenReturn(lowDTO);
 
         // Act
         List<PriorityTypeResponseDTO> result = priorityTypeService.getAllPriorityTypes();
@@ -232,7 +232,7 @@ class PriorityTypeServiceTest {
         assertEquals("MEDIUM", result.get(1).getType());
         assertEquals("LOW", result.get(2).getType());
         
-        verify(priorityTypeRepository).findAll();
-        verify(modelMapper, times(3)).map(any(PriorityType.class), eq(PriorityTypeResponseDTO.class));
+        verify(referenceDataRegistry).getPriorityTypes();
+        verify(priorityTypeMapper, times(3)).toResponseDTO(any(PriorityType.class));
     }
 }
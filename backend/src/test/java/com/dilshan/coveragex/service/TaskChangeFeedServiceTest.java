@@ -0,0 +1,143 @@
+package com.dilshan.coveragex.service;
+
+import com.dilshan.coveragex.dto.TaskChangeFeedResponseDTO;
+import com.dilshan.coveragex.dto.TaskChangeOperation;
+import com.dilshan.coveragex.dto.TaskResponseDTO;
+import com.dilshan.coveragex.dto.TaskStatusTypeResponseDTO;
+import com.dilshan.coveragex.entity.TaskChange;
+import com.dilshan.coveragex.exception.TaskChangeCursorExpiredException;
+import com.dilshan.coveragex.feed.TaskChangeLog;
+import com.dilshan.coveragex.repository.TaskChangeRepository;
+import com.dilshan.coveragex.repository.TaskRepository;
+import com.dilshan.coveragex.service.impl.TaskChangeFeedServiceImpl;
+import com.dilshan.coveragex.util.TaskChangeCursor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskChangeFeedServiceTest {
+
+    @Mock
+    private TaskChangeRepository taskChangeRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskChangeLog taskChangeLog;
+
+    @InjectMocks
+    private TaskChangeFeedServiceImpl taskChangeFeedService;
+
+    @Test
+    void getChanges_WithoutCursorReturnsHead() {
+        // Arrange
+        when(taskChangeLog.headSequence()).thenReturn(42L);
+
+        // Act
+        TaskChangeFeedResponseDTO result = taskChangeFeedService.getChanges(null, 100);
+
+        // Assert
+        assertTrue(result.getChanges().isEmpty());
+        assertFalse(result.isHasMore());
+        assertEquals(42L, TaskChangeCursor.decode(result.getNextCursor()).getCommitSeq());
+        verifyNoInteractions(taskChangeRepository);
+    }
+
+    @Test
+    void getChanges_ReturnsLatestEntryPerTaskInCommitOrder() {
+        // Arrange
+        String since = TaskChangeCursor.of(1, 1).encode();
+        LocalDateTime now = LocalDateTime.now();
+        when(taskChangeRepository.findAfter(1L, 1L, PageRequest.of(0, 3))).thenReturn(List.of(
+                new TaskChange(2L, 2L, 10L, now),
+                new TaskChange(3L, 3L, 20L, now),
+                new TaskChange(4L, 4L, 10L, now)));
+        when(taskRepository.findProjectedByIdIn(Set.of(10L, 20L)))
+                .thenReturn(List.of(task(10L, "OPEN"), task(20L, "CLOSED")));
+
+        // Act
+        TaskChangeFeedResponseDTO result = taskChangeFeedService.getChanges(since, 2);
+
+        // Assert: the limit counts log entries, so the third one is left for the next page
+        assertTrue(result.isHasMore());
+        assertEquals(2, result.getChanges().size());
+        assertEquals(10L, result.getChanges().get(0).getTaskId());
+        assertEquals(TaskChangeOperation.UPSERT, result.getChanges().get(0).getOperation());
+        assertEquals(20L, result.getChanges().get(1).getTaskId());
+        assertEquals(TaskChangeOperation.TOMBSTONE, result.getChanges().get(1).getOperation());
+        TaskChangeCursor next = TaskChangeCursor.decode(result.getNextCursor());
+        assertEquals(3L, next.getCommitSeq());
+        assertEquals(3L, next.getId());
+    }
+
+    @Test
+    void getChanges_MissingTaskIsTombstone() {
+        // Arrange
+        String since = TaskChangeCursor.of(0, 0).encode();
+        when(taskChangeRepository.findAfter(eq(0L), eq(0L), any())).thenReturn(List.of(
+                new TaskChange(1L, 1L, 10L, LocalDateTime.now())));
+        when(taskRepository.findProjectedByIdIn(anyCollection())).thenReturn(List.of());
+
+        // Act
+        TaskChangeFeedResponseDTO result = taskChangeFeedService.getChanges(since, 100);
+
+        // Assert
+        assertEquals(TaskChangeOperation.TOMBSTONE, result.getChanges().get(0).getOperation());
+        assertNull(result.getChanges().get(0).getTask());
+        assertFalse(result.isHasMore());
+    }
+
+    @Test
+    void getChanges_NoNewChangesKeepsCursor() {
+        // Arrange
+        String since = TaskChangeCursor.of(5, 9).encode();
+        when(taskChangeRepository.findAfter(eq(5L), eq(9L), any())).thenReturn(List.of());
+
+        // Act
+        TaskChangeFeedResponseDTO result = taskChangeFeedService.getChanges(since, 100);
+
+        // Assert
+        assertTrue(result.getChanges().isEmpty());
+        assertEquals(since, result.getNextCursor());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getChanges_CompactedCursorIsExpired() {
+        // Arrange
+        when(taskChangeLog.compactedSequence()).thenReturn(10L);
+        String since = TaskChangeCursor.of(9, 100).encode();
+
+        // Act & Assert
+        assertThrows(TaskChangeCursorExpiredException.class, () -> taskChangeFeedService.getChanges(since, 100));
+        verifyNoInteractions(taskChangeRepository);
+    }
+
+    @Test
+    void getChanges_InvalidLimitOrCursor() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> taskChangeFeedService.getChanges(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> taskChangeFeedService.getChanges(null, 1001));
+        assertThrows(IllegalArgumentException.class, () -> taskChangeFeedService.getChanges("not-a-cursor", 100));
+    }
+
+    private static TaskResponseDTO task(Long id, String status) {
+        TaskResponseDTO task = new TaskResponseDTO();
+        task.setId(id);
+        task.setTaskStatus(new TaskStatusTypeResponseDTO(1L, status));
+        return task;
+    }
+}
@@ -0,0 +1,114 @@
+package com.dilshan.coveragex.service;
+
+import com.dilshan.coveragex.dto.PriorityTypeResponseDTO;
+import com.dilshan.coveragex.dto.TaskTransferFormat;
+import com.dilshan.coveragex.dto.TaskResponseDTO;
+import com.dilshan.coveragex.dto.TaskStatusTypeResponseDTO;
+import com.dilshan.coveragex.repository.TaskRepository;
+import com.dilshan.coveragex.service.impl.TaskExportServiceImpl;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskExportServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private TaskExportServiceImpl taskExportService;
+    private TaskResponseDTO plainTask;
+    private TaskResponseDTO quotedTask;
+
+    @BeforeEach
+    void setUp() {
+        taskExportService = new TaskExportServiceImpl(taskRepository, objectMapper);
+        LocalDateTime date = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+        plainTask = new TaskResponseDTO(1L, "Plain task", null, date, date,
+                new PriorityTypeResponseDTO(1L, "HIGH"), new TaskStatusTypeResponseDTO(1L, "OPEN"), 0L);
+        quotedTask = new TaskResponseDTO(2L, "Say \"hi\", then leave", "line one\nline two", date, date,
+                new PriorityTypeResponseDTO(2L, "LOW"), new TaskStatusTypeResponseDTO(4L, "DONE"), 3L);
+    }
+
+    @Test
+    void exportTasks_Csv() throws Exception {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean();
+        when(taskRepository.streamTasksWithFilters(null, 1L, "task"))
+                .thenReturn(Stream.of(plainTask, quotedTask).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long rows = taskExportService.exportTasks(null, 1L, "task", TaskTransferFormat.CSV, output);
+
+        // Assert
+        assertEquals(2, rows);
+        assertTrue(closed.get());
+        assertEquals("id,taskTitle,description,createDate,lastStatusChangeDate,priority,taskStatus,version\r\n"
+                        + "1,Plain task,,2025-01-02T03:04:05,2025-01-02T03:04:05,HIGH,OPEN,0\r\n"
+                        + "2,\"Say \"\"hi\"\", then leave\",\"line one\nline two\",2025-01-02T03:04:05,"
+                        + "2025-01-02T03:04:05,LOW,DONE,3\r\n",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportTasks_Ndjson() throws Exception {
+        // Arrange
+        when(taskRepository.streamTasksWithFilters(null, null, null)).thenReturn(Stream.of(plainTask, quotedTask));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long rows = taskExportService.exportTasks(null, null, null, TaskTransferFormat.NDJSON, output);
+
+        // Assert
+        assertEquals(2, rows);
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(3, lines.length);
+        assertEquals("", lines[2]);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertEquals("line one\nline two", second.get("description").asText());
+        assertEquals("DONE", second.get("taskStatus").get("type").asText());
+        assertEquals("2025-01-02T03:04:05", objectMapper.readTree(lines[0]).get("createDate").asText());
+    }
+
+    @Test
+    void exportTasks_EmptyCsvHasHeaderOnly() throws Exception {
+        // Arrange
+        when(taskRepository.streamTasksWithFilters(5L, null, null)).thenReturn(Stream.empty());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long rows = taskExportService.exportTasks(5L, null, null, TaskTransferFormat.CSV, output);
+
+        // Assert
+        assertEquals(0, rows);
+        assertEquals("id,taskTitle,description,createDate,lastStatusChangeDate,priority,taskStatus,version\r\n",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void fromParameter_IsCaseInsensitive() {
+        assertEquals(TaskTransferFormat.CSV, TaskTransferFormat.fromParameter("csv"));
+        assertEquals(TaskTransferFormat.NDJSON, TaskTransferFormat.fromParameter("NDJSON"));
+        assertThrows(IllegalArgumentException.class, () -> TaskTransferFormat.fromParameter("xml"));
+    }
+}
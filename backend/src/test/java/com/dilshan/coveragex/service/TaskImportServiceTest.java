@@ -0,0 +1,189 @@
+package com.dilshan.coveragex.service;
+
+import com.dilshan.coveragex.cache.ReferenceDataRegistry;
+import com.dilshan.coveragex.dto.TaskBatchItemResultDTO;
+import com.dilshan.coveragex.dto.TaskBatchResponseDTO;
+import com.dilshan.coveragex.dto.TaskCreateRequestDTO;
+import com.dilshan.coveragex.dto.TaskImportResponseDTO;
+import com.dilshan.coveragex.dto.TaskTransferFormat;
+import com.dilshan.coveragex.entity.PriorityType;
+import com.dilshan.coveragex.entity.TaskStatusType;
+import com.dilshan.coveragex.service.impl.TaskImportServiceImpl;
+import com.dilshan.coveragex.transfer.ConnectionPoolThrottle;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TaskImportServiceTest {
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    @Mock
+    private ConnectionPoolThrottle connectionPoolThrottle;
+
+    @Captor
+    private ArgumentCaptor<List<TaskCreateRequestDTO>> chunkCaptor;
+
+    private TaskImportServiceImpl taskImportService;
+    private final List<List<TaskCreateRequestDTO>> chunks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        taskImportService = new TaskImportServiceImpl(taskService, referenceDataRegistry, connectionPoolThrottle,
+                new ObjectMapper(), 2);
+        when(referenceDataRegistry.getPriorityTypes()).thenReturn(List.of(new PriorityType(1L, "HIGH"),
+                new PriorityType(3L, "LOW")));
+        when(referenceDataRegistry.getTaskStatusTypes()).thenReturn(List.of(new TaskStatusType(1L, "OPEN"),
+                new TaskStatusType(4L, "DONE")));
+        // Every item succeeds except those titled "reject"
+        when(taskService.createTasks(anyList())).thenAnswer(invocation -> {
+            List<TaskCreateRequestDTO> chunk = invocation.getArgument(0);
+            chunks.add(chunk);
+            List<TaskBatchItemResultDTO> results = new ArrayList<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                boolean success = !"reject".equals(chunk.get(i).getTaskTitle());
+                results.add(new TaskBatchItemResultDTO(i, success, success ? 100L + i : null,
+                        success ? null : "Task title is required"));
+            }
+            return new TaskBatchResponseDTO(chunk.size(), 0, 0, 0, 0, results);
+        });
+    }
+
+    @Test
+    void importTasks_Ndjson() throws Exception {
+        // Arrange
+        String input = "{\"taskTitle\":\"First\",\"priorityId\":1,\"taskStatusId\":1}\n"
+                + "\n"
+                + "{\"taskTitle\":\"Second\",\"description\":\"d\",\"priority\":\"low\",\"taskStatus\":{\"id\":4}}\n"
+                + "not json\n"
+                + "{\"taskTitle\":\"reject\",\"priorityId\":1,\"taskStatusId\":1}\n"
+                + "{\"taskTitle\":\"Third\",\"priority\":\"URGENT\",\"taskStatusId\":1}";
+        when(connectionPoolThrottle.awaitCapacity()).thenReturn(5L);
+
+        // Act
+        TaskImportResponseDTO result = taskImportService.importTasks(new StringReader(input),
+                TaskTransferFormat.NDJSON, null);
+
+        // Assert
+        assertEquals(5, result.getRecords());
+        assertEquals(2, result.getImported());
+        assertEquals(3, result.getFailed());
+        assertEquals(2, result.getChunks());
+        assertEquals(10, result.getThrottledMillis());
+        assertFalse(result.isErrorsTruncated());
+        assertEquals(List.of(4L, 6L, 5L), result.getErrors().stream().map(e -> e.getLine()).toList());
+        assertTrue(result.getErrors().get(0).getError().startsWith("Invalid JSON"));
+        assertEquals("Unknown priority: URGENT", result.getErrors().get(1).getError());
+        assertEquals("Task title is required", result.getErrors().get(2).getError());
+
+        TaskCreateRequestDTO second = chunks.get(0).get(1);
+        assertEquals("Second", second.getTaskTitle());
+        assertEquals("d", second.getDescription());
+        assertEquals(3L, second.getPriorityId());
+        assertEquals(4L, second.getTaskStatusId());
+    }
+
+    @Test
+    void importTasks_CsvWithQuotedFields() throws Exception {
+        // Arrange
+        String input = "\uFEFFid,TaskTitle,description,priority,taskStatus,version\r\n"
+                + "7,\"Say \"\"hi\"\", then leave\",\"line one\nline two\",HIGH,DONE,0\r\n"
+                + "8,Plain task,,LOW,CLOSED,0\r\n";
+
+        // Act
+        TaskImportResponseDTO result = taskImportService.importTasks(new StringReader(input),
+                TaskTransferFormat.CSV, 10);
+
+        // Assert
+        assertEquals(2, result.getRecords());
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getChunks());
+        assertEquals(4, result.getErrors().get(0).getLine());
+        assertEquals("Unknown task status: CLOSED", result.getErrors().get(0).getError());
+
+        TaskCreateRequestDTO quoted = chunks.get(0).get(0);
+        assertEquals("Say \"hi\", then leave", quoted.getTaskTitle());
+        assertEquals("line one\nline two", quoted.getDescription());
+        assertEquals(1L, quoted.getPriorityId());
+        assertEquals(4L, quoted.getTaskStatusId());
+    }
+
+    @Test
+    void importTasks_CsvMissingColumns() {
+        // Arrange
+        String input = "taskTitle,description\nTask,Desc\n";
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> taskImportService.importTasks(
+                new StringReader(input), TaskTransferFormat.CSV, null));
+        verify(taskService, never()).createTasks(anyList());
+    }
+
+    @Test
+    void importTasks_FailedChunkContinues() throws Exception {
+        // Arrange
+        String input = "taskTitle,priorityId,taskStatusId\nA,1,1\nB,1,1\nC,1,1\n";
+        reset(taskService);
+        when(taskService.createTasks(anyList()))
+                .thenThrow(new RuntimeException("Deadlock"))
+                .thenReturn(new TaskBatchResponseDTO(1, 1, 0, 0, 0,
+                        List.of(new TaskBatchItemResultDTO(0, true, 9L, null))));
+
+        // Act
+        TaskImportResponseDTO result = taskImportService.importTasks(new StringReader(input),
+                TaskTransferFormat.CSV, 2);
+
+        // Assert
+        assertEquals(3, result.getRecords());
+        assertEquals(1, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertEquals(List.of(2L, 3L), result.getErrors().stream().map(e -> e.getLine()).toList());
+        assertEquals("Chunk failed: Deadlock", result.getErrors().get(0).getError());
+        verify(taskService, times(2)).createTasks(chunkCaptor.capture());
+        assertEquals("C", chunkCaptor.getAllValues().get(1).get(0).getTaskTitle());
+    }
+
+    @Test
+    void importTasks_TooLongLine() throws Exception {
+        // Arrange
+        String input = "{\"taskTitle\":\"" + "x".repeat(70_000) + "\"}\n"
+                + "{\"taskTitle\":\"Short\",\"priorityId\":1,\"taskStatusId\":1}\n";
+
+        // Act
+        TaskImportResponseDTO result = taskImportService.importTasks(new StringReader(input),
+                TaskTransferFormat.NDJSON, null);
+
+        // Assert
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getErrors().get(0).getLine());
+        assertTrue(result.getErrors().get(0).getError().startsWith("Line exceeds"));
+    }
+
+    @Test
+    void importTasks_InvalidChunkSize() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> taskImportService.importTasks(
+                new StringReader(""), TaskTransferFormat.NDJSON, 5001));
+    }
+}
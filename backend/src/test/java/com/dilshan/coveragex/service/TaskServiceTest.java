@@ -1,23 +1,43 @@
 package com.dilshan.coveragex.service;
 
+import com.dilshan.coveragex.cache.TaskChangeSequence;
+import com.dilshan.coveragex.cache.TaskCountCache;
+import com.dilshan.coveragex.cache.TaskStatisticsCounters;
 import com.dilshan.coveragex.dto.*;
 import com.dilshan.coveragex.entity.PriorityType;
 import com.dilshan.coveragex.entity.Task;
 import com.dilshan.coveragex.entity.TaskStatusType;
+import com.dilshan.coveragex.exception.PriorityTypeNotFoundException;
 import com.dilshan.coveragex.exception.TaskNotFoundException;
+import com.dilshan.coveragex.exception.TaskPreconditionFailedException;
+import com.dilshan.coveragex.feed.TaskChangeLog;
+import com.dilshan.coveragex.mapper.TaskMapper;
+import com.dilshan.coveragex.repository.FullTextSearchSupport;
 import com.dilshan.coveragex.repository.TaskRepository;
+import com.dilshan.coveragex.search.InvertedIndex;
+import com.dilshan.coveragex.search.TaskSearchIndex;
 import com.dilshan.coveragex.service.impl.TaskServiceImpl;
+import com.dilshan.coveragex.stream.TaskEventBroadcaster;
+import com.dilshan.coveragex.util.TaskCursor;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.*;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -36,7 +56,34 @@ class TaskServiceTest {
     private TaskStatusTypeService taskStatusTypeService;
 
     @Mock
-    private ModelMapper modelMapper;
+    private TaskMapper taskMapper;
+
+    @Mock
+    private TaskCountCache taskCountCache;
+
+    @Mock
+    private FullTextSearchSupport fullTextSearchSupport;
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    @Mock
+    private TaskStatisticsCounters taskStatisticsCounters;
+
+    @Mock
+    private TaskChangeSequence taskChangeSequence;
+
+    @Mock
+    private TaskEventBroadcaster taskEventBroadcaster;
+
+    @Mock
+    private TaskChangeLog taskChangeLog;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
 
     @InjectMocks
     private TaskServiceImpl taskService;
@@ -88,7 +135,7 @@ class TaskServiceTest {
         when(priorityTypeService.getPriorityTypeEntityById(1L)).thenReturn(highPriority);
         when(taskStatusTypeService.getTaskStatusTypeEntityById(1L)).thenReturn(openStatus);
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
-        when(modelMapper.map(testTask, TaskResponseDTO.class)).thenReturn(responseDTO);
+        when(taskMapper.toResponseDTO(testTask)).thenReturn(responseDTO);
 
         // Act
         TaskResponseDTO result = taskService.createTask(createRequestDTO);
@@ -101,16 +148,60 @@ class TaskServiceTest {
         verify(priorityTypeService).getPriorityTypeEntityById(1L);
         verify(taskStatusTypeService).getTaskStatusTypeEntityById(1L);
         verify(taskRepository).save(any(Task.class));
-        verify(modelMapper).map(testTask, TaskResponseDTO.class);
+        verify(taskMapper).toResponseDTO(testTask);
+        verify(taskStatisticsCounters).taskCreatedAfterCommit("OPEN", "HIGH");
+    }
+
+    @Test
+    void createTasks_ReportsPerItemResults() {
+        // Arrange
+        TaskCreateRequestDTO invalidRequest = new TaskCreateRequestDTO("", null, 1L, 1L);
+        TaskCreateRequestDTO unknownPriorityRequest = new TaskCreateRequestDTO("Task", null, 99L, 1L);
+        when(priorityTypeService.getPriorityTypeEntityById(1L)).thenReturn(highPriority);
+        when(priorityTypeService.getPriorityTypeEntityById(99L)).thenThrow(PriorityTypeNotFoundException.forId(99L));
+        when(taskStatusTypeService.getTaskStatusTypeEntityById(1L)).thenReturn(openStatus);
+        when(taskRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            tasks.get(0).setId(10L);
+            return tasks;
+        });
+
+        // Act
+        TaskBatchResponseDTO result = taskService.createTasks(
+                Arrays.asList(createRequestDTO, invalidRequest, unknownPriorityRequest, null));
+
+        // Assert
+        assertEquals(4, result.getRequested());
+        assertEquals(1, result.getSucceeded());
+        assertEquals(3, result.getFailed());
+        assertTrue(result.getResults().get(0).isSuccess());
+        assertEquals(10L, result.getResults().get(0).getId());
+        assertTrue(result.getResults().get(1).getError().startsWith("taskTitle:"));
+        assertEquals(PriorityTypeNotFoundException.forId(99L).getMessage(), result.getResults().get(2).getError());
+        assertEquals("Task is required", result.getResults().get(3).getError());
+        verify(taskRepository).insertAll(argThat(tasks -> tasks.size() == 1));
+        verify(taskStatisticsCounters).taskCreatedAfterCommit("OPEN", "HIGH");
+        verify(taskChangeLog).record(List.of(10L));
+        verify(taskCountCache).invalidateAll();
+    }
+
+    @Test
+    void createTasks_TooManyItems() {
+        // Arrange
+        List<TaskCreateRequestDTO> requests = Collections.nCopies(5001, createRequestDTO);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> taskService.createTasks(requests));
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
     void getAllTasks_Success() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createDate"));
-        Page<Task> taskPage = new PageImpl<>(Arrays.asList(testTask));
-        when(taskRepository.findAll(any(Pageable.class))).thenReturn(taskPage);
-        when(modelMapper.map(testTask, TaskResponseDTO.class)).thenReturn(responseDTO);
+        Page<TaskResponseDTO> taskPage = new PageImpl<>(Arrays.asList(responseDTO));
+        when(taskRepository.findProjectedTasksWithFilters(isNull(), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(taskPage);
 
         // Act
         Page<TaskResponseDTO> result = taskService.getAllTasks(0, 10, "createDate", "DESC");
@@ -120,15 +211,14 @@ class TaskServiceTest {
         assertEquals(1, result.getContent().size());
         assertEquals(responseDTO.getId(), result.getContent().get(0).getId());
         
-        verify(taskRepository).findAll(any(Pageable.class));
-        verify(modelMapper).map(testTask, TaskResponseDTO.class);
+        verify(taskRepository).findProjectedTasksWithFilters(isNull(), isNull(), isNull(), eq(pageable));
+        verifyNoInteractions(taskMapper);
     }
 
     @Test
     void getTaskById_Success() {
         // Arrange
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
-        when(modelMapper.map(testTask, TaskResponseDTO.class)).thenReturn(responseDTO);
+        when(taskRepository.findProjectedById(1L)).thenReturn(Optional.of(responseDTO));
 
         // Act
         TaskResponseDTO result = taskService.getTaskById(1L);
@@ -138,20 +228,20 @@ class TaskServiceTest {
         assertEquals(responseDTO.getId(), result.getId());
         assertEquals(responseDTO.getTaskTitle(), result.getTaskTitle());
         
-        verify(taskRepository).findById(1L);
-        verify(modelMapper).map(testTask, TaskResponseDTO.class);
+        verify(taskRepository).findProjectedById(1L);
+        verifyNoInteractions(taskMapper);
     }
 
     @Test
     void getTaskById_NotFound() {
         // Arrange
-        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+        when(taskRepository.findProjectedById(1L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(TaskNotFoundException.class, () -> taskService.getTaskById(1L));
         
-        verify(taskRepository).findById(1L);
-        verifyNoInteractions(modelMapper);
+        verify(taskRepository).findProjectedById(1L);
+        verifyNoInteractions(taskMapper);
     }
 
     @Test
@@ -160,8 +250,8 @@ class TaskServiceTest {
         when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
         when(priorityTypeService.getPriorityTypeEntityById(1L)).thenReturn(highPriority);
         when(taskStatusTypeService.getTaskStatusTypeEntityById(1L)).thenReturn(openStatus);
-        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
-        when(modelMapper.map(testTask, TaskResponseDTO.class)).thenReturn(responseDTO);
+        when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(testTask);
+        when(taskMapper.toResponseDTO(testTask)).thenReturn(responseDTO);
 
         // Act
         TaskResponseDTO result = taskService.updateTask(1L, updateRequestDTO);
@@ -171,8 +261,8 @@ class TaskServiceTest {
         assertEquals(responseDTO.getId(), result.getId());
         
         verify(taskRepository).findById(1L);
-        verify(taskRepository).save(any(Task.class));
-        verify(modelMapper).map(testTask, TaskResponseDTO.class);
+        verify(taskRepository).saveAndFlush(any(Task.class));
+        verify(taskMapper).toResponseDTO(testTask);
     }
 
     @Test
@@ -184,7 +274,91 @@ class TaskServiceTest {
         assertThrows(TaskNotFoundException.class, () -> taskService.updateTask(1L, updateRequestDTO));
         
         verify(taskRepository).findById(1L);
-        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
+    }
+
+    @Test
+    void updateTask_StaleVersion() {
+        // Arrange
+        testTask.setVersion(3L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+
+        // Act & Assert
+        assertThrows(TaskPreconditionFailedException.class, () -> taskService.updateTask(1L, updateRequestDTO, 2L));
+
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
+        assertEquals("Test Task", testTask.getTaskTitle());
+    }
+
+    @Test
+    void getTaskVersion_NotFound() {
+        // Arrange
+        when(taskRepository.findVersionById(1L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(TaskNotFoundException.class, () -> taskService.getTaskVersion(1L));
+    }
+
+    @Test
+    void patchTask_ChangesOnlyPatchedFields() {
+        // Arrange
+        TaskStatusType doneStatus = new TaskStatusType(4L, "DONE");
+        LocalDateTime previousChangeDate = testTask.getLastStatusChangeDate().minusDays(1);
+        testTask.setLastStatusChangeDate(previousChangeDate);
+        ObjectNode patch = JsonNodeFactory.instance.objectNode().put("taskStatusId", 4).putNull("description");
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskStatusTypeService.getTaskStatusTypeEntityById(4L)).thenReturn(doneStatus);
+        when(taskRepository.saveAndFlush(testTask)).thenReturn(testTask);
+        when(taskMapper.toResponseDTO(testTask)).thenReturn(responseDTO);
+
+        // Act
+        taskService.patchTask(1L, patch);
+
+        // Assert
+        assertEquals("Test Task", testTask.getTaskTitle());
+        assertNull(testTask.getDescription());
+        assertEquals(doneStatus, testTask.getTaskStatus());
+        assertTrue(testTask.getLastStatusChangeDate().isAfter(previousChangeDate));
+        verify(taskRepository).saveAndFlush(testTask);
+        verify(taskStatisticsCounters).taskMovedAfterCommit("OPEN", "HIGH", "DONE", "HIGH");
+        verify(taskChangeLog).record(1L);
+        verifyNoInteractions(priorityTypeService);
+    }
+
+    @Test
+    void patchTask_NoOpSkipsWrite() {
+        // Arrange
+        LocalDateTime previousChangeDate = testTask.getLastStatusChangeDate();
+        ObjectNode patch = JsonNodeFactory.instance.objectNode()
+                .put("taskTitle", "Test Task").put("taskStatusId", 1).put("priorityId", 1);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskMapper.toResponseDTO(testTask)).thenReturn(responseDTO);
+
+        // Act
+        TaskResponseDTO result = taskService.patchTask(1L, patch);
+
+        // Assert
+        assertEquals(responseDTO, result);
+        assertEquals(previousChangeDate, testTask.getLastStatusChangeDate());
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
+        verifyNoInteractions(taskSearchIndex, taskStatisticsCounters, taskChangeLog, priorityTypeService, taskStatusTypeService);
+    }
+
+    @Test
+    void patchTask_RejectsInvalidFields() {
+        // Arrange
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> taskService.patchTask(1L,
+                JsonNodeFactory.instance.objectNode().put("createDate", "2024-01-01T00:00:00")));
+        assertThrows(IllegalArgumentException.class, () -> taskService.patchTask(1L,
+                JsonNodeFactory.instance.objectNode().putNull("taskTitle")));
+        assertThrows(IllegalArgumentException.class, () -> taskService.patchTask(1L,
+                JsonNodeFactory.instance.objectNode().put("priorityId", "HIGH")));
+        assertThrows(IllegalArgumentException.class, () -> taskService.patchTask(1L,
+                JsonNodeFactory.instance.arrayNode()));
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
     }
 
     @Test
@@ -193,7 +367,7 @@ class TaskServiceTest {
         TaskStatusType closedStatus = new TaskStatusType("CLOSED");
         when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
         when(taskStatusTypeService.getTaskStatusTypeEntityByType("CLOSED")).thenReturn(closedStatus);
-        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+        when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(testTask);
 
         // Act
         taskService.deleteTask(1L);
@@ -201,10 +375,130 @@ class TaskServiceTest {
         // Assert
         verify(taskRepository).findById(1L);
         verify(taskStatusTypeService).getTaskStatusTypeEntityByType("CLOSED");
-        verify(taskRepository).save(testTask);
+        verify(taskRepository).saveAndFlush(testTask);
+        verify(taskStatisticsCounters).taskMovedAfterCommit("OPEN", "HIGH", "CLOSED", "HIGH");
         assertEquals(closedStatus, testTask.getTaskStatus());
     }
 
+    @Test
+    void updateTaskStatuses_UpdatesInChunks() {
+        // Arrange
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 1500; id++) {
+            ids.add(id);
+        }
+        ids.add(1L);
+        when(taskStatusTypeService.getTaskStatusTypeEntityById(1L)).thenReturn(openStatus);
+        when(taskRepository.updateStatusByIdIn(anyList(), eq(openStatus), any(LocalDateTime.class)))
+                .thenReturn(1000, 400);
+
+        // Act
+        TaskBulkResponseDTO result = taskService.updateTaskStatuses(ids, 1L);
+
+        // Assert
+        assertEquals(1500, result.getRequested());
+        assertEquals(1400, result.getAffected());
+        verify(taskRepository).updateStatusByIdIn(argThat(chunk -> chunk.size() == 1000), eq(openStatus), any(LocalDateTime.class));
+        verify(taskRepository).updateStatusByIdIn(argThat(chunk -> chunk.size() == 500), eq(openStatus), any(LocalDateTime.class));
+        verify(taskRepository, never()).findById(any());
+        verify(taskChangeSequence, times(2)).advanceAfterCommit();
+        verify(taskCountCache, times(2)).invalidateAll();
+    }
+
+    @Test
+    void updateTaskPriorities_AdjustsCounters() {
+        // Arrange
+        when(priorityTypeService.getPriorityTypeEntityById(1L)).thenReturn(highPriority);
+        when(taskStatisticsCounters.isReady()).thenReturn(true);
+        when(taskRepository.countPriorityChangesByCell(anyList(), eq(1L)))
+                .thenReturn(Collections.singletonList(new Object[]{"OPEN", "LOW", 2L}));
+        when(taskRepository.updatePriorityByIdIn(anyList(), eq(highPriority))).thenReturn(2);
+
+        // Act
+        TaskBulkResponseDTO result = taskService.updateTaskPriorities(Arrays.asList(1L, 2L, 3L), 1L);
+
+        // Assert
+        assertEquals(3, result.getRequested());
+        assertEquals(2, result.getAffected());
+        verify(taskStatisticsCounters).tasksMovedAfterCommit("OPEN", "LOW", "OPEN", "HIGH", 2L);
+    }
+
+    @Test
+    void updateTaskPriorities_MissingPriority() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> taskService.updateTaskPriorities(Arrays.asList(1L), null));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void deleteTasks_ClosesTasks() {
+        // Arrange
+        TaskStatusType closedStatus = new TaskStatusType(5L, "CLOSED");
+        when(taskStatusTypeService.getTaskStatusTypeEntityByType("CLOSED")).thenReturn(closedStatus);
+        when(taskRepository.updateStatusByIdIn(anyList(), eq(closedStatus), any(LocalDateTime.class))).thenReturn(2);
+
+        // Act
+        TaskBulkResponseDTO result = taskService.deleteTasks(Arrays.asList(1L, 2L));
+
+        // Assert
+        assertEquals(2, result.getRequested());
+        assertEquals(2, result.getAffected());
+        verify(taskRepository).updateStatusByIdIn(eq(Arrays.asList(1L, 2L)), eq(closedStatus), any(LocalDateTime.class));
+    }
+
+    @Test
+    void updateTasksByFilter_DryRunOnlyCounts() {
+        // Arrange
+        when(taskStatusTypeService.getTaskStatusTypeEntityById(1L)).thenReturn(openStatus);
+        when(taskRepository.countTasksToChange(2L, null, "docs", 1L, null)).thenReturn(42L);
+
+        // Act
+        TaskFilterUpdateResponseDTO result = taskService.updateTasksByFilter(2L, null, "docs", 1L, null, true, 100);
+
+        // Assert
+        assertTrue(result.isDryRun());
+        assertEquals(42L, result.getMatched());
+        assertEquals(0L, result.getAffected());
+        verifyNoInteractions(transactionTemplate);
+        verify(taskRepository, never()).updateStatusByIdIn(any(), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void updateTasksByFilter_UpdatesChunkByChunk() {
+        // Arrange
+        when(priorityTypeService.getPriorityTypeEntityById(1L)).thenReturn(highPriority);
+        when(taskRepository.countTasksToChange(null, null, "security", null, 1L)).thenReturn(3L);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        when(taskRepository.findIdsToChangeAfter(isNull(), isNull(), eq("security"), isNull(), eq(1L), anyLong(), any(Pageable.class)))
+                .thenReturn(Arrays.asList(4L, 7L), Collections.singletonList(9L), Collections.emptyList());
+        when(taskRepository.updatePriorityByIdIn(anyList(), eq(highPriority))).thenReturn(2, 1);
+
+        // Act
+        TaskFilterUpdateResponseDTO result = taskService.updateTasksByFilter(null, null, "security", null, 1L, false, 2);
+
+        // Assert
+        assertFalse(result.isDryRun());
+        assertEquals(3L, result.getMatched());
+        assertEquals(3L, result.getAffected());
+        assertEquals(2, result.getChunks());
+        verify(taskRepository).findIdsToChangeAfter(isNull(), isNull(), eq("security"), isNull(), eq(1L), eq(0L), eq(PageRequest.of(0, 2)));
+        verify(taskRepository).findIdsToChangeAfter(isNull(), isNull(), eq("security"), isNull(), eq(1L), eq(7L), eq(PageRequest.of(0, 2)));
+        verify(taskRepository).findIdsToChangeAfter(isNull(), isNull(), eq("security"), isNull(), eq(1L), eq(9L), eq(PageRequest.of(0, 2)));
+        verify(transactionTemplate, times(3)).execute(any());
+    }
+
+    @Test
+    void updateTasksByFilter_RequiresExactlyOneTarget() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.updateTasksByFilter(null, null, null, 1L, 1L, true, 100));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.updateTasksByFilter(null, null, null, null, null, true, 100));
+        verifyNoInteractions(taskRepository);
+    }
+
     @Test
     void deleteTask_NotFound() {
         // Arrange
@@ -214,16 +508,15 @@ class TaskServiceTest {
         assertThrows(TaskNotFoundException.class, () -> taskService.deleteTask(1L));
         
         verify(taskRepository).findById(1L);
-        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
     }
 
     @Test
     void getTasksByStatus_Success() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createDate"));
-        Page<Task> taskPage = new PageImpl<>(Arrays.asList(testTask));
-        when(taskRepository.findByTaskStatusId(eq(1L), any(Pageable.class))).thenReturn(taskPage);
-        when(modelMapper.map(testTask, TaskResponseDTO.class)).thenReturn(responseDTO);
+        Page<TaskResponseDTO> taskPage = new PageImpl<>(Arrays.asList(responseDTO));
+        when(taskRepository.findProjectedTasksWithFilters(eq(1L), isNull(), isNull(), any(Pageable.class))).thenReturn(taskPage);
 
         // Act
         Page<TaskResponseDTO> result = taskService.getTasksByStatus(1L, 0, 10, "createDate", "DESC");
@@ -232,17 +525,16 @@ class TaskServiceTest {
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
         
-        verify(taskRepository).findByTaskStatusId(eq(1L), any(Pageable.class));
-        verify(modelMapper).map(testTask, TaskResponseDTO.class);
+        verify(taskRepository).findProjectedTasksWithFilters(eq(1L), isNull(), isNull(), any(Pageable.class));
+        verifyNoInteractions(taskMapper);
     }
 
     @Test
     void getTasksByPriority_Success() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createDate"));
-        Page<Task> taskPage = new PageImpl<>(Arrays.asList(testTask));
-        when(taskRepository.findByPriorityId(eq(1L), any(Pageable.class))).thenReturn(taskPage);
-        when(modelMapper.map(testTask, TaskResponseDTO.class)).thenReturn(responseDTO);
+        Page<TaskResponseDTO> taskPage = new PageImpl<>(Arrays.asList(responseDTO));
+        when(taskRepository.findProjectedTasksWithFilters(isNull(), eq(1L), isNull(), any(Pageable.class))).thenReturn(taskPage);
 
         // Act
         Page<TaskResponseDTO> result = taskService.getTasksByPriority(1L, 0, 10, "createDate", "DESC");
@@ -251,8 +543,8 @@ class TaskServiceTest {
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
         
-        verify(taskRepository).findByPriorityId(eq(1L), any(Pageable.class));
-        verify(modelMapper).map(testTask, TaskResponseDTO.class);
+        verify(taskRepository).findProjectedTasksWithFilters(isNull(), eq(1L), isNull(), any(Pageable.class));
+        verifyNoInteractions(taskMapper);
     }
 
     @Test
@@ -260,9 +552,8 @@ class TaskServiceTest {
         // Arrange
         String searchTerm = "test";
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createDate"));
-        Page<Task> taskPage = new PageImpl<>(Arrays.asList(testTask));
-        when(taskRepository.searchByTitleOrDescription(eq(searchTerm), any(Pageable.class))).thenReturn(taskPage);
-        when(modelMapper.map(testTask, TaskResponseDTO.class)).thenReturn(responseDTO);
+        Page<TaskResponseDTO> taskPage = new PageImpl<>(Arrays.asList(responseDTO));
+        when(taskRepository.findProjectedTasksWithFilters(isNull(), isNull(), eq(searchTerm), any(Pageable.class))).thenReturn(taskPage);
 
         // Act
         Page<TaskResponseDTO> result = taskService.searchTasks(searchTerm, 0, 10, "createDate", "DESC");
@@ -271,17 +562,16 @@ class TaskServiceTest {
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
         
-        verify(taskRepository).searchByTitleOrDescription(eq(searchTerm), any(Pageable.class));
-        verify(modelMapper).map(testTask, TaskResponseDTO.class);
+        verify(taskRepository).findProjectedTasksWithFilters(isNull(), isNull(), eq(searchTerm), any(Pageable.class));
+        verifyNoInteractions(taskMapper);
     }
 
     @Test
     void getTasksWithFilters_Success() {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createDate"));
-        Page<Task> taskPage = new PageImpl<>(Arrays.asList(testTask));
-        when(taskRepository.findTasksWithFilters(eq(1L), eq(1L), eq("test"), any(Pageable.class))).thenReturn(taskPage);
-        when(modelMapper.map(testTask, TaskResponseDTO.class)).thenReturn(responseDTO);
+        Page<TaskResponseDTO> taskPage = new PageImpl<>(Arrays.asList(responseDTO));
+        when(taskRepository.findProjectedTasksWithFilters(eq(1L), eq(1L), eq("test"), any(Pageable.class))).thenReturn(taskPage);
 
         // Act
         Page<TaskResponseDTO> result = taskService.getTasksWithFilters(1L, 1L, "test", 0, 10, "createDate", "DESC");
@@ -290,25 +580,20 @@ class TaskServiceTest {
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
         
-        verify(taskRepository).findTasksWithFilters(eq(1L), eq(1L), eq("test"), any(Pageable.class));
-        verify(modelMapper).map(testTask, TaskResponseDTO.class);
+        verify(taskRepository).findProjectedTasksWithFilters(eq(1L), eq(1L), eq("test"), any(Pageable.class));
+        verifyNoInteractions(taskMapper);
     }
 
     @Test
     void getTaskStatistics_Success() {
         // Arrange
-        when(taskRepository.count()).thenReturn(10L);
-        when(taskRepository.countCompletedTasks()).thenReturn(5L);
-        when(taskRepository.countActiveTasks()).thenReturn(5L);
-        when(taskRepository.countTasksByStatus()).thenReturn(Arrays.asList(
-            new Object[]{"OPEN", 3L},
-            new Object[]{"IN_PROGRESS", 2L},
-            new Object[]{"DONE", 5L}
-        ));
-        when(taskRepository.countTasksByPriority()).thenReturn(Arrays.asList(
-            new Object[]{"HIGH", 4L},
-            new Object[]{"MEDIUM", 3L},
-            new Object[]{"LOW", 3L}
+        when(taskRepository.countTasksByStatusAndPriority()).thenReturn(Arrays.asList(
+            new Object[]{"OPEN", "HIGH", 2L},
+            new Object[]{"OPEN", "LOW", 1L},
+            new Object[]{"IN_PROGRESS", "MEDIUM", 2L},
+            new Object[]{"DONE", "HIGH", 2L},
+            new Object[]{"DONE", "MEDIUM", 1L},
+            new Object[]{"CLOSED", "LOW", 2L}
         ));
 
         // Act
@@ -319,13 +604,244 @@ class TaskServiceTest {
         assertEquals(10L, result.getTotalTasks());
         assertEquals(5L, result.getCompletedTasks());
         assertEquals(5L, result.getActiveTasks());
-        assertNotNull(result.getTasksByStatus());
-        assertNotNull(result.getTasksByPriority());
-        
-        verify(taskRepository).count();
-        verify(taskRepository).countCompletedTasks();
-        verify(taskRepository).countActiveTasks();
-        verify(taskRepository).countTasksByStatus();
-        verify(taskRepository).countTasksByPriority();
+        assertEquals(3L, result.getTasksByStatus().get("OPEN"));
+        assertEquals(3L, result.getTasksByStatus().get("DONE"));
+        assertEquals(4L, result.getTasksByPriority().get("HIGH"));
+        assertEquals(3L, result.getTasksByPriority().get("LOW"));
+        assertEquals(2L, result.getTasksByStatusAndPriority().get("DONE").get("HIGH"));
+        assertEquals(2L, result.getTasksByStatusAndPriority().get("CLOSED").get("LOW"));
+
+        verify(taskRepository).countTasksByStatusAndPriority();
+        verifyNoMoreInteractions(taskRepository);
+    }
+
+    @Test
+    void getTaskStatistics_FromCounters() {
+        // Arrange
+        when(taskStatisticsCounters.isReady()).thenReturn(true);
+        when(taskStatisticsCounters.snapshot()).thenReturn(Arrays.asList(
+            new Object[]{"OPEN", "HIGH", 4L},
+            new Object[]{"DONE", "LOW", 1L}
+        ));
+
+        // Act
+        TaskStatisticsResponseDTO result = taskService.getTaskStatistics();
+
+        // Assert
+        assertEquals(5L, result.getTotalTasks());
+        assertEquals(1L, result.getCompletedTasks());
+        assertEquals(4L, result.getActiveTasks());
+        assertEquals(4L, result.getTasksByStatusAndPriority().get("OPEN").get("HIGH"));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getTasksByCursor_FirstPageWithNext() {
+        // Arrange
+        responseDTO.setCreateDate(LocalDateTime.now());
+        TaskResponseDTO olderTask = new TaskResponseDTO();
+        olderTask.setId(2L);
+        olderTask.setCreateDate(LocalDateTime.now().minusDays(1));
+        when(taskRepository.seekTasksDesc(isNull(), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(Arrays.asList(responseDTO, olderTask));
+
+        // Act
+        TaskCursorPageResponseDTO result = taskService.getTasksByCursor(null, null, null, null, 1, "DESC");
+
+        // Assert
+        assertEquals(1, result.getContent().size());
+        assertTrue(result.isHasNext());
+        assertEquals(TaskCursor.of(responseDTO.getCreateDate(), 1L).encode(), result.getNextCursor());
+        verify(taskRepository).seekTasksDesc(isNull(), isNull(), isNull(), eq(PageRequest.of(0, 2)));
+    }
+
+    @Test
+    void getTasksByCursor_SeeksAfterCursor() {
+        // Arrange
+        LocalDateTime createDate = LocalDateTime.of(2025, 1, 1, 10, 0);
+        String cursor = TaskCursor.of(createDate, 5L).encode();
+        when(taskRepository.seekTasksAscAfter(eq(1L), isNull(), isNull(), eq(createDate), eq(5L), any(Pageable.class)))
+                .thenReturn(Collections.singletonList(responseDTO));
+
+        // Act
+        TaskCursorPageResponseDTO result = taskService.getTasksByCursor(1L, null, null, cursor, 10, "ASC");
+
+        // Assert
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void getTasksByCursor_InvalidCursor() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.getTasksByCursor(null, null, null, "not-a-cursor", 10, "DESC"));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getTaskSlice_WithoutTotal() {
+        // Arrange
+        Slice<TaskResponseDTO> taskSlice = new SliceImpl<>(Arrays.asList(responseDTO), PageRequest.of(0, 10), true);
+        when(taskRepository.findTaskSliceWithFilters(isNull(), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(taskSlice);
+
+        // Act
+        TaskSliceResponseDTO result = taskService.getTaskSlice(null, null, null, 0, 10, "createDate", "DESC", false);
+
+        // Assert
+        assertEquals(1, result.getContent().size());
+        assertTrue(result.isHasNext());
+        assertNull(result.getApproximateTotalElements());
+        verifyNoInteractions(taskCountCache);
+        verify(taskRepository, never()).countTasksWithFilters(any(), any(), any());
+    }
+
+    @Test
+    void getTaskSlice_WithApproximateTotal() {
+        // Arrange
+        Slice<TaskResponseDTO> taskSlice = new SliceImpl<>(Arrays.asList(responseDTO), PageRequest.of(0, 10), false);
+        when(taskRepository.findTaskSliceWithFilters(eq(1L), isNull(), eq("test"), any(Pageable.class)))
+                .thenReturn(taskSlice);
+        when(taskCountCache.getOrCompute(eq(1L), isNull(), eq("test"), any())).thenReturn(42L);
+
+        // Act
+        TaskSliceResponseDTO result = taskService.getTaskSlice(1L, null, "test", 0, 10, "createDate", "DESC", true);
+
+        // Assert
+        assertFalse(result.isHasNext());
+        assertEquals(42L, result.getApproximateTotalElements());
+    }
+
+    @Test
+    void fullTextSearchTasks_KeepsRelevanceOrder() {
+        // Arrange
+        TaskResponseDTO secondDTO = new TaskResponseDTO();
+        secondDTO.setId(2L);
+        when(fullTextSearchSupport.isAvailable()).thenReturn(true);
+        when(taskRepository.fullTextSearchBooleanIds(eq("+test"), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(Arrays.asList(2L, 1L), PageRequest.of(0, 10), 2));
+        when(taskRepository.findProjectedByIdIn(Arrays.asList(2L, 1L)))
+                .thenReturn(Arrays.asList(responseDTO, secondDTO));
+
+        // Act
+        Page<TaskResponseDTO> result = taskService.fullTextSearchTasks("+test", TaskSearchMode.BOOLEAN, 0, 10);
+
+        // Assert
+        assertEquals(2, result.getTotalElements());
+        assertEquals(2L, result.getContent().get(0).getId());
+        assertEquals(1L, result.getContent().get(1).getId());
+        verify(taskRepository, never()).fullTextSearchNaturalIds(any(), any());
+    }
+
+    @Test
+    void fullTextSearchTasks_FallsBackToLikeWhenUnavailable() {
+        // Arrange
+        when(fullTextSearchSupport.isAvailable()).thenReturn(false);
+        when(taskRepository.findProjectedTasksWithFilters(isNull(), isNull(), eq("test"), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(Arrays.asList(responseDTO)));
+
+        // Act
+        Page<TaskResponseDTO> result = taskService.fullTextSearchTasks("test", TaskSearchMode.NATURAL, 0, 10);
+
+        // Assert
+        assertEquals(1, result.getContent().size());
+        verify(taskRepository, never()).fullTextSearchNaturalIds(any(), any());
+    }
+
+    @Test
+    void fullTextSearchTasks_IndexMode() {
+        // Arrange
+        when(taskSearchIndex.isReady()).thenReturn(true);
+        when(taskSearchIndex.search("test", 0, 10)).thenReturn(new InvertedIndex.SearchHits(new long[]{1L}, 1));
+        when(taskRepository.findProjectedByIdIn(Collections.singletonList(1L)))
+                .thenReturn(Collections.singletonList(responseDTO));
+
+        // Act
+        Page<TaskResponseDTO> result = taskService.fullTextSearchTasks("test", TaskSearchMode.INDEX, 0, 10);
+
+        // Assert
+        assertEquals(1, result.getTotalElements());
+        assertEquals(responseDTO.getId(), result.getContent().get(0).getId());
+        verify(taskRepository, never()).findProjectedTasksWithFilters(any(), any(), any(), any());
+    }
+
+    @Test
+    void createTask_IndexesAfterCommit() {
+        // Arrange
+        when(priorityTypeService.getPriorityTypeEntityById(1L)).thenReturn(highPriority);
+        when(taskStatusTypeService.getTaskStatusTypeEntityById(1L)).thenReturn(openStatus);
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+
+        // Act
+        taskService.createTask(createRequestDTO);
+
+        // Assert
+        verify(taskSearchIndex).indexAfterCommit(1L, "Test Task", "Test Description");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deleteTask_PublishesClosedEvent() {
+        // Arrange
+        TaskStatusType closedStatus = new TaskStatusType(5L, "CLOSED");
+        TaskResponseDTO closedDTO = new TaskResponseDTO();
+        closedDTO.setId(1L);
+        closedDTO.setTaskStatus(new TaskStatusTypeResponseDTO(5L, "CLOSED"));
+        closedDTO.setPriority(new PriorityTypeResponseDTO(1L, "HIGH"));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskStatusTypeService.getTaskStatusTypeEntityByType("CLOSED")).thenReturn(closedStatus);
+        when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(testTask);
+        when(taskMapper.toResponseDTO(testTask)).thenReturn(closedDTO);
+
+        // Act
+        taskService.deleteTask(1L);
+
+        // Assert
+        ArgumentCaptor<Supplier<TaskEventDTO>> event = ArgumentCaptor.forClass(Supplier.class);
+        verify(taskEventBroadcaster).publishAfterCommit(event.capture());
+        assertEquals(TaskEventType.CLOSED, event.getValue().get().getType());
+        assertEquals(closedDTO, event.getValue().get().getTask());
+        assertEquals(List.of(new TaskStatisticsDeltaDTO("OPEN", "HIGH", -1), new TaskStatisticsDeltaDTO("CLOSED", "HIGH", 1)),
+                event.getValue().get().getStatisticsDelta());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void updateTaskPriorities_PublishesBulkEventForSubscribers() {
+        // Arrange: counters are off, but a stream subscriber still needs the per-cell counts
+        when(priorityTypeService.getPriorityTypeEntityById(1L)).thenReturn(highPriority);
+        when(taskEventBroadcaster.hasSubscribers()).thenReturn(true);
+        when(taskRepository.countPriorityChangesByCell(anyList(), eq(1L)))
+                .thenReturn(Collections.singletonList(new Object[]{"OPEN", "LOW", 2L}));
+        when(taskRepository.updatePriorityByIdIn(anyList(), eq(highPriority))).thenReturn(2);
+
+        // Act
+        taskService.updateTaskPriorities(Arrays.asList(1L, 2L), 1L);
+
+        // Assert
+        ArgumentCaptor<Supplier<TaskEventDTO>> event = ArgumentCaptor.forClass(Supplier.class);
+        verify(taskEventBroadcaster).publishAfterCommit(event.capture());
+        assertEquals(TaskEventType.BULK, event.getValue().get().getType());
+        assertEquals(2, event.getValue().get().getAffected());
+        assertEquals(List.of(new TaskStatisticsDeltaDTO("OPEN", "LOW", -2), new TaskStatisticsDeltaDTO("OPEN", "HIGH", 2)),
+                event.getValue().get().getStatisticsDelta());
+        verify(taskChangeLog).record(List.of(1L, 2L));
+    }
+
+    @Test
+    void updateTaskStatuses_NothingChangedRecordsNoTaskChanges() {
+        // Arrange
+        when(taskStatusTypeService.getTaskStatusTypeEntityById(1L)).thenReturn(openStatus);
+        when(taskRepository.updateStatusByIdIn(anyList(), eq(openStatus), any(LocalDateTime.class))).thenReturn(0);
+
+        // Act
+        TaskBulkResponseDTO result = taskService.updateTaskStatuses(Arrays.asList(1L, 2L), 1L);
+
+        // Assert
+        assertEquals(0, result.getAffected());
+        verifyNoInteractions(taskChangeLog);
+        verify(taskCountCache, never()).invalidateAll();
     }
 }
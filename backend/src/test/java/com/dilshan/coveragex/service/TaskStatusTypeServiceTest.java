@@ -1,9 +1,10 @@
 package com.dilshan.coveragex.service;
 
+import com.dilshan.coveragex.cache.ReferenceDataRegistry;
 import com.dilshan.coveragex.dto.TaskStatusTypeResponseDTO;
 import com.dilshan.coveragex.entity.TaskStatusType;
 import com.dilshan.coveragex.exception.TaskStatusTypeNotFoundException;
-import com.dilshan.coveragex.repository.TaskStatusTypeRepository;
+import com.dilshan.coveragex.mapper.TaskStatusTypeMapper;
 import com.dilshan.coveragex.service.impl.TaskStatusTypeServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,7 +12,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 
 import java.util.Arrays;
 import java.util.List;
@@ -24,10 +24,10 @@ import static org.mockito.Mockito.*;
 class TaskStatusTypeServiceTest {
 
     @Mock
-    private TaskStatusTypeRepository taskStatusTypeRepository;
+    private ReferenceDataRegistry referenceDataRegistry;
 
     @Mock
-    private ModelMapper modelMapper;
+    private TaskStatusTypeMapper taskStatusTypeMapper;
 
     @InjectMocks
     private TaskStatusTypeServiceImpl taskStatusTypeService;
@@ -48,8 +48,8 @@ class TaskStatusTypeServiceTest {
     void getAllTaskStatusTypes_Success() {
         // Arrange
         List<TaskStatusType> taskStatusTypes = Arrays.asList(testTaskStatusType);
-        when(taskStatusTypeRepository.findAll()).thenReturn(taskStatusTypes);
-        when(modelMapper.map(testTaskStatusType, TaskStatusTypeResponseDTO.class)).thenReturn(responseDTO);
+        when(referenceDataRegistry.getTaskStatusTypes()).thenReturn(taskStatusTypes);
+        when(taskStatusTypeMapper.toResponseDTO(testTaskStatusType)).thenReturn(responseDTO);
 
         // Act
         List<TaskStatusTypeResponseDTO> result = taskStatusTypeService.getAllTaskStatusTypes();
@@ -60,14 +60,14 @@ class TaskStatusTypeServiceTest {
         assertEquals(responseDTO.getId(), result.get(0).getId());
         assertEquals(responseDTO.getType(), result.get(0).getType());
         
-        verify(taskStatusTypeRepository).findAll();
-        verify(modelMapper).map(testTaskStatusType, TaskStatusTypeResponseDTO.class);
+        verify(referenceDataRegistry).getTaskStatusTypes();
+        verify(taskStatusTypeMapper).toResponseDTO(testTaskStatusType);
     }
 
     @Test
     void getAllTaskStatusTypes_EmptyList() {
         // Arrange
-        when(taskStatusTypeRepository.findAll()).thenReturn(Arrays.asList());
+        when(referenceDataRegistry.getTaskStatusTypes()).thenReturn(Arrays.asList());
 
         // Act
         List<TaskStatusTypeResponseDTO> result = taskStatusTypeService.getAllTaskStatusTypes();
@@ -76,15 +76,15 @@ class TaskStatusTypeServiceTest {
         assertNotNull(result);
         assertTrue(result.isEmpty());
         
-        verify(taskStatusTypeRepository).findAll();
-        verifyNoInteractions(modelMapper);
+        verify(referenceDataRegistry).getTaskStatusTypes();
+        verifyNoInteractions(taskStatusTypeMapper);
     }
 
     @Test
     void getTaskStatusTypeById_Success() {
         // Arrange
-        when(taskStatusTypeRepository.findById(1L)).thenReturn(Optional.of(testTaskStatusType));
-        when(modelMapper.map(testTaskStatusType, TaskStatusTypeResponseDTO.class)).thenReturn(responseDTO);
+        when(referenceDataRegistry.findTaskStatusTypeById(1L)).thenReturn(Optional.of(testTaskStatusType));
+        when(taskStatusTypeMapper.toResponseDTO(testTaskStatusType)).thenReturn(responseDTO);
 
         // Act
         TaskStatusTypeResponseDTO result = taskStatusTypeService.getTaskStatusTypeById(1L);
@@ -94,27 +94,27 @@ class TaskStatusTypeServiceTest {
         assertEquals(responseDTO.getId(), result.getId());
         assertEquals(responseDTO.getType(), result.getType());
         
-        verify(taskStatusTypeRepository).findById(1L);
-        verify(modelMapper).map(testTaskStatusType, TaskStatusTypeResponseDTO.class);
+        verify(referenceDataRegistry).findTaskStatusTypeById(1L);
+        verify(taskStatusTypeMapper).toResponseDTO(testTaskStatusType);
     }
 
     @Test
     void getTaskStatusTypeById_NotFound() {
         // Arrange
-        when(taskStatusTypeRepository.findById(1L)).thenReturn(Optional.empty());
+        when(referenceDataRegistry.findTaskStatusTypeById(1L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(TaskStatusTypeNotFoundException.class, 
                     () -> taskStatusTypeService.getTaskStatusTypeById(1L));
         
-        verify(taskStatusTypeRepository).findById(1L);
-        verifyNoInteractions(modelMapper);
+        verify(referenceDataRegistry).findTaskStatusTypeById(1L);
+        verifyNoInteractions(taskStatusTypeMapper);
     }
 
     @Test
     void getTaskStatusTypeEntityById_Success() {
         // Arrange
-        when(taskStatusTypeRepository.findById(1L)).thenReturn(Optional.of(testTaskStatusType));
+        when(referenceDataRegistry.findTaskStatusTypeById(1L)).thenReturn(Optional.of(testTaskStatusType));
 
         // Act
         TaskStatusType result = taskStatusTypeService.getTaskStatusTypeEntityById(1L);
@@ -124,26 +124,26 @@ class TaskStatusTypeServiceTest {
         assertEquals(testTaskStatusType.getId(), result.getId());
         assertEquals(testTaskStatusType.getType(), result.getType());
         
-        verify(taskStatusTypeRepository).findById(1L);
+        verify(referenceDataRegistry).findTaskStatusTypeById(1L);
     }
 
     @Test
     void getTaskStatusTypeEntityById_NotFound() {
         // Arrange
-        when(taskStatusTypeRepository.findById(1L)).thenReturn(Optional.empty());
+        when(referenceDataRegistry.findTaskStatusTypeById(1L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(TaskStatusTypeNotFoundException.class, 
                     () -> taskStatusTypeService.getTaskStatusTypeEntityById(1L));
         
-        verify(taskStatusTypeRepository).findById(1L);
+        verify(referenceDataRegistry).findTaskStatusTypeById(1L);
     }
 
     @Test
     void getTaskStatusTypeByType_Success() {
         // Arrange
-        when(taskStatusTypeRepository.findByType("OPEN")).thenReturn(Optional.of(testTaskStatusType));
-        when(modelMapper.map(testTaskStatusType, TaskStatusTypeResponseDTO.class)).thenReturn(responseDTO);
+        when(referenceDataRegistry.findTaskStatusTypeByType("OPEN")).thenReturn(Optional.of(testTaskStatusType));
+        when(taskStatusTypeMapper.toResponseDTO(testTaskStatusType)).thenReturn(responseDTO);
 
         // Act
         TaskStatusTypeResponseDTO result = taskStatusTypeService.getTaskStatusTypeByType("OPEN");
@@ -153,14 +153,14 @@ class TaskStatusTypeServiceTest {
         assertEquals(responseDTO.getId(), result.getId());
         assertEquals(responseDTO.getType(), result.getType());
         
-        verify(taskStatusTypeRepository).findByType("OPEN");
-        verify(modelMapper).map(testTaskStatusType, TaskStatusTypeResponseDTO.class);
+        verify(referenceDataRegistry).findTaskStatusTypeByType("OPEN");
+        verify(taskStatusTypeMapper).toResponseDTO(testTaskStatusType);
     }
 
     @Test
     void getTaskStatusTypeEntityByType_Success() {
         // Arrange
-        when(taskStatusTypeRepository.findByType("OPEN")).thenReturn(Optional.of(testTaskStatusType));
+        when(referenceDataRegistry.findTaskStatusTypeByType("OPEN")).thenReturn(Optional.of(testTaskStatusType));
 
         // Act
         TaskStatusType result = taskStatusTypeService.getTaskStatusTypeEntityByType("OPEN");
@@ -170,33 +170,33 @@ class TaskStatusTypeServiceTest {
         assertEquals(testTaskStatusType.getId(), result.getId());
         assertEquals(testTaskStatusType.getType(), result.getType());
         
-        verify(taskStatusTypeRepository).findByType("OPEN");
+        verify(referenceDataRegistry).findTaskStatusTypeByType("OPEN");
     }
 
     @Test
     void existsById_Success() {
         // Arrange
-        when(taskStatusTypeRepository.existsById(1L)).thenReturn(true);
+        when(referenceDataRegistry.existsTaskStatusTypeById(1L)).thenReturn(true);
 
         // Act
         boolean result = taskStatusTypeService.existsById(1L);
 
         // Assert
         assertTrue(result);
-        verify(taskStatusTypeRepository).existsById(1L);
+        verify(referenceDataRegistry).existsTaskStatusTypeById(1L);
     }
 
     @Test
     void existsById_NotExists() {
         // Arrange
-        when(taskStatusTypeRepository.existsById(1L)).thenReturn(false);
+        when(referenceDataRegistry.existsTaskStatusTypeById(1L)).thenReturn(false);
 
         // Act
         boolean result = taskStatusTypeService.existsById(1L);
 
         // Assert
         assertFalse(result);
-        verify(taskStatusTypeRepository).existsById(1L);
+        verify(referenceDataRegistry).existsTaskStatusTypeById(1L);
     }
 
     @Test
@@ -225,11 +225,11 @@ class TaskStatusTypeServiceTest {
         closedDTO.setId(4L);
         closedDTO.setType("CLOSED");
         
-        when(taskStatusTypeRepository.findAll()).thenReturn(statusTypes);
-        when(modelMapper.map(openStatus, TaskStatusTypeResponseDTO.class)).thenReturn(openDTO);
-        when(modelMapper.map(inProgressStatus, TaskStatusTypeResponseDTO.class)).thenReturn(inProgressDTO);
-        when(modelMapper.map(doneStatus, TaskStatusTypeResponseDTO.class)).thenReturn(doneDTO);
-        when(modelMapper.map(closedStatus, TaskStatusTypeResponseDTO.class)).thenReturn(closedDTO);
+        when(referenceDataRegistry.getTaskStatusTypes()).thenReturn(statusTypes);
+        when(taskStatusTypeMapper.toResponseDTO(openStatus)).thenReturn(openDTO);
+        when(taskStatusTypeMapper.toResponseDTO(inProgressStatus)).thenReturn(inProgressDTO);
+        when(taskStatusTypeMapper.toResponseDTO(doneStatus)).thenReturn(doneDTO);
+        when(taskStatusTypeMapper.toResponseDTO(closedStatus)).thenReturn(closedDTO);
 
         // Act
         List<TaskStatusTypeResponseDTO> result = taskStatusTypeService.getAllTaskStatusTypes();
@@ -242,32 +242,32 @@ class TaskStatusTypeServiceTest {
         assertEquals("DONE", result.get(2).getType());
         assertEquals("CLOSED", result.get(3).getType());
         
-        verify(taskStatusTypeRepository).findAll();
-        verify(modelMapper, times(4)).map(any(TaskStatusType.class), eq(TaskStatusTypeResponseDTO.class));
+        verify(referenceDataRegistry).getTaskStatusTypes();
+        verify(taskStatusTypeMapper, times(4)).toResponseDTO(any(TaskStatusType.class));
     }
 
     @Test
     void getTaskStatusTypeByType_NotFound() {
         // Arrange
-        when(taskStatusTypeRepository.findByType("INVALID")).thenReturn(Optional.empty());
+        when(referenceDataRegistry.findTaskStatusTypeByType("INVALID")).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(TaskStatusTypeNotFoundException.class, 
                     () -> taskStatusTypeService.getTaskStatusTypeByType("INVALID"));
         
-        verify(taskStatusTypeRepository).findByType("INVALID");
-        verifyNoInteractions(modelMapper);
+        verify(referenceDataRegistry).findTaskStatusTypeByType("INVALID");
+        verifyNoInteractions(taskStatusTypeMapper);
     }
 
     @Test
     void getTaskStatusTypeEntityByType_NotFound() {
         // Arrange
-        when(taskStatusTypeRepository.findByType("INVALID")).thenReturn(Optional.empty());
+        when(referenceDataRegistry.findTaskStatusTypeByType("INVALID")).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(TaskStatusTypeNotFoundException.class, 
                     () -> taskStatusTypeService.getTaskStatusTypeEntityByType("INVALID"));
         
-        verify(taskStatusTypeRepository).findByType("INVALID");
+        verify(referenceDataRegistry).findTaskStatusTypeByType("INVALID");
     }
 }
@@ -0,0 +1,250 @@
+package com.dilshan.coveragex.stream;
+
+import com.dilshan.coveragex.dto.PriorityTypeResponseDTO;
+import com.dilshan.coveragex.dto.TaskEventDTO;
+import com.dilshan.coveragex.dto.TaskEventType;
+import com.dilshan.coveragex.dto.TaskResponseDTO;
+import com.dilshan.coveragex.dto.TaskStatisticsDeltaDTO;
+import com.dilshan.coveragex.dto.TaskStatusTypeResponseDTO;
+import com.dilshan.coveragex.exception.TaskStreamUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskEventBroadcasterTest {
+
+    // Drains run only when the test says so, standing in for a sender pool that is busy or slow
+    private final Deque<Runnable> pendingDrains = new ArrayDeque<>();
+    private TaskEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        // Writes run inline on the draining thread
+        broadcaster = new TaskEventBroadcaster(2, 2, Duration.ofMinutes(1), Duration.ofSeconds(10),
+                pendingDrains::add, Runnable::run);
+    }
+
+    @Test
+    void subscribe_SendsResyncThenEventsInCommitOrder() {
+        // Arrange
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter);
+        runDrains();
+
+        // Act
+        broadcaster.publish(TaskEventDTO.bulk(3, List.of()));
+        runDrains();
+        broadcaster.publish(TaskEventDTO.bulk(1, List.of()));
+        runDrains();
+
+        // Assert
+        assertEquals(List.of(TaskEventType.RESYNC, TaskEventType.BULK, TaskEventType.BULK), emitter.types());
+        assertEquals(3, emitter.events.get(1).getAffected());
+        assertEquals(1, emitter.events.get(2).getAffected());
+    }
+
+    @Test
+    void publish_FullQueueIsCoalescedIntoOneResync() {
+        // Arrange
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter);
+        runDrains();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            broadcaster.publish(TaskEventDTO.bulk(i, List.of()));
+        }
+        runDrains();
+        broadcaster.publish(TaskEventDTO.bulk(7, List.of()));
+        runDrains();
+
+        // Assert
+        assertEquals(List.of(TaskEventType.RESYNC, TaskEventType.RESYNC, TaskEventType.BULK), emitter.types());
+        assertEquals(7, emitter.events.get(2).getAffected());
+        assertEquals(1, broadcaster.getSubscriberCount());
+    }
+
+    @Test
+    void publish_SubscriberOverflowingAgainBeforeResyncIsDropped() {
+        // Arrange
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter);
+        runDrains();
+
+        // Act: the subscriber's drain does not get to run, as if its connection had stalled
+        for (int i = 0; i < 6; i++) {
+            broadcaster.publish(TaskEventDTO.bulk(i, List.of()));
+        }
+        boolean completedByPublisher = emitter.completed;
+        runDrains();
+
+        // Assert
+        assertFalse(completedByPublisher);
+        assertTrue(emitter.completed);
+        assertFalse(broadcaster.hasSubscribers());
+        assertEquals(List.of(TaskEventType.RESYNC), emitter.types());
+    }
+
+    @Test
+    void send_StalledWriteDropsSubscriberAfterTimeout() throws Exception {
+        // Arrange
+        ExecutorService writers = Executors.newCachedThreadPool();
+        TaskEventBroadcaster timingOut = new TaskEventBroadcaster(2, 2, Duration.ofMinutes(1),
+                Duration.ofMillis(50), pendingDrains::add, writers);
+        RecordingEmitter emitter = new RecordingEmitter();
+        timingOut.subscribe(emitter);
+        runDrains();
+        emitter.stalled = new CountDownLatch(1);
+
+        try {
+            // Act
+            timingOut.publish(TaskEventDTO.bulk(1, List.of()));
+            long start = System.nanoTime();
+            runDrains();
+            long drainMillis = (System.nanoTime() - start) / 1_000_000;
+
+            // Assert: the sender gave up on the write, the emitter is completed once the write returns
+            assertTrue(drainMillis < 5_000);
+            assertFalse(timingOut.hasSubscribers());
+            emitter.stalled.countDown();
+            writers.shutdown();
+            assertTrue(writers.awaitTermination(5, TimeUnit.SECONDS));
+            assertTrue(emitter.completed);
+        } finally {
+            writers.shutdownNow();
+        }
+    }
+
+    @Test
+    void send_FailedWriteRemovesSubscriber() {
+        // Arrange
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.failing = true;
+        broadcaster.subscribe(emitter);
+
+        // Act
+        runDrains();
+        broadcaster.publish(TaskEventDTO.bulk(1, List.of()));
+
+        // Assert
+        assertFalse(broadcaster.hasSubscribers());
+        assertTrue(pendingDrains.isEmpty());
+    }
+
+    @Test
+    void publishAfterCommit_WithoutSubscribersBuildsNoEvent() {
+        // Act
+        broadcaster.publishAfterCommit(() -> {
+            throw new AssertionError("Event built without subscribers");
+        });
+
+        // Assert
+        assertTrue(pendingDrains.isEmpty());
+    }
+
+    @Test
+    void subscribe_BeyondLimitIsRejected() {
+        // Arrange
+        broadcaster.subscribe(new RecordingEmitter());
+        broadcaster.subscribe(new RecordingEmitter());
+
+        // Act & Assert
+        assertThrows(TaskStreamUnavailableException.class, () -> broadcaster.subscribe(new RecordingEmitter()));
+    }
+
+    @Test
+    void heartbeat_SendsCommentOnlyWhenIdle() {
+        // Arrange
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter);
+        runDrains();
+
+        // Act
+        broadcaster.heartbeat();
+        runDrains();
+
+        // Assert
+        assertEquals(1, emitter.events.size());
+        assertEquals(1, emitter.heartbeats);
+    }
+
+    @Test
+    void changed_ReportsClosedAndMovesStatisticsCell() {
+        // Arrange
+        TaskResponseDTO task = new TaskResponseDTO();
+        task.setTaskStatus(new TaskStatusTypeResponseDTO(5L, "CLOSED"));
+        task.setPriority(new PriorityTypeResponseDTO(1L, "HIGH"));
+
+        // Act
+        TaskEventDTO event = TaskEventDTO.changed(task, "OPEN", "HIGH");
+
+        // Assert
+        assertEquals(TaskEventType.CLOSED, event.getType());
+        assertEquals(List.of(new TaskStatisticsDeltaDTO("OPEN", "HIGH", -1),
+                new TaskStatisticsDeltaDTO("CLOSED", "HIGH", 1)), event.getStatisticsDelta());
+    }
+
+    private void runDrains() {
+        while (!pendingDrains.isEmpty()) {
+            pendingDrains.poll().run();
+        }
+    }
+
+    /**
+     * Records what would be written instead of writing to a response.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<TaskEventDTO> events = new ArrayList<>();
+        private int heartbeats;
+        private boolean failing;
+        private volatile CountDownLatch stalled;
+        private volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            if (stalled != null) {
+                // A client that stopped reading: the write blocks until the test lets it go
+                try {
+                    stalled.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IOException("Connection reset");
+            }
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof TaskEventDTO event) {
+                    events.add(event);
+                } else if (part.getData().toString().startsWith(":heartbeat")) {
+                    heartbeats++;
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        private List<TaskEventType> types() {
+            return events.stream().map(TaskEventDTO::getType).toList();
+        }
+    }
+}
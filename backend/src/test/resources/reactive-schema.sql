@@ -0,0 +1,26 @@
+-- H2 version of the tables the reactive read API queries; in production the servlet application owns the schema
+CREATE TABLE IF NOT EXISTS priority_types (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    type VARCHAR(50) NOT NULL UNIQUE
+);
+
+CREATE TABLE IF NOT EXISTS task_status_types (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    type VARCHAR(50) NOT NULL UNIQUE
+);
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id BIGINT PRIMARY KEY,
+    task_title VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    create_date TIMESTAMP NOT NULL,
+    last_status_change_date TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    priority_id BIGINT NOT NULL REFERENCES priority_types(id),
+    task_status_id BIGINT NOT NULL REFERENCES task_status_types(id)
+);
+
+MERGE INTO priority_types (id, type) KEY (id) VALUES (1, 'HIGH'), (2, 'MEDIUM'), (3, 'LOW');
+
+MERGE INTO task_status_types (id, type) KEY (id)
+    VALUES (1, 'OPEN'), (2, 'IN_PROGRESS'), (3, 'HOLD'), (4, 'DONE'), (5, 'CLOSED');
@@ -13,6 +13,7 @@ import { AppLayout } from '@/components/layout/AppLayout';
 import { Dashboard } from '@/pages/Dashboard';
 import { Tasks } from '@/pages/Tasks';
 import { useUIStore } from '@/stores/uiStore';
+import { useTaskEvents } from '@/hooks/useTasks';
 import { CACHE_TIME, STALE_TIME } from '@/constants/api';
 
 // Create a client
@@ -34,6 +35,9 @@ const AppContent: React.FC = () => {
   const { themeMode } = useUIStore();
   const prefersDarkMode = useMediaQuery('(prefers-color-scheme: dark)');
 
+  // Refresh task data when the server reports a change
+  useTaskEvents();
+
   // Determine the actual theme to use
   const isDarkMode = React.useMemo(() => {
     if (themeMode === 'system') {
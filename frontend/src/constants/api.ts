@@ -13,6 +13,7 @@ export const API_ENDPOINTS = {
   TASKS_SEARCH: '/tasks/search',
   TASKS_FILTER: '/tasks/filter',
   TASKS_STATISTICS: '/tasks/statistics',
+  TASKS_STREAM: '/tasks/stream',
 
   // Reference data
   PRIORITY_TYPES: '/priority-types',
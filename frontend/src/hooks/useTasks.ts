@@ -8,10 +8,12 @@ import {
   useQueryClient,
   keepPreviousData,
 } from '@tanstack/react-query';
+import { useEffect } from 'react';
 import toast from 'react-hot-toast';
 import { TaskService } from '@/services/taskService';
 import { ReferenceDataService } from '@/services/referenceDataService';
-import { QUERY_KEYS, CACHE_TIME, STALE_TIME } from '@/constants/api';
+import { API_BASE_URL, API_ENDPOINTS, QUERY_KEYS, CACHE_TIME, STALE_TIME } from '@/constants/api';
+import { applyStatisticsDelta } from '@/utils/helpers';
 import type {
   TaskResponseDTO,
   TaskCreateRequestDTO,
@@ -19,6 +21,7 @@ import type {
   TaskFilters,
   PageResponse,
   TaskStatisticsResponseDTO,
+  TaskEventDTO,
   PriorityTypeResponseDTO,
   TaskStatusTypeResponseDTO,
 } from '@/types/api';
@@ -59,10 +62,90 @@ export const useTaskStatistics = () => {
     queryFn: () => TaskService.getTaskStatistics(),
     staleTime: STALE_TIME.SHORT,
     gcTime: CACHE_TIME.SHORT,
-    refetchInterval: 30000, // Refetch every 30 seconds
   });
 };
 
+// List refetches triggered by events are batched into one per window, spread a little so clients don't all hit at once
+const LIST_REFRESH_DELAY_MS = 2000;
+const LIST_REFRESH_JITTER_MS = 1000;
+
+/**
+ * Hook that keeps task queries fresh from the server's event stream instead of polling.
+ * Statistics are patched in place from each event's statisticsDelta, and an updated task is replaced in the
+ * cached list pages that show it. Writes that add or remove list entries (created, closed, bulk) refetch the
+ * lists at most once per LIST_REFRESH_DELAY_MS; only a resync, sent on each (re)connect, refetches everything
+ * at once. EventSource reconnects on its own after a dropped connection.
+ */
+export const useTaskEvents = () => {
+  const queryClient = useQueryClient();
+
+  useEffect(() => {
+    if (typeof EventSource === 'undefined') {
+      return undefined;
+    }
+
+    const source = new EventSource(`${API_BASE_URL}${API_ENDPOINTS.TASKS_STREAM}`);
+    let listRefresh: ReturnType<typeof setTimeout> | undefined;
+
+    const refreshListsSoon = () => {
+      if (listRefresh === undefined) {
+        listRefresh = setTimeout(() => {
+          listRefresh = undefined;
+          queryClient.invalidateQueries({ queryKey: [QUERY_KEYS.TASKS] });
+        }, LIST_REFRESH_DELAY_MS + Math.random() * LIST_REFRESH_JITTER_MS);
+      }
+    };
+    const applyStatistics = ({ statisticsDelta }: TaskEventDTO) => {
+      if (statisticsDelta.length > 0) {
+        queryClient.setQueryData<TaskStatisticsResponseDTO>(
+          [QUERY_KEYS.TASK_STATISTICS],
+          statistics => statistics && applyStatisticsDelta(statistics, statisticsDelta)
+        );
+      }
+    };
+    const replaceTask = (task: TaskResponseDTO) => {
+      queryClient.setQueryData([QUERY_KEYS.TASK, task.id], task);
+      queryClient.setQueriesData<PageResponse<TaskResponseDTO>>(
+        { queryKey: [QUERY_KEYS.TASKS] },
+        page =>
+          page?.content.some(cached => cached.id === task.id)
+            ? {
+                ...page,
+                content: page.content.map(cached => (cached.id === task.id ? task : cached)),
+              }
+            : page
+      );
+    };
+
+    source.addEventListener('updated', (message: MessageEvent<string>) => {
+      const event = JSON.parse(message.data) as TaskEventDTO;
+      applyStatistics(event);
+      if (event.task) {
+        replaceTask(event.task);
+      }
+    });
+    ['created', 'closed', 'bulk'].forEach(type =>
+      source.addEventListener(type, (message: MessageEvent<string>) => {
+        const event = JSON.parse(message.data) as TaskEventDTO;
+        applyStatistics(event);
+        if (event.task) {
+          queryClient.setQueryData([QUERY_KEYS.TASK, event.task.id], event.task);
+        }
+        refreshListsSoon();
+      })
+    );
+    source.addEventListener('resync', () => {
+      queryClient.invalidateQueries({ queryKey: [QUERY_KEYS.TASKS] });
+      queryClient.invalidateQueries({ queryKey: [QUERY_KEYS.TASK_STATISTICS] });
+    });
+
+    return () => {
+      clearTimeout(listRefresh);
+      source.close();
+    };
+  }, [queryClient]);
+};
+
 /**
  * Hook for fetching priority types
  */
@@ -45,6 +45,19 @@ export interface TaskStatisticsResponseDTO {
   activeTasks: number;
 }
 
+export interface TaskStatisticsDeltaDTO {
+  taskStatus: string;
+  priority: string;
+  delta: number;
+}
+
+export interface TaskEventDTO {
+  type: 'CREATED' | 'UPDATED' | 'CLOSED' | 'BULK' | 'RESYNC';
+  task: TaskResponseDTO | null;
+  affected: number;
+  statisticsDelta: TaskStatisticsDeltaDTO[];
+}
+
 export interface PageResponse<T> {
   content: T[];
   totalElements: number;
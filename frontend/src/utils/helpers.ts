@@ -3,7 +3,13 @@
  */
 
 import { PRIORITY_COLORS, STATUS_COLORS } from '@/constants/ui';
-import type { TaskPriority, TaskStatus, ChartData } from '@/types/api';
+import type {
+  TaskPriority,
+  TaskStatus,
+  ChartData,
+  TaskStatisticsResponseDTO,
+  TaskStatisticsDeltaDTO,
+} from '@/types/api';
 
 /**
  * Format date string to readable format
@@ -71,6 +77,34 @@ export const getStatusColor = (status: TaskStatus): string => {
   return STATUS_COLORS[status] || STATUS_COLORS.OPEN;
 };
 
+const COMPLETED_STATUSES: string[] = ['DONE', 'CLOSED'];
+const ACTIVE_STATUSES: string[] = ['OPEN', 'IN_PROGRESS', 'HOLD'];
+
+/**
+ * Apply the cell changes of a task event to cached statistics, the same way the server aggregates them
+ */
+export const applyStatisticsDelta = (
+  statistics: TaskStatisticsResponseDTO,
+  deltas: TaskStatisticsDeltaDTO[]
+): TaskStatisticsResponseDTO => {
+  const tasksByStatus = { ...statistics.tasksByStatus };
+  const tasksByPriority = { ...statistics.tasksByPriority };
+  let { totalTasks, completedTasks, activeTasks } = statistics;
+
+  deltas.forEach(({ taskStatus, priority, delta }) => {
+    totalTasks += delta;
+    tasksByStatus[taskStatus] = (tasksByStatus[taskStatus] ?? 0) + delta;
+    tasksByPriority[priority] = (tasksByPriority[priority] ?? 0) + delta;
+    if (COMPLETED_STATUSES.includes(taskStatus)) {
+      completedTasks += delta;
+    } else if (ACTIVE_STATUSES.includes(taskStatus)) {
+      activeTasks += delta;
+    }
+  });
+
+  return { ...statistics, totalTasks, tasksByStatus, tasksByPriority, completedTasks, activeTasks };
+};
+
 /**
  * Debounce function
  */